@@ -0,0 +1,72 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.benchmarks;
+
+import javafx.geometry.Dimension2D;
+import javafx.scene.control.cell.ComboBoxListCell;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.panteleyev.fx.factories.ComboBoxFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code updateItem} of combo box cells created by {@link ComboBoxFactory}. Cells alternate between two items so each
+ * call changes the displayed text.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {FxPlatform.HEADLESS, FxPlatform.SOFTWARE})
+public class ComboBoxCellBenchmark {
+    public record Currency(String code, String symbol) {
+    }
+
+    private static final Currency USD = new Currency("USD", "$");
+    private static final Currency EUR = new Currency("EUR", "€");
+
+    private ComboBoxListCell<Currency> textCell;
+    private ComboBoxListCell<Currency> imageCell;
+    private boolean flip;
+
+    @Setup
+    public void setup() {
+        FxPlatform.start();
+        textCell = ComboBoxFactory.comboBoxListCell("-", Currency::code);
+        Image image = new WritableImage(16, 16);
+        imageCell = ComboBoxFactory.comboBoxListCell("-", Currency::code, _ -> image, new Dimension2D(16, 16));
+    }
+
+    @Benchmark
+    public ComboBoxListCell<Currency> updateText() {
+        flip = !flip;
+        textCell.updateItem(flip ? USD : EUR, false);
+        return textCell;
+    }
+
+    @Benchmark
+    public ComboBoxListCell<Currency> updateTextAndImage() {
+        flip = !flip;
+        imageCell.updateItem(flip ? USD : EUR, false);
+        return imageCell;
+    }
+
+    @Benchmark
+    public ComboBoxListCell<Currency> updateEmpty() {
+        flip = !flip;
+        textCell.updateItem(flip ? USD : null, !flip);
+        return textCell;
+    }
+}
@@ -0,0 +1,214 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files and reports regressions.
+ * <p>
+ * Usage: {@code java -cp benchmarks.jar org.panteleyev.fx.benchmarks.Compare baseline.json current.json [threshold]}
+ * <p>
+ * Benchmarks are matched by name, mode and parameters. A benchmark regresses when its score is worse than the baseline
+ * by more than threshold percent, 10 by default, and the difference exceeds the sum of both score errors. Exit code
+ * is 1 if any benchmark regressed.
+ */
+public final class Compare {
+    private record Score(String unit, boolean higherIsBetter, double score, double error) {
+    }
+
+    private Compare() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 3) {
+            System.err.println("Usage: Compare <baseline.json> <current.json> [threshold percent]");
+            System.exit(2);
+        }
+        var baseline = read(Path.of(args[0]));
+        var current = read(Path.of(args[1]));
+        var threshold = args.length == 3 ? Double.parseDouble(args[2]) : 10.0;
+
+        var regressions = 0;
+        System.out.printf("%-90s %14s %14s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+        for (var entry : current.entrySet()) {
+            var now = entry.getValue();
+            var before = baseline.get(entry.getKey());
+            if (before == null || !before.unit().equals(now.unit())) {
+                System.out.printf("%-90s %14s %14.3f %9s%n", entry.getKey(), "-", now.score(), "new");
+                continue;
+            }
+
+            var change = (now.score() - before.score()) / before.score() * 100;
+            var worse = now.higherIsBetter() ? -change : change;
+            var significant = Math.abs(now.score() - before.score()) > before.error() + now.error();
+            var regressed = worse > threshold && significant;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-90s %14.3f %14.3f %+8.1f%%%s%n", entry.getKey(), before.score(), now.score(),
+                    change, regressed ? " REGRESSION" : "");
+        }
+
+        for (var key : baseline.keySet()) {
+            if (!current.containsKey(key)) {
+                System.out.printf("%-90s %14.3f %14s %9s%n", key, baseline.get(key).score(), "-", "missing");
+            }
+        }
+
+        if (regressions > 0) {
+            System.out.printf("%d benchmark(s) regressed by more than %.1f%%%n", regressions, threshold);
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Score> read(Path path) throws IOException {
+        var result = new LinkedHashMap<String, Score>();
+        var json = new JsonReader(Files.readString(path)).read();
+        for (var item : (List<?>) json) {
+            var benchmark = (Map<?, ?>) item;
+            var mode = (String) benchmark.get("mode");
+            var key = new StringBuilder((String) benchmark.get("benchmark")).append(" [").append(mode).append(']');
+            if (benchmark.get("params") instanceof Map<?, ?> params) {
+                new TreeMap<>(params).forEach((name, value) -> key.append(' ').append(name).append('=').append(value));
+            }
+
+            var metric = (Map<?, ?>) benchmark.get("primaryMetric");
+            var error = metric.get("scoreError") instanceof Double d && !d.isNaN() ? d : 0.0;
+            result.put(key.toString(), new Score((String) metric.get("scoreUnit"), mode.equals("thrpt"),
+                    (Double) metric.get("score"), error));
+        }
+        return result;
+    }
+
+    /**
+     * Minimal reader of JMH JSON output. Numbers are read as {@link Double}, {@code "NaN"} strings used by JMH for
+     * missing errors are read as {@link Double#NaN}.
+     */
+    private static final class JsonReader {
+        private final String text;
+        private int pos = 0;
+
+        JsonReader(String text) {
+            this.text = text;
+        }
+
+        Object read() {
+            skipWhitespace();
+            var ch = text.charAt(pos);
+            return switch (ch) {
+                case '{' -> readObject();
+                case '[' -> readArray();
+                case '"' -> {
+                    var s = readString();
+                    yield s.equals("NaN") ? Double.NaN : s;
+                }
+                case 't' -> literal("true", Boolean.TRUE);
+                case 'f' -> literal("false", Boolean.FALSE);
+                case 'n' -> literal("null", null);
+                default -> readNumber();
+            };
+        }
+
+        private Map<String, Object> readObject() {
+            var map = new LinkedHashMap<String, Object>();
+            pos++;
+            skipWhitespace();
+            if (text.charAt(pos) == '}') {
+                pos++;
+                return map;
+            }
+            while (true) {
+                skipWhitespace();
+                var key = readString();
+                skipWhitespace();
+                expect(':');
+                map.put(key, read());
+                skipWhitespace();
+                if (text.charAt(pos++) == '}') {
+                    return map;
+                }
+            }
+        }
+
+        private List<Object> readArray() {
+            var list = new ArrayList<>();
+            pos++;
+            skipWhitespace();
+            if (text.charAt(pos) == ']') {
+                pos++;
+                return list;
+            }
+            while (true) {
+                list.add(read());
+                skipWhitespace();
+                if (text.charAt(pos++) == ']') {
+                    return list;
+                }
+            }
+        }
+
+        private String readString() {
+            expect('"');
+            var value = new StringBuilder();
+            while (true) {
+                var ch = text.charAt(pos++);
+                if (ch == '"') {
+                    return value.toString();
+                }
+                if (ch == '\\') {
+                    var escaped = text.charAt(pos++);
+                    switch (escaped) {
+                        case 'n' -> value.append('\n');
+                        case 't' -> value.append('\t');
+                        case 'r' -> value.append('\r');
+                        case 'b' -> value.append('\b');
+                        case 'f' -> value.append('\f');
+                        case 'u' -> {
+                            value.append((char) Integer.parseInt(text.substring(pos, pos + 4), 16));
+                            pos += 4;
+                        }
+                        default -> value.append(escaped);
+                    }
+                } else {
+                    value.append(ch);
+                }
+            }
+        }
+
+        private Double readNumber() {
+            var start = pos;
+            while (pos < text.length() && "+-0123456789.eE".indexOf(text.charAt(pos)) >= 0) {
+                pos++;
+            }
+            return Double.valueOf(text.substring(start, pos));
+        }
+
+        private Object literal(String literal, Object value) {
+            if (!text.startsWith(literal, pos)) {
+                throw new IllegalArgumentException("Unexpected character at " + pos);
+            }
+            pos += literal.length();
+            return value;
+        }
+
+        private void expect(char ch) {
+            if (text.charAt(pos++) != ch) {
+                throw new IllegalArgumentException("Expected '" + ch + "' at " + (pos - 1));
+            }
+        }
+
+        private void skipWhitespace() {
+            while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+                pos++;
+            }
+        }
+    }
+}
@@ -0,0 +1,473 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.benchmarks;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.Control;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.control.TreeTableColumn;
+import javafx.scene.control.TreeTableView;
+import javafx.scene.control.skin.VirtualFlow;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+import org.panteleyev.fx.PredicateProperty;
+import org.panteleyev.fx.factories.TableFactory;
+import org.panteleyev.fx.factories.TreeTableFactory;
+import org.panteleyev.fx.table.ColumnFilter;
+import org.panteleyev.fx.table.ColumnFilters;
+import org.panteleyev.fx.table.TableMetrics;
+import org.panteleyev.fx.tree.FilteredTreeItem;
+import org.panteleyev.fx.tree.TreeBuilder;
+import org.panteleyev.fx.tree.TreeExpansion;
+import org.panteleyev.fx.tree.TreeTableSorter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Measures frame times of scripted scenarios on large tables built with the library factories.
+ * <p>
+ * Usage: {@code java -cp benchmarks.jar org.panteleyev.fx.benchmarks.FrameTimeHarness [--rows N] [--columns N]
+ * [--nodes N] [--warmup N] [--smoke] [--out report.json]}
+ * <p>
+ * Scenarios:
+ * <ul>
+ *     <li>{@code table}: {@link TableView} of 500,000 rows and 50 {@link TableFactory} columns, items are filtered by
+ *     {@link ColumnFilters} and sorted by the table comparator;</li>
+ *     <li>{@code tree}: {@link TreeTableView} of 100,000 expanded nodes built by {@link TreeBuilder}, filtered by
+ *     {@link FilteredTreeItem} and sorted by {@link TreeTableSorter}.</li>
+ * </ul>
+ * Each scenario scrolls, jumps to random rows, sorts, filters and resizes the window. Every action is run for
+ * the specified number of warmup rounds and then measured once. For each action the report contains p50, p90, p99 and
+ * maximum of the pulse times measured by {@link PulseRecorder}, allocation rate of all threads, bytes allocated by
+ * the JavaFX application thread per pulse, and garbage collector pauses.
+ * <p>
+ * Headless glass platform and software rendering are used unless other values of {@code glass.platform} and
+ * {@code prism.order} system properties are specified, so the harness runs on Linux without display.
+ * <p>
+ * Option {@code --smoke} checks the harness itself: scenes of {@value #SMOKE_ROWS} rows and nodes are built without
+ * warmup, each action runs for at most {@value #SMOKE_PULSES} pulses, and the harness exits with status 1 if an action
+ * recorded no pulses or the JavaFX application thread threw an exception. Smoke results are not measurements.
+ */
+public final class FrameTimeHarness {
+    private static final double WIDTH = 1600;
+    private static final double HEIGHT = 1000;
+
+    private static final int TREE_COLUMNS = 10;
+    private static final int TREE_FANOUT = 8;
+
+    private static final int SCROLL_PULSES = 300;
+    private static final double SCROLL_PIXELS = 40;
+    private static final int JUMP_PULSES = 100;
+    private static final int SORT_PULSES = 12;
+    private static final int FILTER_PULSES = 30;
+    private static final int EXPAND_PULSES = 6;
+    private static final int RESIZE_PULSES = 80;
+
+    private static final int SMOKE_ROWS = 1_000;
+    private static final int SMOKE_COLUMNS = 6;
+    private static final int SMOKE_PULSES = 5;
+
+    private static final List<String> CATEGORIES =
+            List.of("Assets", "Liabilities", "Income", "Expenses", "Equity", "Cash", "Credit", "Debit");
+
+    private record Options(int rows, int columns, int nodes, int warmup, boolean smoke, Path out) {
+        static Options parse(String[] args) {
+            var smoke = List.of(args).contains("--smoke");
+            var rows = smoke ? SMOKE_ROWS : 500_000;
+            var columns = smoke ? SMOKE_COLUMNS : 50;
+            var nodes = smoke ? SMOKE_ROWS : 100_000;
+            var warmup = smoke ? 0 : 1;
+            Path out = null;
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals("--smoke")) {
+                    continue;
+                }
+                if (i + 1 == args.length) {
+                    throw new IllegalArgumentException("Missing value of " + args[i]);
+                }
+                var value = args[++i];
+                switch (args[i - 1]) {
+                    case "--rows" -> rows = Integer.parseInt(value);
+                    case "--columns" -> columns = Math.max(4, Integer.parseInt(value));
+                    case "--nodes" -> nodes = Integer.parseInt(value);
+                    case "--warmup" -> warmup = Integer.parseInt(value);
+                    case "--out" -> out = Path.of(value);
+                    default -> throw new IllegalArgumentException("Unknown option " + args[i - 1]);
+                }
+            }
+            return new Options(rows, columns, nodes, warmup, smoke, out);
+        }
+
+        int pulses(int pulses) {
+            return smoke ? Math.min(pulses, SMOKE_PULSES) : pulses;
+        }
+    }
+
+    private record Scenario(String name, Parent root, List<PulseRecorder.Action> actions) {
+    }
+
+    private record Report(
+            String scenario,
+            String action,
+            int pulses,
+            double p50,
+            double p90,
+            double p99,
+            double max,
+            double allocationRate,
+            double fxBytesPerPulse,
+            int gcPauses,
+            long gcPauseTime,
+            long gcMaxPause
+    ) {
+    }
+
+    private record Row(int id, String name, String category) {
+        double value(int column) {
+            return ((id * 7_919L + column * 104_729L) % 100_000) / 100.0;
+        }
+    }
+
+    private record Node(int id, Integer parent, String name) {
+        double value(int column) {
+            return ((id * 7_919L + column * 104_729L) % 100_000) / 100.0;
+        }
+    }
+
+    private FrameTimeHarness() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException ex) {
+            System.err.println(ex.getMessage());
+            System.err.println("Usage: FrameTimeHarness [--rows N] [--columns N] [--nodes N] [--warmup N] [--smoke] "
+                    + "[--out report.json]");
+            System.exit(2);
+            return;
+        }
+
+        defaultProperty("glass.platform", "Headless");
+        defaultProperty("prism.order", "sw");
+        // Exceptions thrown during layout do not reach the recorder
+        var failure = new AtomicReference<Throwable>();
+        if (options.smoke()) {
+            var handler = Thread.getDefaultUncaughtExceptionHandler();
+            Thread.setDefaultUncaughtExceptionHandler((thread, ex) -> {
+                failure.compareAndSet(null, ex);
+                if (handler != null) {
+                    handler.uncaughtException(thread, ex);
+                } else {
+                    ex.printStackTrace();
+                }
+            });
+        }
+        FxPlatform.start();
+        var gcPauses = GcPauses.start();
+
+        var stage = FxPlatform.call(() -> {
+            var s = new Stage();
+            s.setScene(new Scene(new StackPane(), WIDTH, HEIGHT));
+            s.show();
+            return s;
+        });
+
+        var reports = new ArrayList<Report>();
+        try {
+            for (var name : List.of("table", "tree")) {
+                System.out.println("Building " + name + " scenario");
+                var scenario = FxPlatform.call(() -> name.equals("table")
+                        ? tableScenario(stage, options)
+                        : treeScenario(stage, options));
+                FxPlatform.run(() -> stage.getScene().setRoot(scenario.root()));
+
+                for (int round = 0; round <= options.warmup(); round++) {
+                    System.out.println(round < options.warmup() ? "Warmup " + (round + 1) : "Measurement");
+                    var results = FxPlatform.call(() -> PulseRecorder.record(stage.getScene(), scenario.actions()))
+                            .join();
+                    if (round == options.warmup()) {
+                        for (var result : results) {
+                            reports.add(report(name, result, gcPauses));
+                        }
+                    }
+                }
+                FxPlatform.run(() -> stage.getScene().setRoot(new StackPane()));
+            }
+        } finally {
+            FxPlatform.run(stage::hide);
+            Platform.exit();
+        }
+
+        print(reports);
+        if (options.out() != null) {
+            Files.writeString(options.out(), toJson(options, reports));
+        }
+
+        if (options.smoke()) {
+            var empty = reports.stream().filter(r -> r.pulses() == 0).map(r -> r.scenario() + " " + r.action())
+                    .toList();
+            if (failure.get() != null || !empty.isEmpty()) {
+                System.err.println("Smoke run failed: " + (failure.get() != null
+                        ? failure.get() : "no pulses recorded by " + String.join(", ", empty)));
+                System.exit(1);
+            }
+            System.out.println("Smoke run passed");
+        }
+    }
+
+    //
+    // Scenarios
+    //
+
+    private static Scenario tableScenario(Stage stage, Options options) {
+        var rows = IntStream.range(0, options.rows())
+                .mapToObj(i -> new Row(i, "Row " + i, CATEGORIES.get(i % CATEGORIES.size())))
+                .toList();
+
+        var tableView = new TableView<Row>();
+
+        var idColumn = TableFactory.<Row, Integer>tableValueColumn("Id");
+        idColumn.valueConverter(Row::id);
+        var nameColumn = TableFactory.<Row>tableStringColumn("Name");
+        nameColumn.valueConverter(Row::name);
+        var categoryColumn = TableFactory.<Row>tableStringColumn("Category");
+        categoryColumn.valueConverter(Row::category);
+        tableView.getColumns().addAll(List.of(idColumn, nameColumn, categoryColumn));
+
+        var valueColumns = new ArrayList<TableFactory.TableValueColumn<Row, Double>>();
+        for (int i = 0; i < options.columns() - 3; i++) {
+            var index = i;
+            var column = TableFactory.<Row, Double>tableValueColumn("Value " + i);
+            column.valueConverter(row -> row.value(index));
+            valueColumns.add(column);
+        }
+        tableView.getColumns().addAll(valueColumns);
+
+        var filtered = new FilteredList<>(FXCollections.observableArrayList(rows));
+        var sorted = new SortedList<>(filtered);
+        sorted.comparatorProperty().bind(tableView.comparatorProperty());
+        tableView.setItems(sorted);
+        filtered.predicateProperty().bind(ColumnFilters.columnFilters(tableView).predicateProperty());
+        TableMetrics.instrument(tableView);
+
+        var valueColumn = valueColumns.getFirst();
+        var sortColumns = List.<TableColumn<Row, ?>>of(nameColumn, valueColumn, categoryColumn);
+
+        return new Scenario("table", tableView, List.of(
+                scroll(tableView, tableView::scrollTo, options),
+                jump(tableView::scrollTo, () -> tableView.getItems().size(), options),
+                new PulseRecorder.Action("sort", options.pulses(SORT_PULSES), pulse -> {
+                    var column = sortColumns.get(pulse / 2 % sortColumns.size());
+                    column.setSortType(pulse % 2 == 0
+                            ? TableColumn.SortType.ASCENDING : TableColumn.SortType.DESCENDING);
+                    tableView.getSortOrder().setAll(List.of(column));
+                }),
+                new PulseRecorder.Action("filter", options.pulses(FILTER_PULSES), pulse -> {
+                    switch (pulse % 3) {
+                        case 0 -> nameColumn.columnFilterProperty()
+                                .set(ColumnFilter.contains(Integer.toString(pulse)));
+                        case 1 -> valueColumn.columnFilterProperty()
+                                .set(ColumnFilter.range(pulse * 10.0, pulse * 20.0));
+                        default -> {
+                            nameColumn.columnFilterProperty().set(null);
+                            valueColumn.columnFilterProperty().set(null);
+                        }
+                    }
+                }),
+                resize(stage, options)
+        ));
+    }
+
+    private static Scenario treeScenario(Stage stage, Options options) {
+        // Complete tree: children of node p are (p + 1) * FANOUT ... (p + 1) * FANOUT + FANOUT - 1
+        var nodes = IntStream.range(0, options.nodes())
+                .mapToObj(i -> new Node(i, i < TREE_FANOUT ? null : i / TREE_FANOUT - 1, "Node " + i))
+                .toList();
+
+        var source = TreeBuilder.<Integer, Node>treeBuilder(Node::id, Node::parent).build(nodes);
+        TreeExpansion.setExpanded(source, true, Integer.MAX_VALUE);
+        var predicate = new PredicateProperty<Node>();
+
+        var treeTableView = new TreeTableView<Node>();
+        treeTableView.setShowRoot(false);
+        treeTableView.setRoot(FilteredTreeItem.filteredTreeItem(source, predicate));
+
+        var nameColumn = TreeTableFactory.<Node>treeTableStringColumn("Name");
+        nameColumn.valueConverter(Node::name);
+        var idColumn = TreeTableFactory.<Node, Integer>treeTableValueColumn("Id");
+        idColumn.valueConverter(Node::id);
+        treeTableView.getColumns().addAll(List.of(nameColumn, idColumn));
+
+        var valueColumns = new ArrayList<TreeTableFactory.TreeTableValueColumn<Node, Double>>();
+        for (int i = 0; i < TREE_COLUMNS - 2; i++) {
+            var index = i;
+            var column = TreeTableFactory.<Node, Double>treeTableValueColumn("Value " + i);
+            column.valueConverter(node -> node.value(index));
+            valueColumns.add(column);
+        }
+        treeTableView.getColumns().addAll(valueColumns);
+
+        TreeTableSorter.treeTableSorter(treeTableView);
+        TableMetrics.instrument(treeTableView);
+
+        var sortColumns = List.<TreeTableColumn<Node, ?>>of(nameColumn, valueColumns.getFirst());
+
+        return new Scenario("tree", treeTableView, List.of(
+                scroll(treeTableView, treeTableView::scrollTo, options),
+                jump(treeTableView::scrollTo, treeTableView::getExpandedItemCount, options),
+                new PulseRecorder.Action("sort", options.pulses(SORT_PULSES), pulse -> {
+                    var column = sortColumns.get(pulse / 2 % sortColumns.size());
+                    column.setSortType(pulse % 2 == 0
+                            ? TreeTableColumn.SortType.ASCENDING : TreeTableColumn.SortType.DESCENDING);
+                    treeTableView.getSortOrder().setAll(List.of(column));
+                }),
+                new PulseRecorder.Action("filter", options.pulses(FILTER_PULSES), pulse -> {
+                    switch (pulse % 3) {
+                        case 0 -> {
+                            var text = Integer.toString(pulse);
+                            predicate.set(node -> node.name().contains(text));
+                        }
+                        case 1 -> {
+                            var min = pulse * 10.0;
+                            predicate.set(node -> node.value(0) >= min && node.value(0) <= min * 2);
+                        }
+                        default -> predicate.reset();
+                    }
+                }),
+                new PulseRecorder.Action("expand", options.pulses(EXPAND_PULSES), pulse ->
+                        TreeExpansion.setExpanded(source, pulse % 2 == 1, Integer.MAX_VALUE)),
+                resize(stage, options)
+        ));
+    }
+
+    //
+    // Actions
+    //
+
+    private static PulseRecorder.Action scroll(Control view, IntConsumer scrollTo, Options options) {
+        return new PulseRecorder.Action("scroll", options.pulses(SCROLL_PULSES), pulse -> {
+            if (pulse == 0) {
+                scrollTo.accept(0);
+            } else if (view.lookup(".virtual-flow") instanceof VirtualFlow<?> flow) {
+                flow.scrollPixels(SCROLL_PIXELS);
+            }
+        });
+    }
+
+    private static PulseRecorder.Action jump(IntConsumer scrollTo, IntSupplier size, Options options) {
+        return new PulseRecorder.Action("jump", options.pulses(JUMP_PULSES), pulse -> {
+            var count = size.getAsInt();
+            if (count > 0) {
+                scrollTo.accept((int) ((pulse + 1) * 7_919L * 104_729L % count));
+            }
+        });
+    }
+
+    private static PulseRecorder.Action resize(Stage stage, Options options) {
+        // Triangle wave between WIDTH - 400 and WIDTH
+        return new PulseRecorder.Action("resize", options.pulses(RESIZE_PULSES), pulse ->
+                stage.setWidth(WIDTH - 400 + Math.abs(pulse % 40 - 20) * 20));
+    }
+
+    //
+    // Report
+    //
+
+    private static Report report(String scenario, PulseRecorder.Result result, GcPauses gcPauses) {
+        var pulses = result.pulseNanos().clone();
+        Arrays.sort(pulses);
+        var seconds = result.elapsedNanos() / 1e9;
+        var pauses = gcPauses.between(result.startUptime(), result.endUptime());
+        return new Report(
+                scenario,
+                result.name(),
+                pulses.length,
+                percentile(pulses, 0.5),
+                percentile(pulses, 0.9),
+                percentile(pulses, 0.99),
+                pulses.length == 0 ? 0 : pulses[pulses.length - 1] / 1e6,
+                result.allocatedBytes() < 0 ? -1 : result.allocatedBytes() / seconds / (1024 * 1024),
+                pulses.length == 0 ? 0 : (double) result.fxAllocatedBytes() / pulses.length,
+                pauses.size(),
+                pauses.stream().mapToLong(GcPauses.Pause::duration).sum(),
+                pauses.stream().mapToLong(GcPauses.Pause::duration).max().orElse(0)
+        );
+    }
+
+    /**
+     * Nearest-rank percentile in milliseconds.
+     */
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        var rank = (int) Math.ceil(p * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1e6;
+    }
+
+    private static void print(List<Report> reports) {
+        System.out.printf("%-8s %-8s %7s %9s %9s %9s %9s %11s %12s %5s %9s %9s%n", "Scenario", "Action", "Pulses",
+                "p50, ms", "p90, ms", "p99, ms", "max, ms", "Alloc, MB/s", "FX KB/pulse", "GCs", "GC, ms",
+                "Max GC");
+        for (var r : reports) {
+            System.out.printf("%-8s %-8s %7d %9.2f %9.2f %9.2f %9.2f %11.1f %12.1f %5d %9d %9d%n", r.scenario(),
+                    r.action(), r.pulses(), r.p50(), r.p90(), r.p99(), r.max(), r.allocationRate(),
+                    r.fxBytesPerPulse() / 1024, r.gcPauses(), r.gcPauseTime(), r.gcMaxPause());
+        }
+    }
+
+    private static String toJson(Options options, List<Report> reports) {
+        var collectors = ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .map(gc -> quote(gc.getName()))
+                .collect(Collectors.joining(", ", "[", "]"));
+        var json = new StringBuilder()
+                .append("{\n")
+                .append("  \"jdk\": ").append(quote(System.getProperty("java.runtime.version"))).append(",\n")
+                .append("  \"javafx\": ").append(quote(System.getProperty("javafx.runtime.version"))).append(",\n")
+                .append("  \"collectors\": ").append(collectors).append(",\n")
+                .append("  \"rows\": ").append(options.rows()).append(",\n")
+                .append("  \"columns\": ").append(options.columns()).append(",\n")
+                .append("  \"nodes\": ").append(options.nodes()).append(",\n")
+                .append("  \"results\": [");
+        for (int i = 0; i < reports.size(); i++) {
+            var r = reports.get(i);
+            json.append(i == 0 ? "\n" : ",\n").append(String.format(Locale.ROOT,
+                    "    {\"scenario\": %s, \"action\": %s, \"pulses\": %d, \"p50Ms\": %.3f, \"p90Ms\": %.3f, "
+                            + "\"p99Ms\": %.3f, \"maxMs\": %.3f, \"allocationMBPerSecond\": %.3f, "
+                            + "\"fxBytesPerPulse\": %.0f, \"gcPauses\": %d, \"gcPauseMs\": %d, \"gcMaxPauseMs\": %d}",
+                    quote(r.scenario()), quote(r.action()), r.pulses(), r.p50(), r.p90(), r.p99(), r.max(),
+                    r.allocationRate(), r.fxBytesPerPulse(), r.gcPauses(), r.gcPauseTime(), r.gcMaxPause()));
+        }
+        return json.append("\n  ]\n}\n").toString();
+    }
+
+    private static String quote(String value) {
+        return value == null ? "null" : '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+
+    private static void defaultProperty(String name, String value) {
+        if (System.getProperty(name) == null) {
+            System.setProperty(name, value);
+        }
+    }
+}
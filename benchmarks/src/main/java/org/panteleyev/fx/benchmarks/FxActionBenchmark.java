@@ -0,0 +1,76 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.benchmarks;
+
+import javafx.scene.control.Button;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.Menu;
+import javafx.scene.control.MenuItem;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyCodeCombination;
+import javafx.scene.input.KeyCombination;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.panteleyev.fx.FxAction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.panteleyev.fx.FxAction.fxAction;
+
+/**
+ * Creation of menu items, buttons and menus from {@link FxAction} descriptors.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {FxPlatform.HEADLESS, FxPlatform.SOFTWARE})
+public class FxActionBenchmark {
+    private static final int MENU_SIZE = 20;
+
+    private FxAction action;
+    private List<FxAction> actions;
+
+    @Setup
+    public void setup() {
+        FxPlatform.start();
+        action = fxAction("Open")
+                .accelerator(new KeyCodeCombination(KeyCode.O, KeyCombination.SHORTCUT_DOWN))
+                .onAction(_ -> {});
+        actions = new ArrayList<>(MENU_SIZE);
+        for (int i = 0; i < MENU_SIZE; i++) {
+            actions.add(i % 5 == 4 ? FxAction.ACTION_SEPARATOR : fxAction("Action " + i).onAction(_ -> {}));
+        }
+    }
+
+    @Benchmark
+    public MenuItem createMenuItem() {
+        return action.createMenuItem();
+    }
+
+    @Benchmark
+    public Button createButton() {
+        return action.createButton();
+    }
+
+    @Benchmark
+    public Menu createMenu() {
+        return FxAction.createMenu("File", actions);
+    }
+
+    @Benchmark
+    public ContextMenu createContextMenu() {
+        return FxAction.createContextMenu(actions);
+    }
+}
@@ -0,0 +1,74 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.benchmarks;
+
+import javafx.application.Platform;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Starts JavaFX toolkit in benchmark forks. Benchmarks are forked with the headless glass platform and software
+ * rendering, so they run on machines without display.
+ */
+final class FxPlatform {
+    /**
+     * Selects headless glass platform.
+     */
+    static final String HEADLESS = "-Dglass.platform=Headless";
+
+    /**
+     * Selects software rendering pipeline.
+     */
+    static final String SOFTWARE = "-Dprism.order=sw";
+
+    private static boolean started = false;
+
+    private FxPlatform() {
+    }
+
+    /**
+     * Starts the toolkit once per fork.
+     */
+    static synchronized void start() {
+        if (started) {
+            return;
+        }
+        var latch = new CountDownLatch(1);
+        Platform.startup(latch::countDown);
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+        Platform.setImplicitExit(false);
+        started = true;
+    }
+
+    /**
+     * Runs task on the JavaFX application thread and waits for the result.
+     */
+    static <T> T call(Callable<T> task) {
+        var future = new CompletableFuture<T>();
+        Platform.runLater(() -> {
+            try {
+                future.complete(task.call());
+            } catch (Throwable ex) {
+                future.completeExceptionally(ex);
+            }
+        });
+        return future.join();
+    }
+
+    /**
+     * Runs task on the JavaFX application thread and waits for completion.
+     */
+    static void run(Runnable task) {
+        call(() -> {
+            task.run();
+            return null;
+        });
+    }
+}
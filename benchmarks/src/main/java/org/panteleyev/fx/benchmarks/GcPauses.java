@@ -0,0 +1,82 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.benchmarks;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects garbage collector pauses reported by collector notifications.
+ * <p>
+ * Only collectors that report pauses are observed. Collectors that report concurrent cycles, e.g.
+ * {@code G1 Concurrent GC} or {@code ZGC Major Cycles}, are ignored as their cycles do not stop application threads.
+ */
+final class GcPauses {
+    /**
+     * Collector pause.
+     *
+     * @param collector collector name
+     * @param start     JVM uptime in milliseconds when the pause started
+     * @param duration  pause duration in milliseconds
+     */
+    record Pause(String collector, long start, long duration) {
+    }
+
+    // Guarded by itself
+    private final List<Pause> pauses = new ArrayList<>();
+
+    private final NotificationListener listener = (notification, _) -> {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            return;
+        }
+        var info = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        var gcInfo = info.getGcInfo();
+        synchronized (pauses) {
+            pauses.add(new Pause(info.getGcName(), gcInfo.getStartTime(), gcInfo.getDuration()));
+        }
+    };
+
+    private GcPauses() {
+    }
+
+    /**
+     * Starts collecting pauses.
+     *
+     * @return pauses
+     */
+    static GcPauses start() {
+        var gcPauses = new GcPauses();
+        for (var collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (collector instanceof NotificationEmitter emitter && isPause(collector.getName())) {
+                emitter.addNotificationListener(gcPauses.listener, null, null);
+            }
+        }
+        return gcPauses;
+    }
+
+    /**
+     * Returns pauses started in the interval. Notifications are delivered asynchronously, so the latest pauses may
+     * not be reported yet.
+     *
+     * @param from JVM uptime in milliseconds, inclusive
+     * @param to   JVM uptime in milliseconds, inclusive
+     * @return pauses
+     */
+    List<Pause> between(long from, long to) {
+        synchronized (pauses) {
+            return pauses.stream()
+                    .filter(pause -> pause.start() >= from && pause.start() <= to)
+                    .toList();
+        }
+    }
+
+    private static boolean isPause(String name) {
+        return !name.contains("Concurrent") && !name.endsWith("Cycles");
+    }
+}
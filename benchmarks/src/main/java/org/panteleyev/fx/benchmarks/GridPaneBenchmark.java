@@ -0,0 +1,68 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.benchmarks;
+
+import javafx.scene.control.Label;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.GridPane;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.panteleyev.fx.factories.grid.GridRow;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.panteleyev.fx.factories.grid.ColumnConstraintsFactory.columnConstraints;
+import static org.panteleyev.fx.factories.grid.GridCell.gridCell;
+import static org.panteleyev.fx.factories.grid.GridPaneFactory.gridPane;
+import static org.panteleyev.fx.factories.grid.GridRow.gridRow;
+
+/**
+ * Building large forms with {@link org.panteleyev.fx.factories.grid.GridPaneFactory}. Nodes are created before each
+ * invocation, so only grid construction is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {FxPlatform.HEADLESS, FxPlatform.SOFTWARE})
+public class GridPaneBenchmark {
+    @Param({"50", "500"})
+    public int rows;
+
+    private List<GridRow> gridRows;
+
+    @Setup(Level.Trial)
+    public void startPlatform() {
+        FxPlatform.start();
+    }
+
+    @Setup(Level.Invocation)
+    public void createNodes() {
+        gridRows = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            if (i % 10 == 9) {
+                gridRows.add(gridRow(gridCell(new Label("Section " + i), 3, 1)));
+            } else {
+                gridRows.add(gridRow(new Label("Field " + i), new TextField(), new Label("Hint " + i)));
+            }
+        }
+    }
+
+    @Benchmark
+    public GridPane build() {
+        return gridPane(gridRows, List.of(columnConstraints(), columnConstraints(), columnConstraints()));
+    }
+}
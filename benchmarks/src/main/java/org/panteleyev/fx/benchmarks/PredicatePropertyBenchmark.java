@@ -0,0 +1,91 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.panteleyev.fx.PredicateProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Composition of {@link PredicateProperty} with {@code and}/{@code or} and test throughput of composed predicates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {FxPlatform.HEADLESS, FxPlatform.SOFTWARE})
+public class PredicatePropertyBenchmark {
+    private static final int VALUES = 1_024;
+
+    @Param({"2", "8", "32"})
+    public int predicates;
+
+    private List<PredicateProperty<Integer>> arguments;
+    private PredicateProperty<Integer> and;
+    private PredicateProperty<Integer> or;
+    private Integer[] values;
+    private final Predicate<Integer> even = x -> x % 2 == 0;
+    private final Predicate<Integer> odd = x -> x % 2 != 0;
+
+    @Setup
+    public void setup() {
+        arguments = new ArrayList<>(predicates);
+        for (int i = 0; i < predicates; i++) {
+            var divisor = i + 2;
+            arguments.add(new PredicateProperty<>(x -> x % divisor != 0 || x < divisor));
+        }
+        and = PredicateProperty.and(arguments);
+        or = PredicateProperty.or(arguments);
+
+        values = new Integer[VALUES];
+        for (int i = 0; i < VALUES; i++) {
+            values[i] = i;
+        }
+    }
+
+    @Benchmark
+    public PredicateProperty<Integer> composeAnd() {
+        // Weak listeners added to the arguments are collected with the composed properties
+        return PredicateProperty.and(arguments);
+    }
+
+    @Benchmark
+    public void updateArgument() {
+        // Recomputes both composed predicates
+        var argument = arguments.getLast();
+        argument.set(argument.get() == even ? odd : even);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void testAnd(Blackhole blackhole) {
+        for (var value : values) {
+            blackhole.consume(and.test(value));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void testOr(Blackhole blackhole) {
+        for (var value : values) {
+            blackhole.consume(or.test(value));
+        }
+    }
+}
@@ -0,0 +1,170 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.benchmarks;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.Scene;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.IntConsumer;
+
+/**
+ * Runs scripted actions one step per pulse and measures pulses of a scene.
+ * <p>
+ * Steps are executed by an animation timer, i.e. at the beginning of a pulse. Pulse time is measured on the JavaFX
+ * application thread from the start of the step until the scene post-layout pulse listener, so it includes the step
+ * itself, CSS and layout. Rendering is performed by the render thread and is not included, though a slow render delays
+ * the next pulse. Several idle pulses are skipped before each action, so layout caused by the previous action is not
+ * attributed to the next one.
+ */
+final class PulseRecorder extends AnimationTimer {
+    /**
+     * Number of idle pulses before each action.
+     */
+    static final int SETTLE_PULSES = 10;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * Scripted action.
+     *
+     * @param name   action name
+     * @param pulses number of pulses
+     * @param step   step executed at each pulse, receives index of the pulse
+     */
+    record Action(String name, int pulses, IntConsumer step) {
+    }
+
+    /**
+     * Measurements of an action.
+     *
+     * @param name             action name
+     * @param pulseNanos       pulse times in nanoseconds
+     * @param elapsedNanos     wall time of the action in nanoseconds
+     * @param fxAllocatedBytes bytes allocated by the JavaFX application thread
+     * @param allocatedBytes   bytes allocated by all live threads, -1 if not supported
+     * @param startUptime      JVM uptime in milliseconds when the action started
+     * @param endUptime        JVM uptime in milliseconds when the action finished
+     */
+    record Result(
+            String name,
+            long[] pulseNanos,
+            long elapsedNanos,
+            long fxAllocatedBytes,
+            long allocatedBytes,
+            long startUptime,
+            long endUptime
+    ) {
+    }
+
+    private final Scene scene;
+    private final Iterator<Action> actions;
+    private final List<Result> results = new ArrayList<>();
+    private final CompletableFuture<List<Result>> future = new CompletableFuture<>();
+    private final Runnable postLayoutListener = this::pulseEnd;
+
+    private Action action;
+    private int settle = SETTLE_PULSES;
+    private int pulse;
+    private long[] samples;
+    private long pulseStart;
+    private long actionStart;
+    private long actionStartUptime;
+    private long actionFxAllocated;
+    private long actionAllocated;
+
+    private PulseRecorder(Scene scene, List<Action> actions) {
+        this.scene = scene;
+        this.actions = List.copyOf(actions).iterator();
+    }
+
+    /**
+     * Starts actions. Must be called on the JavaFX application thread, the scene must be shown.
+     *
+     * @param scene   scene
+     * @param actions actions
+     * @return future completed with measurements of the actions
+     */
+    static CompletableFuture<List<Result>> record(Scene scene, List<Action> actions) {
+        var recorder = new PulseRecorder(scene, actions);
+        scene.addPostLayoutPulseListener(recorder.postLayoutListener);
+        recorder.start();
+        return recorder.future;
+    }
+
+    @Override
+    public void handle(long now) {
+        try {
+            step();
+        } catch (Throwable ex) {
+            finish();
+            future.completeExceptionally(ex);
+        }
+    }
+
+    private void step() {
+        if (action == null) {
+            if (settle > 0) {
+                settle--;
+                return;
+            }
+            if (!actions.hasNext()) {
+                finish();
+                future.complete(List.copyOf(results));
+                return;
+            }
+            action = actions.next();
+            pulse = 0;
+            samples = new long[action.pulses()];
+            actionStartUptime = ManagementFactory.getRuntimeMXBean().getUptime();
+            actionFxAllocated = THREADS.getCurrentThreadAllocatedBytes();
+            actionAllocated = totalAllocatedBytes();
+            actionStart = System.nanoTime();
+        }
+        pulseStart = System.nanoTime();
+        action.step().accept(pulse);
+    }
+
+    private void pulseEnd() {
+        if (pulseStart == 0) {
+            return;
+        }
+        var end = System.nanoTime();
+        samples[pulse++] = end - pulseStart;
+        pulseStart = 0;
+        if (pulse < samples.length) {
+            return;
+        }
+
+        var allocated = totalAllocatedBytes();
+        results.add(new Result(
+                action.name(),
+                samples,
+                end - actionStart,
+                THREADS.getCurrentThreadAllocatedBytes() - actionFxAllocated,
+                allocated < 0 || actionAllocated < 0 ? -1 : allocated - actionAllocated,
+                actionStartUptime,
+                ManagementFactory.getRuntimeMXBean().getUptime()
+        ));
+        action = null;
+        settle = SETTLE_PULSES;
+    }
+
+    private void finish() {
+        stop();
+        scene.removePostLayoutPulseListener(postLayoutListener);
+    }
+
+    private static long totalAllocatedBytes() {
+        try {
+            return THREADS.getTotalThreadAllocatedBytes();
+        } catch (UnsupportedOperationException _) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.benchmarks;
+
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.panteleyev.fx.factories.TableFactory;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cell value factories of {@link TableFactory} columns. Metrics overhead can be measured by running with
+ * {@code -jvmArgsAppend -Dorg.panteleyev.fx.metrics=true}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {FxPlatform.HEADLESS, FxPlatform.SOFTWARE})
+public class TableCellValueBenchmark {
+    private static final int ROWS = 1_024;
+
+    public record Row(long id, String name, BigDecimal amount) {
+    }
+
+    private List<TableColumn.CellDataFeatures<Row, BigDecimal>> valueFeatures;
+    private List<TableColumn.CellDataFeatures<Row, String>> stringFeatures;
+    private List<TableColumn.CellDataFeatures<Row, Row>> objectFeatures;
+    private List<TableColumn.CellDataFeatures<Row, BigDecimal>> asyncFeatures;
+
+    private TableFactory.TableValueColumn<Row, BigDecimal> valueColumn;
+    private TableFactory.TableStringColumn<Row> stringColumn;
+    private TableFactory.TableObjectColumn<Row> objectColumn;
+    private TableFactory.TableValueColumn<Row, BigDecimal> asyncColumn;
+
+    @Setup
+    public void setup() {
+        FxPlatform.start();
+
+        var rows = new ArrayList<Row>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new Row(i, "Row " + i, BigDecimal.valueOf(i, 2)));
+        }
+        var tableView = new TableView<Row>();
+        tableView.getItems().setAll(rows);
+
+        valueColumn = TableFactory.tableValueColumn("Amount");
+        valueColumn.valueConverter(Row::amount);
+        stringColumn = TableFactory.tableStringColumn("Name");
+        stringColumn.valueConverter(Row::name);
+        objectColumn = TableFactory.tableObjectColumn("Row");
+        asyncColumn = TableFactory.tableValueColumn("Async");
+        asyncColumn.asyncValueConverter(Row::amount, BigDecimal.ZERO);
+
+        valueFeatures = features(tableView, valueColumn, rows);
+        stringFeatures = features(tableView, stringColumn, rows);
+        objectFeatures = features(tableView, objectColumn, rows);
+        asyncFeatures = features(tableView, asyncColumn, rows);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void valueColumn(Blackhole blackhole) {
+        var factory = valueColumn.getCellValueFactory();
+        for (var features : valueFeatures) {
+            blackhole.consume(factory.call(features).getValue());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void stringColumn(Blackhole blackhole) {
+        var factory = stringColumn.getCellValueFactory();
+        for (var features : stringFeatures) {
+            blackhole.consume(factory.call(features).getValue());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void objectColumn(Blackhole blackhole) {
+        var factory = objectColumn.getCellValueFactory();
+        for (var features : objectFeatures) {
+            blackhole.consume(factory.call(features).getValue());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void asyncColumnNotObserved(Blackhole blackhole) {
+        // Conversion is not started until the value is observed by a cell
+        var factory = asyncColumn.getCellValueFactory();
+        for (var features : asyncFeatures) {
+            blackhole.consume(factory.call(features).getValue());
+        }
+    }
+
+    private static <T> List<TableColumn.CellDataFeatures<Row, T>> features(TableView<Row> tableView,
+            TableColumn<Row, T> column, List<Row> rows)
+    {
+        return rows.stream()
+                .map(row -> new TableColumn.CellDataFeatures<>(tableView, column, row))
+                .toList();
+    }
+}
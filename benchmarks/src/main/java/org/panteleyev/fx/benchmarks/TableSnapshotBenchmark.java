@@ -0,0 +1,141 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.panteleyev.fx.table.TableExporter;
+import org.panteleyev.fx.table.TableSnapshot;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.panteleyev.fx.table.TableExporter.tableExporter;
+import static org.panteleyev.fx.table.TableSnapshotWriter.tableSnapshotWriter;
+
+/**
+ * Binary {@link TableSnapshot} format compared with CSV export. Write benchmarks produce a file from the same rows,
+ * read benchmarks sum one numeric column and count rows of one string value.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {FxPlatform.HEADLESS, FxPlatform.SOFTWARE})
+public class TableSnapshotBenchmark {
+    public record Row(long id, String category, double amount, LocalDate date) {
+    }
+
+    private static final String[] CATEGORIES = {"Food", "Rent", "Travel", "Utilities", "Salary", "Other"};
+
+    @Param({"100000"})
+    public int rows;
+
+    private List<Row> items;
+    private Path directory;
+    private Path snapshotFile;
+    private Path csvFile;
+
+    @Setup
+    public void setup() throws IOException {
+        FxPlatform.start();
+
+        items = new ArrayList<>(rows);
+        var start = LocalDate.of(2020, 1, 1);
+        for (int i = 0; i < rows; i++) {
+            items.add(new Row(i, CATEGORIES[i % CATEGORIES.length], i * 0.25, start.plusDays(i % 2_000)));
+        }
+
+        directory = Files.createTempDirectory("table-snapshot-benchmark");
+        snapshotFile = directory.resolve("read.fxts");
+        csvFile = directory.resolve("read.csv");
+        writeSnapshot(snapshotFile);
+        writeCsv(csvFile);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (var files = Files.list(directory)) {
+            for (var file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public long writeSnapshot() throws IOException {
+        return writeSnapshot(directory.resolve("write.fxts"));
+    }
+
+    @Benchmark
+    public long writeCsv() {
+        return writeCsv(directory.resolve("write.csv"));
+    }
+
+    @Benchmark
+    public double readSnapshot() throws IOException {
+        var snapshot = TableSnapshot.open(snapshotFile);
+        var sum = 0.0;
+        var food = 0;
+        for (int row = 0; row < snapshot.rowCount(); row++) {
+            sum += snapshot.getDouble(2, row);
+            if ("Food".equals(snapshot.getString(1, row))) {
+                food++;
+            }
+        }
+        return sum + food;
+    }
+
+    @Benchmark
+    public double readCsv() throws IOException {
+        var sum = 0.0;
+        var food = 0;
+        try (var lines = Files.lines(csvFile)) {
+            for (var iterator = lines.skip(1).iterator(); iterator.hasNext(); ) {
+                var fields = iterator.next().split(",", -1);
+                sum += Double.parseDouble(fields[2]);
+                if ("Food".equals(fields[1])) {
+                    food++;
+                }
+            }
+        }
+        return sum + food;
+    }
+
+    private long writeSnapshot(Path path) throws IOException {
+        return tableSnapshotWriter(items)
+                .column("Id", Row::id)
+                .column("Category", Row::category)
+                .column("Amount", Row::amount)
+                .column("Date", Row::date)
+                .write(path);
+    }
+
+    private long writeCsv(Path path) {
+        return tableExporter(items)
+                .format(TableExporter.Format.CSV)
+                .column("Id", Row::id)
+                .column("Category", Row::category)
+                .column("Amount", Row::amount)
+                .column("Date", Row::date)
+                .export(path)
+                .join();
+    }
+}
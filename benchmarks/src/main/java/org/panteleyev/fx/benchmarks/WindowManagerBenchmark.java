@@ -0,0 +1,92 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.benchmarks;
+
+import javafx.scene.layout.BorderPane;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.panteleyev.fx.Controller;
+import org.panteleyev.fx.WindowManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link WindowManager#find(Class)} with many open windows. The searched controller is opened last, so all windows are
+ * scanned.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {FxPlatform.HEADLESS, FxPlatform.SOFTWARE})
+public class WindowManagerBenchmark {
+    public static class DocumentController extends Controller {
+        public DocumentController() {
+            super(null);
+            setupWindow(new BorderPane());
+        }
+    }
+
+    public static class SettingsController extends Controller {
+        public SettingsController() {
+            super(null);
+            setupWindow(new BorderPane());
+        }
+    }
+
+    @Param({"10", "100"})
+    public int windows;
+
+    private final List<Controller> controllers = new ArrayList<>();
+    private WindowManager windowManager;
+    private int settingsId;
+
+    @Setup
+    public void setup() {
+        FxPlatform.start();
+        FxPlatform.run(() -> {
+            for (int i = 0; i < windows - 1; i++) {
+                controllers.add(new DocumentController());
+            }
+            controllers.add(new SettingsController());
+            controllers.forEach(c -> c.getStage().show());
+        });
+        windowManager = WindowManager.windowManager();
+        settingsId = System.identityHashCode(controllers.getLast());
+    }
+
+    @TearDown
+    public void tearDown() {
+        FxPlatform.run(() -> controllers.forEach(c -> c.getStage().hide()));
+        controllers.clear();
+    }
+
+    @Benchmark
+    public Optional<Controller> find() {
+        return windowManager.find(SettingsController.class);
+    }
+
+    @Benchmark
+    public Optional<Controller> findWithPredicate() {
+        return windowManager.find(SettingsController.class, c -> System.identityHashCode(c) == settingsId);
+    }
+
+    @Benchmark
+    public List<? extends Controller> getControllers() {
+        return windowManager.getControllers();
+    }
+}
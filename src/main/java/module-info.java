@@ -42,8 +42,11 @@ module org.panteleyev.fx {
     requires transitive javafx.base;
     requires transitive javafx.graphics;
     requires transitive javafx.controls;
+    requires static jdk.jfr;
 
     exports org.panteleyev.fx;
     exports org.panteleyev.fx.factories.grid;
     exports org.panteleyev.fx.factories;
+    exports org.panteleyev.fx.table;
+    exports org.panteleyev.fx.tree;
 }
\ No newline at end of file
@@ -297,12 +297,13 @@ public final class FxAction {
      */
     public static Menu createMenu(String text, Collection<FxAction> actions) {
         var menu = new Menu(text);
-        addMenuItems(menu.getItems(), requireNonNull(actions, "Actions must not be null"));
+        menu.getItems().addAll(createMenuItems(requireNonNull(actions, "Actions must not be null")));
         return menu;
     }
 
     /**
-     * Creates context menu from the collection of actions.
+     * Creates context menu from the collection of actions. Menu items are bound to actions, so for context menus of
+     * table rows or cells consider {@link org.panteleyev.fx.table.SharedContextMenu} that shares one menu per table.
      *
      * @param actions actions
      * @return context menu
@@ -310,11 +311,28 @@ public final class FxAction {
      */
     public static ContextMenu createContextMenu(Collection<FxAction> actions) {
         var menu = new ContextMenu();
-        addMenuItems(menu.getItems(), requireNonNull(actions, "Actions must not be null"));
+        menu.getItems().addAll(createMenuItems(requireNonNull(actions, "Actions must not be null")));
         return menu;
     }
 
-    private static void addMenuItems(List<MenuItem> items, Collection<FxAction> actions) {
+    /**
+     * Creates menu that creates items of the actions on the first show. See {@link LazyMenu} for details.
+     *
+     * @param text    menu text
+     * @param actions actions
+     * @return lazy menu
+     * @throws NullPointerException if {@code actions} or any of its elements is {@code null}
+     */
+    public static LazyMenu createLazyMenu(String text, Collection<FxAction> actions) {
+        requireNonNull(actions, "Actions must not be null");
+        for (var action : actions) {
+            requireNonNull(action, "Action must not be null");
+        }
+        return new LazyMenu(text, List.copyOf(actions));
+    }
+
+    static List<MenuItem> createMenuItems(Collection<FxAction> actions) {
+        var items = new ArrayList<MenuItem>(actions.size());
         for (var action : actions) {
             requireNonNull(action, "Action must not be null");
             if (action == ACTION_SEPARATOR) {
@@ -323,5 +341,17 @@ public final class FxAction {
                 items.add(action.createMenuItem());
             }
         }
+        return items;
+    }
+
+    /**
+     * Unbinds properties bound by {@link #createMenuItem()}.
+     */
+    static void unbind(MenuItem menuItem) {
+        menuItem.textProperty().unbind();
+        menuItem.acceleratorProperty().unbind();
+        menuItem.disableProperty().unbind();
+        menuItem.onActionProperty().unbind();
+        menuItem.visibleProperty().unbind();
     }
 }
@@ -0,0 +1,174 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx;
+
+import javafx.animation.PauseTransition;
+import javafx.collections.ObservableMap;
+import javafx.event.ActionEvent;
+import javafx.scene.Scene;
+import javafx.scene.control.Menu;
+import javafx.scene.control.MenuItem;
+import javafx.scene.input.KeyCombination;
+import javafx.util.Duration;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.panteleyev.fx.FxAction.ACTION_SEPARATOR;
+
+/**
+ * Menu that creates items of its actions on the first show.
+ * <p>
+ * Until the menu is shown it contains a single invisible placeholder item, and actions are not bound to anything.
+ * Items are created and bound to actions when the menu fires {@link Menu#ON_SHOWING}. If
+ * {@link #releaseDelay(Duration) release delay} is set, items are unbound and removed when the menu stays hidden for
+ * the specified time, and created again on the next show.
+ * <p>
+ * Menu bar installs accelerators of existing items only. Accelerators of actions must be
+ * {@link #installAccelerators(Scene) installed} into the scene, so they work before the menu is shown for the first
+ * time. Menu bars created by {@link org.panteleyev.fx.factories.MenuFactory#menuBar(Menu...)} do this automatically.
+ * Accelerators are read at the time they are installed.
+ * <p>
+ * <strong>Example:</strong>
+ * {@snippet lang = java:
+ * var menuBar = menuBar(
+ *     lazyMenu("File", openAction, saveAction, ACTION_SEPARATOR, exitAction),
+ *     FxAction.createLazyMenu("Edit", editActions).releaseDelay(Duration.minutes(5))
+ * );
+ *}
+ */
+public final class LazyMenu extends Menu {
+    private final List<FxAction> actions;
+    private final MenuItem placeholder = new MenuItem();
+
+    private final Map<KeyCombination, Runnable> accelerators = new HashMap<>();
+    private ObservableMap<KeyCombination, Runnable> installedAccelerators;
+
+    private boolean materialized = false;
+    private Duration releaseDelay;
+    private PauseTransition releaseTimer;
+
+    LazyMenu(String text, List<FxAction> actions) {
+        super(text);
+        this.actions = actions;
+
+        // Menu without items is never shown
+        placeholder.setVisible(false);
+        getItems().add(placeholder);
+
+        addEventHandler(ON_SHOWING, _ -> {
+            if (releaseTimer != null) {
+                releaseTimer.stop();
+            }
+            materialize();
+        });
+        addEventHandler(ON_HIDDEN, _ -> {
+            if (releaseDelay != null) {
+                if (releaseTimer == null) {
+                    releaseTimer = new PauseTransition();
+                    releaseTimer.setOnFinished(_ -> release());
+                }
+                releaseTimer.setDuration(releaseDelay);
+                releaseTimer.playFromStart();
+            }
+        });
+    }
+
+    /**
+     * Returns actions of the menu.
+     *
+     * @return unmodifiable list of actions
+     */
+    public List<FxAction> getActions() {
+        return actions;
+    }
+
+    /**
+     * Returns {@code true} if items are created.
+     *
+     * @return {@code true} if items are created
+     */
+    public boolean isMaterialized() {
+        return materialized;
+    }
+
+    /**
+     * Sets time after which items of the hidden menu are unbound and removed.
+     *
+     * @param releaseDelay delay, {@code null} keeps items forever
+     * @return this menu
+     */
+    public LazyMenu releaseDelay(Duration releaseDelay) {
+        this.releaseDelay = releaseDelay;
+        if (releaseDelay == null && releaseTimer != null) {
+            releaseTimer.stop();
+        }
+        return this;
+    }
+
+    /**
+     * Creates items bound to actions. Does nothing if items are already created.
+     */
+    public void materialize() {
+        if (materialized) {
+            return;
+        }
+        getItems().setAll(FxAction.createMenuItems(actions));
+        materialized = true;
+    }
+
+    /**
+     * Unbinds and removes items. Does nothing if items are not created or the menu is showing.
+     */
+    public void release() {
+        if (!materialized || isShowing()) {
+            return;
+        }
+        for (var item : List.copyOf(getItems())) {
+            FxAction.unbind(item);
+        }
+        getItems().setAll(placeholder);
+        materialized = false;
+
+        // Accelerators of removed items are removed from the scene by the menu bar
+        if (installedAccelerators != null) {
+            installedAccelerators.putAll(accelerators);
+        }
+    }
+
+    /**
+     * Installs accelerators of actions into the scene. Accelerators are removed from the scene they were installed
+     * into previously.
+     *
+     * @param scene scene, {@code null} only removes accelerators
+     */
+    public void installAccelerators(Scene scene) {
+        installAccelerators(scene == null ? null : scene.getAccelerators());
+    }
+
+    void installAccelerators(ObservableMap<KeyCombination, Runnable> target) {
+        if (installedAccelerators != null) {
+            accelerators.forEach(installedAccelerators::remove);
+        }
+        accelerators.clear();
+        installedAccelerators = target;
+        if (target == null) {
+            return;
+        }
+
+        for (var action : actions) {
+            var accelerator = action.acceleratorProperty().get();
+            if (action != ACTION_SEPARATOR && accelerator != null) {
+                accelerators.put(accelerator, () -> fire(action));
+            }
+        }
+        target.putAll(accelerators);
+    }
+
+    private void fire(FxAction action) {
+        if (!isDisable() && !action.disableProperty().get() && action.visibleProperty().get()) {
+            action.onActionProperty().get().handle(new ActionEvent(this, null));
+        }
+    }
+}
@@ -9,6 +9,8 @@ import javafx.scene.control.CheckMenuItem;
 import javafx.scene.control.Menu;
 import javafx.scene.control.MenuBar;
 import javafx.scene.control.MenuItem;
+import org.panteleyev.fx.FxAction;
+import org.panteleyev.fx.LazyMenu;
 
 import java.util.Arrays;
 import java.util.Objects;
@@ -146,7 +148,23 @@ public final class MenuFactory {
     }
 
     /**
-     * Creates new menu bar. useSystemMenuBar property is set to {@code true}.
+     * Creates new menu that creates items of the actions on the first show. Null actions are ignored which allows to
+     * create menu items optionally.
+     *
+     * @param text    menu text
+     * @param actions actions
+     * @return lazy menu
+     */
+    public static LazyMenu lazyMenu(String text, FxAction... actions) {
+        var filtered = Arrays.stream(actions)
+                .filter(Objects::nonNull)
+                .toList();
+        return FxAction.createLazyMenu(text, filtered);
+    }
+
+    /**
+     * Creates new menu bar. useSystemMenuBar property is set to {@code true}. Accelerators of {@link LazyMenu lazy
+     * menus} are installed into the scene of the menu bar.
      *
      * @param menus menus
      * @return menu bar
@@ -154,6 +172,13 @@ public final class MenuFactory {
     public static MenuBar menuBar(Menu... menus) {
         var menuBar = new MenuBar(menus);
         menuBar.setUseSystemMenuBar(true);
+        menuBar.sceneProperty().addListener((_, _, scene) -> {
+            for (var menu : menuBar.getMenus()) {
+                if (menu instanceof LazyMenu lazyMenu) {
+                    lazyMenu.installAccelerators(scene);
+                }
+            }
+        });
         return menuBar;
     }
 
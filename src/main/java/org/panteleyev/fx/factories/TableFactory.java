@@ -2,11 +2,24 @@
 // SPDX-License-Identifier: BSD-2-Clause
 package org.panteleyev.fx.factories;
 
+import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ObservableValue;
 import javafx.scene.control.TableColumn;
+import org.panteleyev.fx.hidden.AsyncCellValues;
+import org.panteleyev.fx.hidden.CoalescedValue;
+import org.panteleyev.fx.hidden.ColumnMetrics;
+import org.panteleyev.fx.hidden.FlashingTableCell;
+import org.panteleyev.fx.hidden.HighlightingTableCell;
+import org.panteleyev.fx.hidden.MatchRanges;
+import org.panteleyev.fx.table.ColumnFilter;
+import org.panteleyev.fx.table.ColumnFilters;
 
+import java.time.Duration;
 import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 /**
@@ -36,11 +49,17 @@ public final class TableFactory {
      * @param <T> The type of the content in all cells in this {@link TableColumn}.
      */
     public static class TableValueColumn<S, T> extends TableColumn<S, T> {
+        private Function<S, T> converter;
+        private final ObjectProperty<ColumnFilter<? super T>> columnFilter =
+                new SimpleObjectProperty<>(this, "columnFilter");
+
         TableValueColumn() {
+            ColumnMetrics.install(this);
         }
 
         TableValueColumn(String text) {
             super(text);
+            ColumnMetrics.install(this);
         }
 
         /**
@@ -50,7 +69,113 @@ public final class TableFactory {
          */
         public void valueConverter(Function<S, T> converter) {
             if (converter == null) return;
-            setCellValueFactory(p -> new ReadOnlyObjectWrapper<>(converter.apply(p.getValue())));
+            this.converter = converter;
+            var metered = ColumnMetrics.converter(this, converter);
+            setCellValueFactory(ColumnMetrics.cellValueFactory(this,
+                    p -> new ReadOnlyObjectWrapper<>(metered.apply(p.getValue()))));
+        }
+
+        /**
+         * Returns conversion from table type {@code S} to cell type {@code T}.
+         *
+         * @return conversion function or {@code null} if not set
+         */
+        public Function<S, T> getValueConverter() {
+            return converter;
+        }
+
+        /**
+         * Filter of column values applied to converted values by {@link ColumnFilters}, {@code null} if column is not
+         * filtered.
+         *
+         * @return column filter property
+         */
+        public ObjectProperty<ColumnFilter<? super T>> columnFilterProperty() {
+            return columnFilter;
+        }
+
+        /**
+         * Sets conversion from table type {@code S} to cell type {@code T} that runs in background on a shared bounded
+         * executor. Cell displays placeholder until conversion completes. Conversion starts when a cell displays the
+         * row and is cancelled when the cell is reused for another row before conversion starts. Up to
+         * 10 000 converted values are cached, rows are compared with
+         * {@link Object#equals(Object)}.
+         * <p>
+         * Converter is called synchronously by code that uses {@link #getValueConverter()}, e.g. export.
+         * <p>
+         * Column becomes not sortable. Cell data requested outside of cells is the placeholder unless the value is
+         * cached, so the default sort policy of the table would sort by placeholder. Column may be made sortable with a
+         * custom sort policy that uses {@link #getValueConverter()}.
+         *
+         * @param converter   conversion function, must be thread-safe, ignored if {@code null}
+         * @param placeholder value displayed while conversion is running
+         */
+        public void asyncValueConverter(Function<S, T> converter, T placeholder) {
+            asyncValueConverter(converter, placeholder, AsyncCellValues.DEFAULT_CACHE_SIZE, null);
+        }
+
+        /**
+         * Sets conversion from table type {@code S} to cell type {@code T} that runs in background.
+         *
+         * @param converter   conversion function, must be thread-safe, ignored if {@code null}
+         * @param placeholder value displayed while conversion is running
+         * @param cacheSize   maximum number of cached values
+         * @param executor    executor that runs conversion, shared bounded executor if {@code null}
+         * @throws IllegalArgumentException if {@code cacheSize} is negative
+         * @see #asyncValueConverter(Function, Object)
+         */
+        public void asyncValueConverter(Function<S, T> converter, T placeholder, int cacheSize, Executor executor) {
+            if (converter == null) return;
+            var values = AsyncCellValues.asyncCellValues(ColumnMetrics.converter(this, converter), placeholder,
+                    cacheSize, executor);
+            this.converter = converter;
+            setSortable(false);
+            setCellValueFactory(ColumnMetrics.cellValueFactory(this, p -> values.value(p.getValue())));
+        }
+
+        /**
+         * Sets observable cell value provided by the row. Updates of the row value are coalesced, cells are updated at
+         * most once per pulse with the latest value. Row value must be updated on the JavaFX application thread,
+         * producers running on other threads should batch updates with
+         * {@link javafx.application.Platform#runLater(Runnable)}.
+         * <p>
+         * Converter returned by {@link #getValueConverter()} reads row value on the JavaFX application thread. When
+         * converter is called from another thread, e.g. by export, each call waits for the JavaFX application thread.
+         *
+         * @param extractor function that returns observable value of the row, ignored if {@code null}
+         */
+        public void coalescedValue(Function<S, ObservableValue<T>> extractor) {
+            if (extractor == null) return;
+            this.converter = row -> CoalescedValue.sourceValue(extractor.apply(row));
+            setCellValueFactory(ColumnMetrics.cellValueFactory(this,
+                    p -> CoalescedValue.coalescedValue(extractor.apply(p.getValue()))));
+        }
+
+        /**
+         * Sets cell factory that temporarily adds style class to the cell when its value changes. Cell text is
+         * produced by {@link String#valueOf(Object)}.
+         *
+         * @param styleClass style class
+         * @param duration   flash duration
+         * @throws NullPointerException if {@code styleClass} or {@code duration} is {@code null}
+         */
+        public void flashOnChange(String styleClass, Duration duration) {
+            flashOnChange(styleClass, duration, String::valueOf);
+        }
+
+        /**
+         * Sets cell factory that temporarily adds style class to the cell when its value changes.
+         *
+         * @param styleClass style class
+         * @param duration   flash duration
+         * @param formatter  function that converts cell value to text
+         * @throws NullPointerException if any argument is {@code null}
+         */
+        public void flashOnChange(String styleClass, Duration duration, Function<T, String> formatter) {
+            Objects.requireNonNull(styleClass, "Style class must not be null");
+            Objects.requireNonNull(duration, "Duration must not be null");
+            Objects.requireNonNull(formatter, "Formatter must not be null");
+            setCellFactory(_ -> new FlashingTableCell<>(styleClass, duration, formatter));
         }
 
         public void widthBinding(ObservableValue<? extends Number> widthBinding) {
@@ -68,11 +193,17 @@ public final class TableFactory {
      * @param <S> The type of the {@link javafx.scene.control.TableView} generic type
      */
     public static class TableStringColumn<S> extends TableColumn<S, String> {
+        private Function<S, String> converter;
+        private final ObjectProperty<ColumnFilter<? super String>> columnFilter =
+                new SimpleObjectProperty<>(this, "columnFilter");
+
         TableStringColumn() {
+            ColumnMetrics.install(this);
         }
 
         TableStringColumn(String text) {
             super(text);
+            ColumnMetrics.install(this);
         }
 
         /**
@@ -82,7 +213,42 @@ public final class TableFactory {
          */
         public void valueConverter(Function<S, String> converter) {
             if (converter == null) return;
-            setCellValueFactory(p -> new ReadOnlyObjectWrapper<>(converter.apply(p.getValue())));
+            this.converter = converter;
+            var metered = ColumnMetrics.converter(this, converter);
+            setCellValueFactory(ColumnMetrics.cellValueFactory(this,
+                    p -> new ReadOnlyObjectWrapper<>(metered.apply(p.getValue()))));
+        }
+
+        /**
+         * Returns conversion from table type {@code S} to {@link String}.
+         *
+         * @return conversion function or {@code null} if not set
+         */
+        public Function<S, String> getValueConverter() {
+            return converter;
+        }
+
+        /**
+         * Filter of column values applied to converted values by {@link ColumnFilters}, {@code null} if column is not
+         * filtered.
+         *
+         * @return column filter property
+         */
+        public ObjectProperty<ColumnFilter<? super String>> columnFilterProperty() {
+            return columnFilter;
+        }
+
+        /**
+         * Sets cell factory that displays case-insensitive matches of the query in bold. Match ranges are cached per
+         * cell text until the query changes, cells reuse their text nodes while scrolling.
+         *
+         * @param query observable query, {@code null} or empty query value disables highlighting
+         * @throws NullPointerException if {@code query} is {@code null}
+         */
+        public void highlightMatches(ObservableValue<String> query) {
+            var matches = new MatchRanges(Objects.requireNonNull(query, "Query must not be null"),
+                    MatchRanges.DEFAULT_CAPACITY);
+            setCellFactory(_ -> new HighlightingTableCell<>(matches));
         }
 
         public void widthBinding(ObservableValue<? extends Number> widthBinding) {
@@ -101,12 +267,23 @@ public final class TableFactory {
      */
     public static class TableObjectColumn<S> extends TableColumn<S, S> {
         TableObjectColumn() {
-            setCellValueFactory(p -> new ReadOnlyObjectWrapper<>(p.getValue()));
+            ColumnMetrics.install(this);
+            setCellValueFactory(ColumnMetrics.cellValueFactory(this, p -> new ReadOnlyObjectWrapper<>(p.getValue())));
         }
 
         TableObjectColumn(String text) {
             super(text);
-            setCellValueFactory(p -> new ReadOnlyObjectWrapper<>(p.getValue()));
+            ColumnMetrics.install(this);
+            setCellValueFactory(ColumnMetrics.cellValueFactory(this, p -> new ReadOnlyObjectWrapper<>(p.getValue())));
+        }
+
+        /**
+         * Returns identity conversion as cell type is the same as table type.
+         *
+         * @return identity function
+         */
+        public Function<S, S> getValueConverter() {
+            return Function.identity();
         }
 
         public void widthBinding(ObservableValue<? extends Number> widthBinding) {
@@ -207,7 +384,7 @@ public final class TableFactory {
         if (comparator == null) {
             column.setSortable(false);
         } else {
-            column.setComparator(comparator);
+            column.setComparator(ColumnMetrics.comparator(column, comparator));
             column.setSortable(true);
         }
     }
@@ -8,9 +8,22 @@ import javafx.scene.Node;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TreeItem;
 import javafx.scene.control.TreeTableColumn;
-
+import javafx.scene.control.TreeTableView;
+import org.panteleyev.fx.hidden.AsyncCellValues;
+import org.panteleyev.fx.hidden.ColumnMetrics;
+import org.panteleyev.fx.tree.FilteredTreeItem;
+import org.panteleyev.fx.tree.LazyTreeItem;
+import org.panteleyev.fx.tree.TreeBuilder;
+import org.panteleyev.fx.tree.TreeExpansion;
+import org.panteleyev.fx.tree.TreeTableSorter;
+
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
 
 /**
  * Provides factory methods to create instances of {@link TreeTableColumn} and related classes.
@@ -18,16 +31,23 @@ import java.util.function.Function;
 public final class TreeTableFactory {
     /**
      * Implements {@link TreeTableColumn} where cell type {@code T} differs from table type {@code S}.
+     * <p>
+     * Converter is not called for tree items without value such as hidden root or
+     * {@link LazyTreeItem.Placeholder loading placeholder}, cell value is {@code null} for them.
      *
      * @param <S> The type of the {@link javafx.scene.control.TreeTableView} generic type
      * @param <T> The type of the content in all cells in this {@link TableColumn}.
      */
     public static class TreeTableValueColumn<S, T> extends TreeTableColumn<S, T> {
+        private Function<S, T> converter;
+
         TreeTableValueColumn() {
+            ColumnMetrics.install(this);
         }
 
         TreeTableValueColumn(String text) {
             super(text);
+            ColumnMetrics.install(this);
         }
 
         /**
@@ -37,7 +57,59 @@ public final class TreeTableFactory {
          */
         public void valueConverter(Function<S, T> converter) {
             if (converter == null) return;
-            setCellValueFactory(p -> new ReadOnlyObjectWrapper<>(converter.apply(p.getValue().getValue())));
+            this.converter = converter;
+            var metered = ColumnMetrics.converter(this, converter);
+            setCellValueFactory(ColumnMetrics.cellValueFactory(this,
+                    p -> new ReadOnlyObjectWrapper<>(convert(p.getValue(), metered))));
+        }
+
+        /**
+         * Returns conversion from table type {@code S} to cell type {@code T}.
+         *
+         * @return conversion function or {@code null} if not set
+         */
+        public Function<S, T> getValueConverter() {
+            return converter;
+        }
+
+        /**
+         * Sets conversion from table type {@code S} to cell type {@code T} that runs in background on a shared bounded
+         * executor. Cell displays placeholder until conversion completes. Conversion starts when a cell displays the
+         * row and is cancelled when the cell is reused for another row before conversion starts. Up to
+         * 10 000 converted values are cached, rows are compared with
+         * {@link Object#equals(Object)}.
+         * <p>
+         * Converter is called synchronously by code that uses {@link #getValueConverter()}, e.g. export.
+         * <p>
+         * Column becomes not sortable. Cell data requested outside of cells is the placeholder unless the value is
+         * cached, so the default sort policy of the tree table would sort by placeholder.
+         * {@link org.panteleyev.fx.tree.TreeTableSorter} uses {@link #getValueConverter()}, so the column can be made
+         * sortable again when it is installed.
+         *
+         * @param converter   conversion function, must be thread-safe, ignored if {@code null}
+         * @param placeholder value displayed while conversion is running
+         */
+        public void asyncValueConverter(Function<S, T> converter, T placeholder) {
+            asyncValueConverter(converter, placeholder, AsyncCellValues.DEFAULT_CACHE_SIZE, null);
+        }
+
+        /**
+         * Sets conversion from table type {@code S} to cell type {@code T} that runs in background.
+         *
+         * @param converter   conversion function, must be thread-safe, ignored if {@code null}
+         * @param placeholder value displayed while conversion is running
+         * @param cacheSize   maximum number of cached values
+         * @param executor    executor that runs conversion, shared bounded executor if {@code null}
+         * @throws IllegalArgumentException if {@code cacheSize} is negative
+         * @see #asyncValueConverter(Function, Object)
+         */
+        public void asyncValueConverter(Function<S, T> converter, T placeholder, int cacheSize, Executor executor) {
+            if (converter == null) return;
+            var values = AsyncCellValues.asyncCellValues(ColumnMetrics.converter(this, converter), placeholder,
+                    cacheSize, executor);
+            this.converter = converter;
+            setSortable(false);
+            setCellValueFactory(ColumnMetrics.cellValueFactory(this, p -> values.value(p.getValue().getValue())));
         }
 
         public void widthBinding(ObservableValue<? extends Number> widthBinding) {
@@ -51,15 +123,21 @@ public final class TreeTableFactory {
 
     /**
      * Implements {@link TreeTableColumn} where cell type is {@link String}.
+     * <p>
+     * Converter is not called for tree items without value, cell value is {@code null} for them.
      *
      * @param <S> The type of the {@link javafx.scene.control.TreeTableView} generic type
      */
     public static class TreeTableStringColumn<S> extends TreeTableColumn<S, String> {
+        private Function<S, String> converter;
+
         TreeTableStringColumn() {
+            ColumnMetrics.install(this);
         }
 
         TreeTableStringColumn(String text) {
             super(text);
+            ColumnMetrics.install(this);
         }
 
         /**
@@ -69,7 +147,19 @@ public final class TreeTableFactory {
          */
         public void valueConverter(Function<S, String> converter) {
             if (converter == null) return;
-            setCellValueFactory(p -> new ReadOnlyObjectWrapper<>(converter.apply(p.getValue().getValue())));
+            this.converter = converter;
+            var metered = ColumnMetrics.converter(this, converter);
+            setCellValueFactory(ColumnMetrics.cellValueFactory(this,
+                    p -> new ReadOnlyObjectWrapper<>(convert(p.getValue(), metered))));
+        }
+
+        /**
+         * Returns conversion from table type {@code S} to {@link String}.
+         *
+         * @return conversion function or {@code null} if not set
+         */
+        public Function<S, String> getValueConverter() {
+            return converter;
         }
 
         public void widthBinding(ObservableValue<? extends Number> widthBinding) {
@@ -88,12 +178,25 @@ public final class TreeTableFactory {
      */
     public static class TreeTableObjectColumn<S> extends TreeTableColumn<S, S> {
         TreeTableObjectColumn() {
-            setCellValueFactory(p -> new ReadOnlyObjectWrapper<>(p.getValue().getValue()));
+            ColumnMetrics.install(this);
+            setCellValueFactory(ColumnMetrics.cellValueFactory(this,
+                    p -> new ReadOnlyObjectWrapper<>(p.getValue().getValue())));
         }
 
         TreeTableObjectColumn(String text) {
             super(text);
-            setCellValueFactory(p -> new ReadOnlyObjectWrapper<>(p.getValue().getValue()));
+            ColumnMetrics.install(this);
+            setCellValueFactory(ColumnMetrics.cellValueFactory(this,
+                    p -> new ReadOnlyObjectWrapper<>(p.getValue().getValue())));
+        }
+
+        /**
+         * Returns identity conversion as cell type is the same as table type.
+         *
+         * @return identity function
+         */
+        public Function<S, S> getValueConverter() {
+            return Function.identity();
         }
 
         public void widthBinding(ObservableValue<? extends Number> widthBinding) {
@@ -219,6 +322,110 @@ public final class TreeTableFactory {
         return new TreeItem<>(value, graphic);
     }
 
+    /**
+     * Creates a TreeItem that loads its children on first expand.
+     *
+     * @param value       The object to be stored as the value of this TreeItem.
+     * @param childLoader function that returns children values, called on the executor thread
+     * @param executor    executor for child loading
+     * @param <T>         The type of the value contained within the TreeItem.
+     * @return tree item
+     * @throws NullPointerException if {@code childLoader} or {@code executor} is {@code null}
+     * @see LazyTreeItem
+     */
+    public static <T> LazyTreeItem<T> lazyTreeItem(T value,
+            Function<? super T, ? extends Collection<? extends T>> childLoader, Executor executor)
+    {
+        return LazyTreeItem.lazyTreeItem(value, childLoader, executor);
+    }
+
+    /**
+     * Creates filtered view of TreeItem hierarchy that preserves ancestors of matching items.
+     *
+     * @param source    root of the source hierarchy
+     * @param predicate predicate, {@code null} value of the predicate matches all items
+     * @param <T>       The type of the value contained within the TreeItem.
+     * @return root of the filtered view
+     * @throws NullPointerException if any argument is {@code null}
+     * @see FilteredTreeItem
+     */
+    public static <T> FilteredTreeItem<T> filteredTreeItem(TreeItem<T> source,
+            ObservableValue<? extends Predicate<? super T>> predicate)
+    {
+        return FilteredTreeItem.filteredTreeItem(source, predicate);
+    }
+
+    /**
+     * Creates builder of TreeItem hierarchy from a flat collection of rows that reference their parents by key.
+     *
+     * @param keyExtractor       function that returns row key
+     * @param parentKeyExtractor function that returns key of the parent row, may return {@code null}
+     * @param <K>                the type of the keys
+     * @param <T>                The type of the value contained within the TreeItem.
+     * @return tree builder
+     * @throws NullPointerException if any argument is {@code null}
+     * @see TreeBuilder
+     */
+    public static <K, T> TreeBuilder<K, T> treeBuilder(Function<? super T, ? extends K> keyExtractor,
+            Function<? super T, ? extends K> parentKeyExtractor)
+    {
+        return TreeBuilder.treeBuilder(keyExtractor, parentKeyExtractor);
+    }
+
+    /**
+     * Installs sort policy that sorts sibling groups of the tree table concurrently.
+     *
+     * @param treeTableView tree table view
+     * @param <S>           the type of the tree table items
+     * @return tree table sorter
+     * @throws NullPointerException if {@code treeTableView} is {@code null}
+     * @see TreeTableSorter
+     */
+    public static <S> TreeTableSorter<S> treeTableSorter(TreeTableView<S> treeTableView) {
+        return TreeTableSorter.treeTableSorter(treeTableView);
+    }
+
+    /**
+     * Expands all items of the tree table with one consolidated refresh. Selection and focus are restored.
+     *
+     * @param treeTableView tree table view
+     * @param <S>           the type of the tree table items
+     * @throws NullPointerException if {@code treeTableView} is {@code null}
+     * @see TreeExpansion
+     */
+    public static <S> void expandAll(TreeTableView<S> treeTableView) {
+        var root = requireNonNull(treeTableView, "Tree table view must not be null").getRoot();
+        if (root != null) {
+            TreeExpansion.setExpanded(treeTableView, root, true, Integer.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Collapses all items of the tree table with one consolidated refresh. Expanded state of the hidden root item is
+     * not changed.
+     *
+     * @param treeTableView tree table view
+     * @param <S>           the type of the tree table items
+     * @throws NullPointerException if {@code treeTableView} is {@code null}
+     * @see TreeExpansion
+     */
+    public static <S> void collapseAll(TreeTableView<S> treeTableView) {
+        var root = requireNonNull(treeTableView, "Tree table view must not be null").getRoot();
+        if (root == null) {
+            return;
+        }
+        if (treeTableView.isShowRoot()) {
+            TreeExpansion.setExpanded(treeTableView, root, false, Integer.MAX_VALUE);
+        } else {
+            TreeExpansion.setDescendantsExpanded(treeTableView, root, false, Integer.MAX_VALUE);
+        }
+    }
+
+    private static <S, T> T convert(TreeItem<S> item, Function<S, T> converter) {
+        var value = item == null ? null : item.getValue();
+        return value == null ? null : converter.apply(value);
+    }
+
     private static <S, T> void setWidthBinding(TreeTableColumn<S, T> column,
             ObservableValue<? extends Number> widthBinding)
     {
@@ -231,7 +438,7 @@ public final class TreeTableFactory {
         if (comparator == null) {
             column.setSortable(false);
         } else {
-            column.setComparator(comparator);
+            column.setComparator(ColumnMetrics.comparator(column, comparator));
             column.setSortable(true);
         }
     }
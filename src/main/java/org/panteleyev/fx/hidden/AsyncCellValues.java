@@ -0,0 +1,219 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.hidden;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+import static org.panteleyev.fx.hidden.PulseExecutor.PULSE_EXECUTOR;
+
+/**
+ * Produces cell values computed by a converter in background.
+ * <p>
+ * Cell value is the placeholder until the converter completes. Computation starts when the first listener is added to
+ * the cell value, i.e. when a cell displays it, and is cancelled when the last listener is removed, i.e. when the cell
+ * is reused for another row. Results are cached per row with LRU eviction, rows are compared with
+ * {@link Object#equals(Object)}. Failed computations are not cached, cell keeps the placeholder.
+ * <p>
+ * Cell values must be requested on the JavaFX application thread.
+ *
+ * @param <S> the type of the rows
+ * @param <T> the type of the values
+ */
+public final class AsyncCellValues<S, T> {
+    /**
+     * Default number of cached values.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 10_000;
+
+    private static final Object MISSING = new Object();
+
+    private static final class Holder {
+        private static final ThreadPoolExecutor EXECUTOR;
+
+        static {
+            var count = new AtomicInteger();
+            var threads = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+            EXECUTOR = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                    r -> {
+                        var thread = new Thread(r, "async-cell-value-" + count.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            EXECUTOR.allowCoreThreadTimeOut(true);
+        }
+    }
+
+    private final Function<? super S, ? extends T> converter;
+    private final T placeholder;
+    private final Executor executor;
+    private final Executor fxExecutor;
+    private final Map<S, Object> cache;
+
+    AsyncCellValues(Function<? super S, ? extends T> converter, T placeholder, int cacheSize, Executor executor,
+            Executor fxExecutor)
+    {
+        this.converter = converter;
+        this.placeholder = placeholder;
+        this.executor = executor;
+        this.fxExecutor = fxExecutor;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<S, Object> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Creates async cell values.
+     *
+     * @param converter   converter, must be thread-safe
+     * @param placeholder value displayed while converter is running
+     * @param cacheSize   maximum number of cached values
+     * @param executor    executor that runs converter, shared bounded pool if {@code null}
+     * @param <S>         the type of the rows
+     * @param <T>         the type of the values
+     * @return async cell values
+     * @throws NullPointerException     if {@code converter} is {@code null}
+     * @throws IllegalArgumentException if {@code cacheSize} is negative
+     */
+    public static <S, T> AsyncCellValues<S, T> asyncCellValues(Function<? super S, ? extends T> converter,
+            T placeholder, int cacheSize, Executor executor)
+    {
+        requireNonNull(converter, "Converter must not be null");
+        if (cacheSize < 0) {
+            throw new IllegalArgumentException("Cache size must not be negative");
+        }
+        return new AsyncCellValues<>(converter, placeholder, cacheSize,
+                executor == null ? Holder.EXECUTOR : executor, PULSE_EXECUTOR);
+    }
+
+    /**
+     * Returns cell value of the row. Value that is not observed by a listener never starts computation, so its value
+     * remains the placeholder unless the row value is cached.
+     *
+     * @param row row, {@code null} produces {@code null} value
+     * @return cell value
+     */
+    @SuppressWarnings("unchecked")
+    public ObservableValue<T> value(S row) {
+        if (row == null) {
+            return new AsyncValue(null, null);
+        }
+        var cached = cache.getOrDefault(row, MISSING);
+        return cached == MISSING ? new AsyncValue(row, placeholder) : new AsyncValue(null, (T) cached);
+    }
+
+    /**
+     * Removes all cached values. Table must be refreshed to recompute displayed values.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    int cacheSize() {
+        return cache.size();
+    }
+
+    private final class AsyncValue implements ObservableValue<T> {
+        // null when value is final
+        private S row;
+        private T value;
+        private CompletableFuture<T> future;
+
+        private final List<InvalidationListener> invalidationListeners = new ArrayList<>(1);
+        private final List<ChangeListener<? super T>> changeListeners = new ArrayList<>(1);
+
+        AsyncValue(S row, T value) {
+            this.row = row;
+            this.value = value;
+        }
+
+        @Override
+        public T getValue() {
+            return value;
+        }
+
+        @Override
+        public void addListener(InvalidationListener listener) {
+            invalidationListeners.add(requireNonNull(listener));
+            onListenersChanged();
+        }
+
+        @Override
+        public void removeListener(InvalidationListener listener) {
+            if (invalidationListeners.remove(listener)) {
+                onListenersChanged();
+            }
+        }
+
+        @Override
+        public void addListener(ChangeListener<? super T> listener) {
+            changeListeners.add(requireNonNull(listener));
+            onListenersChanged();
+        }
+
+        @Override
+        public void removeListener(ChangeListener<? super T> listener) {
+            if (changeListeners.remove(listener)) {
+                onListenersChanged();
+            }
+        }
+
+        private void onListenersChanged() {
+            if (row == null) {
+                return;
+            }
+
+            var observed = !invalidationListeners.isEmpty() || !changeListeners.isEmpty();
+            if (observed && future == null) {
+                var key = row;
+                var task = CompletableFuture.<T>supplyAsync(() -> converter.apply(key), executor);
+                future = task;
+                task.whenComplete((result, ex) -> {
+                    if (ex == null) {
+                        fxExecutor.execute(() -> complete(task, key, result));
+                    }
+                });
+            } else if (!observed && future != null) {
+                // Task that has not started yet is skipped by the executor
+                future.cancel(false);
+                future = null;
+            }
+        }
+
+        private void complete(CompletableFuture<T> task, S key, T result) {
+            // Cell may have been reused after the task completed, the result is still worth caching
+            cache.put(key, result);
+            if (future != task) {
+                return;
+            }
+
+            row = null;
+            future = null;
+            var oldValue = value;
+            value = result;
+            for (var listener : List.copyOf(invalidationListeners)) {
+                listener.invalidated(this);
+            }
+            for (var listener : List.copyOf(changeListeners)) {
+                listener.changed(this, oldValue, result);
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.hidden;
+
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
+import javafx.beans.value.ObservableValue;
+import javafx.beans.value.ObservableValueBase;
+
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static org.panteleyev.fx.hidden.PulseExecutor.PULSE_EXECUTOR;
+
+/**
+ * Observable value that follows its source but publishes at most one update per pulse. The latest source value wins.
+ * Source must be updated on the JavaFX application thread. Methods of this class must be called on the JavaFX
+ * application thread.
+ *
+ * @param <T> the type of the value
+ */
+public final class CoalescedValue<T> extends ObservableValueBase<T> {
+    // One instance per source, so cells that show the same row share a single source listener. Instances are kept
+    // alive by cells that observe them.
+    private static final WeakHashMap<ObservableValue<?>, WeakReference<CoalescedValue<?>>> CACHE = new WeakHashMap<>();
+
+    private final ObservableValue<? extends T> source;
+    private final Executor executor;
+    private final InvalidationListener sourceListener = _ -> onSourceInvalidated();
+
+    private T value;
+    private boolean pending = false;
+
+    CoalescedValue(ObservableValue<? extends T> source, Executor executor) {
+        this.source = source;
+        this.executor = executor;
+        this.value = source.getValue();
+        // Cells come and go while scrolling, source must not keep them
+        source.addListener(new WeakInvalidationListener(sourceListener));
+    }
+
+    /**
+     * Returns coalesced value that follows the source. Repeated calls with the same source return the same instance
+     * while it is in use.
+     *
+     * @param source source
+     * @param <T>    the type of the value
+     * @return coalesced value
+     * @throws NullPointerException if {@code source} is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> CoalescedValue<T> coalescedValue(ObservableValue<? extends T> source) {
+        Objects.requireNonNull(source, "Source must not be null");
+        var ref = CACHE.get(source);
+        var value = ref == null ? null : (CoalescedValue<T>) ref.get();
+        if (value == null) {
+            value = new CoalescedValue<>(source, PULSE_EXECUTOR);
+            CACHE.put(source, new WeakReference<>(value));
+        }
+        return value;
+    }
+
+    /**
+     * Reads value of the source that is updated on the JavaFX application thread. When called from another thread the
+     * value is read on the JavaFX application thread and the caller waits for it.
+     *
+     * @param source source
+     * @param <T>    the type of the value
+     * @return source value
+     */
+    public static <T> T sourceValue(ObservableValue<? extends T> source) {
+        if (Platform.isFxApplicationThread()) {
+            return source.getValue();
+        }
+        return CompletableFuture.<T>supplyAsync(source::getValue, Platform::runLater).join();
+    }
+
+    @Override
+    public T getValue() {
+        return value;
+    }
+
+    private void onSourceInvalidated() {
+        if (!pending) {
+            pending = true;
+            executor.execute(this::publish);
+        }
+    }
+
+    private void publish() {
+        pending = false;
+        // Reading the source re-arms invalidation listener
+        var newValue = source.getValue();
+        if (!Objects.equals(newValue, value)) {
+            value = newValue;
+            fireValueChangedEvent();
+        }
+    }
+}
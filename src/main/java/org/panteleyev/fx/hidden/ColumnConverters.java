@@ -0,0 +1,57 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.hidden;
+
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TreeTableColumn;
+import org.panteleyev.fx.factories.TableFactory.TableObjectColumn;
+import org.panteleyev.fx.factories.TableFactory.TableStringColumn;
+import org.panteleyev.fx.factories.TableFactory.TableValueColumn;
+import org.panteleyev.fx.factories.TreeTableFactory.TreeTableObjectColumn;
+import org.panteleyev.fx.factories.TreeTableFactory.TreeTableStringColumn;
+import org.panteleyev.fx.factories.TreeTableFactory.TreeTableValueColumn;
+
+import java.util.function.Function;
+
+/**
+ * Provides access to value converters of factory columns. Converters are functions of row values and, unlike cell
+ * value factories, can be called outside of the JavaFX application thread.
+ */
+public final class ColumnConverters {
+    /**
+     * Returns value converter of table column.
+     *
+     * @param column table column
+     * @param <S>    the type of the rows
+     * @return converter or {@code null} if column is not a factory column or converter is not set
+     */
+    @SuppressWarnings("unchecked")
+    public static <S> Function<S, ?> converter(TableColumn<S, ?> column) {
+        return switch (column) {
+            case TableValueColumn<S, ?> c -> c.getValueConverter();
+            case TableStringColumn<?> c -> (Function<S, String>) c.getValueConverter();
+            case TableObjectColumn<?> c -> (Function<S, ?>) c.getValueConverter();
+            default -> null;
+        };
+    }
+
+    /**
+     * Returns value converter of tree table column.
+     *
+     * @param column tree table column
+     * @param <S>    the type of the rows
+     * @return converter or {@code null} if column is not a factory column or converter is not set
+     */
+    @SuppressWarnings("unchecked")
+    public static <S> Function<S, ?> converter(TreeTableColumn<S, ?> column) {
+        return switch (column) {
+            case TreeTableValueColumn<S, ?> c -> c.getValueConverter();
+            case TreeTableStringColumn<?> c -> (Function<S, String>) c.getValueConverter();
+            case TreeTableObjectColumn<?> c -> (Function<S, ?>) c.getValueConverter();
+            default -> null;
+        };
+    }
+
+    private ColumnConverters() {
+    }
+}
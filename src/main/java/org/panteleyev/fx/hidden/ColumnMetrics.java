@@ -0,0 +1,274 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.hidden;
+
+import javafx.beans.value.ObservableValue;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableColumnBase;
+import javafx.scene.control.TreeTableColumn;
+import javafx.util.Callback;
+import jdk.jfr.FlightRecorder;
+import org.panteleyev.fx.table.TableMetrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.panteleyev.fx.table.TableMetrics.ENABLED;
+
+/**
+ * Counters of a factory column and instrumentation helpers. Helpers return their arguments unchanged when metrics are
+ * {@link TableMetrics#ENABLED disabled}, so disabled metrics cost nothing after columns are configured.
+ */
+public final class ColumnMetrics {
+    // Guarded by itself
+    private static final Map<TableColumnBase<?, ?>, ColumnMetrics> REGISTRY = new WeakHashMap<>();
+
+    // Metrics are also kept in column properties, so cells find them without locking
+    private static final String KEY = ColumnMetrics.class.getName();
+
+    // jdk.jfr is optional, JFR types must be loaded only when this flag is set
+    private static final boolean JFR_EVENTS = ENABLED && ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+    static {
+        if (JFR_EVENTS) {
+            FlightRecorder.addPeriodicEvent(ColumnMetricsEvent.class, ColumnMetrics::emitPeriodicEvents);
+        }
+    }
+
+    private final LongAdder converterCalls = new LongAdder();
+    private final LongAdder converterNanos = new LongAdder();
+    private final LongAdder cellValues = new LongAdder();
+    private final LongAdder updateItems = new LongAdder();
+    private final LongAdder comparatorCalls = new LongAdder();
+    private final LongAdder sorts = new LongAdder();
+    private final LongAdder sortNanos = new LongAdder();
+
+    ColumnMetrics() {
+    }
+
+    /**
+     * Returns metrics of the column creating them if necessary.
+     *
+     * @param column column
+     * @return column metrics
+     */
+    public static ColumnMetrics of(TableColumnBase<?, ?> column) {
+        synchronized (REGISTRY) {
+            return REGISTRY.computeIfAbsent(column, _ -> {
+                var metrics = new ColumnMetrics();
+                column.getProperties().put(KEY, metrics);
+                return metrics;
+            });
+        }
+    }
+
+    /**
+     * Returns metrics of the column.
+     *
+     * @param column column
+     * @return column metrics or {@code null} if column is not instrumented
+     */
+    public static ColumnMetrics get(TableColumnBase<?, ?> column) {
+        synchronized (REGISTRY) {
+            return REGISTRY.get(column);
+        }
+    }
+
+    /**
+     * Returns copy of the registry.
+     *
+     * @return metrics of reachable columns
+     */
+    public static Map<TableColumnBase<?, ?>, ColumnMetrics> registered() {
+        synchronized (REGISTRY) {
+            return Map.copyOf(REGISTRY);
+        }
+    }
+
+    //
+    // Instrumentation
+    //
+
+    /**
+     * Sets metered default cell factory and comparator of a newly created column.
+     */
+    public static <S, T> void install(TableColumn<S, T> column) {
+        if (ENABLED) {
+            var metrics = of(column);
+            column.setCellFactory(_ -> new MeteredTableCell<>());
+            column.setComparator(metrics.meterComparator(column.getComparator()));
+        }
+    }
+
+    /**
+     * Sets metered default cell factory and comparator of a newly created column.
+     */
+    public static <S, T> void install(TreeTableColumn<S, T> column) {
+        if (ENABLED) {
+            var metrics = of(column);
+            column.setCellFactory(_ -> new MeteredTreeTableCell<>());
+            column.setComparator(metrics.meterComparator(column.getComparator()));
+        }
+    }
+
+    public static <S, T> Function<S, T> converter(TableColumnBase<?, ?> column, Function<S, T> converter) {
+        return ENABLED ? of(column).meterConverter(converter) : converter;
+    }
+
+    public static <P, T> Callback<P, ObservableValue<T>> cellValueFactory(TableColumnBase<?, ?> column,
+            Callback<P, ObservableValue<T>> factory)
+    {
+        return ENABLED ? of(column).meterCellValueFactory(factory) : factory;
+    }
+
+    public static <T> Comparator<T> comparator(TableColumnBase<?, ?> column, Comparator<T> comparator) {
+        return ENABLED ? of(column).meterComparator(comparator) : comparator;
+    }
+
+    /**
+     * Counts {@code updateItem} call, must be guarded by {@link TableMetrics#ENABLED}.
+     */
+    public static void updateItem(TableColumnBase<?, ?> column) {
+        if (column != null && column.getProperties().get(KEY) instanceof ColumnMetrics metrics) {
+            metrics.updateItems.increment();
+        }
+    }
+
+    /**
+     * Runs sort and attributes its duration to the metered sort columns.
+     *
+     * @param sortOrder sort columns
+     * @param rows      number of sorted rows
+     * @param sort      sort
+     * @param <R>       the type of the sort result
+     * @return sort result
+     */
+    public static <R> R sort(List<? extends TableColumnBase<?, ?>> sortOrder, int rows, Supplier<R> sort) {
+        var columns = List.copyOf(sortOrder);
+        var metrics = new ArrayList<ColumnMetrics>(columns.size());
+        for (var column : columns) {
+            var m = get(column);
+            if (m != null) {
+                metrics.add(m);
+            }
+        }
+        var callsBefore = metrics.stream().mapToLong(m -> m.comparatorCalls.sum()).sum();
+
+        var event = JFR_EVENTS ? new TableSortEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        var start = System.nanoTime();
+        try {
+            return sort.get();
+        } finally {
+            var nanos = System.nanoTime() - start;
+            for (var m : metrics) {
+                m.sorts.increment();
+                m.sortNanos.add(nanos);
+            }
+            if (event != null) {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.columns = columns.stream().map(ColumnMetrics::name).collect(Collectors.joining(", "));
+                    event.rows = rows;
+                    event.comparatorCalls = metrics.stream().mapToLong(m -> m.comparatorCalls.sum()).sum()
+                            - callsBefore;
+                    event.commit();
+                }
+            }
+        }
+    }
+
+    //
+    // Meters
+    //
+
+    <S, T> Function<S, T> meterConverter(Function<S, T> converter) {
+        return row -> {
+            var start = System.nanoTime();
+            try {
+                return converter.apply(row);
+            } finally {
+                converterNanos.add(System.nanoTime() - start);
+                converterCalls.increment();
+            }
+        };
+    }
+
+    <P, T> Callback<P, ObservableValue<T>> meterCellValueFactory(Callback<P, ObservableValue<T>> factory) {
+        return p -> {
+            cellValues.increment();
+            return factory.call(p);
+        };
+    }
+
+    <T> Comparator<T> meterComparator(Comparator<T> comparator) {
+        if (comparator == null) {
+            return null;
+        }
+        return (o1, o2) -> {
+            comparatorCalls.increment();
+            return comparator.compare(o1, o2);
+        };
+    }
+
+    //
+    // Values
+    //
+
+    public TableMetrics.ColumnStats stats(TableColumnBase<?, ?> column) {
+        return new TableMetrics.ColumnStats(
+                name(column),
+                converterCalls.sum(),
+                Duration.ofNanos(converterNanos.sum()),
+                cellValues.sum(),
+                updateItems.sum(),
+                comparatorCalls.sum(),
+                sorts.sum(),
+                Duration.ofNanos(sortNanos.sum())
+        );
+    }
+
+    public void reset() {
+        converterCalls.reset();
+        converterNanos.reset();
+        cellValues.reset();
+        updateItems.reset();
+        comparatorCalls.reset();
+        sorts.reset();
+        sortNanos.reset();
+    }
+
+    static String name(TableColumnBase<?, ?> column) {
+        var text = column.getText();
+        if (text != null && !text.isEmpty()) {
+            return text;
+        }
+        return Objects.requireNonNullElse(column.getId(), "");
+    }
+
+    private static void emitPeriodicEvents() {
+        registered().forEach((column, metrics) -> {
+            var event = new ColumnMetricsEvent();
+            event.column = name(column);
+            event.converterCalls = metrics.converterCalls.sum();
+            event.converterTime = metrics.converterNanos.sum();
+            event.cellValues = metrics.cellValues.sum();
+            event.updateItems = metrics.updateItems.sum();
+            event.comparatorCalls = metrics.comparatorCalls.sum();
+            event.sorts = metrics.sorts.sum();
+            event.sortTime = metrics.sortNanos.sum();
+            event.commit();
+        });
+    }
+}
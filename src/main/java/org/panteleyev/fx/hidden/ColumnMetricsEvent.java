@@ -0,0 +1,48 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.hidden;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Periodic event with cumulative counters of a factory column.
+ */
+@Name("org.panteleyev.fx.ColumnMetrics")
+@Label("Table Column Metrics")
+@Description("Cumulative counters of a table column")
+@Category({"JavaFX", "Table"})
+@Period("1 s")
+@StackTrace(false)
+final class ColumnMetricsEvent extends jdk.jfr.Event {
+    @Label("Column")
+    String column;
+
+    @Label("Converter Calls")
+    long converterCalls;
+
+    @Label("Converter Time")
+    @Timespan
+    long converterTime;
+
+    @Label("Cell Values")
+    long cellValues;
+
+    @Label("Update Item Calls")
+    long updateItems;
+
+    @Label("Comparator Calls")
+    long comparatorCalls;
+
+    @Label("Sorts")
+    long sorts;
+
+    @Label("Sort Time")
+    @Timespan
+    long sortTime;
+}
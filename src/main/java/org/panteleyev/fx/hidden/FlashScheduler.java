@@ -0,0 +1,103 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.hidden;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.Node;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.function.LongSupplier;
+
+/**
+ * Temporarily adds style class to nodes. All flashes share a single {@link AnimationTimer} that runs only while there
+ * are active flashes. Methods of this class must be called on the JavaFX application thread.
+ */
+public final class FlashScheduler {
+    private record Flash(Node node, String styleClass, String key, long expiry) {
+    }
+
+    private static final String KEY_PREFIX = FlashScheduler.class.getName() + ".";
+
+    public static final FlashScheduler FLASH_SCHEDULER = new FlashScheduler();
+
+    private final PriorityQueue<Flash> queue = new PriorityQueue<>(Comparator.comparingLong(Flash::expiry));
+    private final LongSupplier clock;
+    // Null in tests, pulses are simulated by calling onPulse()
+    private final AnimationTimer timer;
+    private boolean running = false;
+
+    private FlashScheduler() {
+        this.clock = System::nanoTime;
+        this.timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                onPulse();
+            }
+        };
+    }
+
+    FlashScheduler(LongSupplier clock) {
+        this.clock = clock;
+        this.timer = null;
+    }
+
+    /**
+     * Adds style class to the node and schedules its removal. Repeated flash extends the active one.
+     *
+     * @param node       node
+     * @param styleClass style class
+     * @param duration   flash duration
+     */
+    public void flash(Node node, String styleClass, Duration duration) {
+        var key = KEY_PREFIX + styleClass;
+        var expiry = clock.getAsLong() + duration.toNanos();
+        node.getProperties().put(key, expiry);
+        if (!node.getStyleClass().contains(styleClass)) {
+            node.getStyleClass().add(styleClass);
+        }
+        queue.add(new Flash(node, styleClass, key, expiry));
+        if (!running) {
+            running = true;
+            if (timer != null) {
+                timer.start();
+            }
+        }
+    }
+
+    /**
+     * Removes style class immediately if it was added by {@link #flash(Node, String, Duration)}.
+     *
+     * @param node       node
+     * @param styleClass style class
+     */
+    public void cancel(Node node, String styleClass) {
+        if (node.getProperties().remove(KEY_PREFIX + styleClass) != null) {
+            node.getStyleClass().remove(styleClass);
+        }
+    }
+
+    boolean isRunning() {
+        return running;
+    }
+
+    void onPulse() {
+        var now = clock.getAsLong();
+        while (!queue.isEmpty() && queue.peek().expiry() <= now) {
+            var flash = queue.poll();
+            var properties = flash.node().getProperties();
+            // Node could have been flashed again or cancelled since this entry was scheduled
+            if (properties.get(flash.key()) instanceof Long expiry && expiry == flash.expiry()) {
+                properties.remove(flash.key());
+                flash.node().getStyleClass().remove(flash.styleClass());
+            }
+        }
+        if (queue.isEmpty()) {
+            running = false;
+            if (timer != null) {
+                timer.stop();
+            }
+        }
+    }
+}
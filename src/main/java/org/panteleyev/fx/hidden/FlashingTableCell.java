@@ -0,0 +1,85 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.hidden;
+
+import javafx.scene.Node;
+import javafx.scene.control.TableCell;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Function;
+
+import static org.panteleyev.fx.hidden.FlashScheduler.FLASH_SCHEDULER;
+import static org.panteleyev.fx.table.TableMetrics.ENABLED;
+
+/**
+ * Table cell that flashes style class when displayed value of the same row changes.
+ *
+ * @param <S> the type of the table rows
+ * @param <T> the type of the cell value
+ */
+public final class FlashingTableCell<S, T> extends TableCell<S, T> {
+    private final Function<T, String> formatter;
+    private final ChangeTracker<T> tracker;
+
+    public FlashingTableCell(String styleClass, Duration duration, Function<T, String> formatter) {
+        this.formatter = formatter;
+        this.tracker = new ChangeTracker<>(this, FLASH_SCHEDULER, styleClass, duration);
+    }
+
+    @Override
+    protected void updateItem(T item, boolean empty) {
+        if (ENABLED) {
+            ColumnMetrics.updateItem(getTableColumn());
+        }
+        super.updateItem(item, empty);
+
+        var tableRow = getTableRow();
+        var row = empty || tableRow == null ? null : tableRow.getItem();
+
+        if (empty) {
+            setText(null);
+        } else {
+            setText(item == null ? "" : formatter.apply(item));
+        }
+
+        tracker.update(row, item);
+    }
+
+    /**
+     * Flashes the node when value of the same row changes and cancels the flash when the node is reused for another
+     * row.
+     *
+     * @param <T> the type of the value
+     */
+    static final class ChangeTracker<T> {
+        private final Node node;
+        private final FlashScheduler scheduler;
+        private final String styleClass;
+        private final Duration duration;
+
+        private Object lastRow;
+        private T lastValue;
+
+        ChangeTracker(Node node, FlashScheduler scheduler, String styleClass, Duration duration) {
+            this.node = node;
+            this.scheduler = scheduler;
+            this.styleClass = styleClass;
+            this.duration = duration;
+        }
+
+        void update(Object row, T value) {
+            if (row != null && row == lastRow) {
+                if (!Objects.equals(value, lastValue)) {
+                    scheduler.flash(node, styleClass, duration);
+                }
+            } else {
+                // Cell was reused for another row
+                scheduler.cancel(node, styleClass);
+            }
+
+            lastRow = row;
+            lastValue = value;
+        }
+    }
+}
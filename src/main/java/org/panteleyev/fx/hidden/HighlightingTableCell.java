@@ -0,0 +1,120 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.hidden;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
+import javafx.beans.binding.Bindings;
+import javafx.beans.binding.ObjectBinding;
+import javafx.scene.control.TableCell;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextFlow;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.panteleyev.fx.table.TableMetrics.ENABLED;
+
+/**
+ * Table cell that displays matches of the query in bold. Match ranges are taken from the shared {@link MatchRanges}
+ * cache. Cells without matches display plain text, cells with matches display {@link TextFlow} of {@link Text} nodes
+ * that are reused between updates.
+ *
+ * @param <S> the type of the table rows
+ */
+public final class HighlightingTableCell<S> extends TableCell<S, String> {
+    private final MatchRanges matches;
+    private final InvalidationListener queryListener = _ -> render();
+
+    // Created on first match
+    private TextFlow flow;
+    private ObjectBinding<Font> boldFont;
+    private final List<Text> pool = new ArrayList<>();
+    private final BitSet bold = new BitSet();
+
+    public HighlightingTableCell(MatchRanges matches) {
+        this.matches = matches;
+        matches.query().addListener(new WeakInvalidationListener(queryListener));
+    }
+
+    @Override
+    protected void updateItem(String item, boolean empty) {
+        if (ENABLED) {
+            ColumnMetrics.updateItem(getTableColumn());
+        }
+        super.updateItem(item, empty);
+        render();
+    }
+
+    private void render() {
+        var item = getItem();
+        if (isEmpty() || item == null) {
+            setText(null);
+            setGraphic(null);
+            return;
+        }
+
+        var ranges = matches.ranges(item);
+        if (ranges.length == 0) {
+            setText(item);
+            setGraphic(null);
+            return;
+        }
+
+        var count = 0;
+        var position = 0;
+        for (int i = 0; i < ranges.length; i += 2) {
+            if (ranges[i] > position) {
+                segment(count++, item.substring(position, ranges[i]), false);
+            }
+            segment(count++, item.substring(ranges[i], ranges[i + 1]), true);
+            position = ranges[i + 1];
+        }
+        if (position < item.length()) {
+            segment(count++, item.substring(position), false);
+        }
+
+        if (flow == null) {
+            flow = new TextFlow();
+        }
+        var children = flow.getChildren();
+        if (children.size() > count) {
+            children.remove(count, children.size());
+        }
+        for (int i = children.size(); i < count; i++) {
+            children.add(pool.get(i));
+        }
+        setText(null);
+        setGraphic(flow);
+    }
+
+    private void segment(int index, String text, boolean match) {
+        if (index == pool.size()) {
+            var node = new Text();
+            node.fillProperty().bind(textFillProperty());
+            node.fontProperty().bind(fontProperty());
+            pool.add(node);
+        }
+
+        var node = pool.get(index);
+        node.setText(text);
+        if (bold.get(index) != match) {
+            bold.set(index, match);
+            node.fontProperty().unbind();
+            node.fontProperty().bind(match ? boldFont() : fontProperty());
+        }
+    }
+
+    private ObjectBinding<Font> boldFont() {
+        if (boldFont == null) {
+            boldFont = Bindings.createObjectBinding(() -> {
+                var font = getFont();
+                return Font.font(font.getFamily(), FontWeight.BOLD, font.getSize());
+            }, fontProperty());
+        }
+        return boldFont;
+    }
+}
@@ -0,0 +1,91 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.hidden;
+
+import javafx.beans.value.ObservableValue;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded least recently used cache of case-insensitive match ranges of the current query per cell text. Cache is
+ * cleared when query changes. Must be used on the JavaFX application thread.
+ */
+public final class MatchRanges {
+    public static final int DEFAULT_CAPACITY = 16_384;
+
+    private static final int[] NONE = new int[0];
+
+    private final ObservableValue<String> query;
+    private final LinkedHashMap<String, int[]> cache;
+    private String cachedQuery;
+
+    public MatchRanges(ObservableValue<String> query, int capacity) {
+        this.query = query;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, int[]> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    public ObservableValue<String> query() {
+        return query;
+    }
+
+    /**
+     * Returns match ranges of the current query in the text as pairs of start inclusive and end exclusive offsets.
+     * Returned array must not be modified.
+     *
+     * @param text text
+     * @return match ranges, empty array if there are no matches
+     */
+    public int[] ranges(String text) {
+        var q = query.getValue();
+        if (text == null || q == null || q.isEmpty()) {
+            return NONE;
+        }
+        if (!q.equals(cachedQuery)) {
+            cache.clear();
+            cachedQuery = q;
+        }
+        var ranges = cache.get(text);
+        if (ranges == null) {
+            ranges = compute(text, q);
+            cache.put(text, ranges);
+        }
+        return ranges;
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Finds non-overlapping case-insensitive matches.
+     *
+     * @param text  text
+     * @param query non-empty query
+     * @return match ranges
+     */
+    static int[] compute(String text, String query) {
+        var length = query.length();
+        int[] ranges = null;
+        var count = 0;
+        for (int i = 0, last = text.length() - length; i <= last; i++) {
+            if (text.regionMatches(true, i, query, 0, length)) {
+                if (ranges == null) {
+                    ranges = new int[4];
+                } else if (count == ranges.length) {
+                    ranges = Arrays.copyOf(ranges, count * 2);
+                }
+                ranges[count++] = i;
+                ranges[count++] = i + length;
+                i += length - 1;
+            }
+        }
+        return ranges == null ? NONE : Arrays.copyOf(ranges, count);
+    }
+}
@@ -0,0 +1,38 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.hidden;
+
+import javafx.scene.Node;
+import javafx.scene.control.TableCell;
+
+import static org.panteleyev.fx.table.TableMetrics.ENABLED;
+
+/**
+ * Table cell that behaves like the default cell of {@link javafx.scene.control.TableColumn} and counts
+ * {@code updateItem} calls.
+ *
+ * @param <S> the type of the table rows
+ * @param <T> the type of the cell value
+ */
+public final class MeteredTableCell<S, T> extends TableCell<S, T> {
+    @Override
+    protected void updateItem(T item, boolean empty) {
+        if (ENABLED) {
+            ColumnMetrics.updateItem(getTableColumn());
+        }
+        if (item == getItem()) return;
+
+        super.updateItem(item, empty);
+
+        if (item == null) {
+            setText(null);
+            setGraphic(null);
+        } else if (item instanceof Node node) {
+            setText(null);
+            setGraphic(node);
+        } else {
+            setText(item.toString());
+            setGraphic(null);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.hidden;
+
+import javafx.scene.Node;
+import javafx.scene.control.TreeTableCell;
+
+import static org.panteleyev.fx.table.TableMetrics.ENABLED;
+
+/**
+ * Tree table cell that behaves like the default cell of {@link javafx.scene.control.TreeTableColumn} and counts
+ * {@code updateItem} calls.
+ *
+ * @param <S> the type of the tree table items
+ * @param <T> the type of the cell value
+ */
+public final class MeteredTreeTableCell<S, T> extends TreeTableCell<S, T> {
+    @Override
+    protected void updateItem(T item, boolean empty) {
+        if (ENABLED) {
+            ColumnMetrics.updateItem(getTableColumn());
+        }
+        if (item == getItem()) return;
+
+        super.updateItem(item, empty);
+
+        if (item == null) {
+            setText(null);
+            setGraphic(null);
+        } else if (item instanceof Node node) {
+            setText(null);
+            setGraphic(node);
+        } else {
+            setText(item.toString());
+            setGraphic(null);
+        }
+    }
+}
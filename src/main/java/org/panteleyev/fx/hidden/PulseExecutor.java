@@ -0,0 +1,66 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.hidden;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Executes tasks on the JavaFX application thread at the next pulse. Tasks can be submitted from any thread, all tasks
+ * submitted before the pulse are executed in the same pulse.
+ */
+public final class PulseExecutor implements Executor {
+    public static final PulseExecutor PULSE_EXECUTOR = new PulseExecutor();
+
+    private final ConcurrentLinkedQueue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    // Accessed on the JavaFX application thread only
+    private AnimationTimer timer;
+
+    private PulseExecutor() {
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        queue.add(task);
+        if (scheduled.compareAndSet(false, true)) {
+            Platform.runLater(this::start);
+        }
+    }
+
+    private void start() {
+        if (timer == null) {
+            timer = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    onPulse();
+                }
+            };
+        }
+        timer.start();
+    }
+
+    private void onPulse() {
+        // Tasks submitted during this pulse are executed at the next one
+        for (int count = queue.size(); count > 0; count--) {
+            var task = queue.poll();
+            if (task == null) {
+                break;
+            }
+            task.run();
+        }
+
+        if (queue.isEmpty()) {
+            timer.stop();
+            scheduled.set(false);
+            if (!queue.isEmpty() && scheduled.compareAndSet(false, true)) {
+                timer.start();
+            }
+        }
+    }
+}
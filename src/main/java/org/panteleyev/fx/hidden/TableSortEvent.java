@@ -0,0 +1,26 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.hidden;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Event emitted for each sort of an instrumented table.
+ */
+@Name("org.panteleyev.fx.TableSort")
+@Label("Table Sort")
+@Description("Sort of table rows by sort policy")
+@Category({"JavaFX", "Table"})
+final class TableSortEvent extends jdk.jfr.Event {
+    @Label("Columns")
+    String columns;
+
+    @Label("Rows")
+    int rows;
+
+    @Label("Comparator Calls")
+    long comparatorCalls;
+}
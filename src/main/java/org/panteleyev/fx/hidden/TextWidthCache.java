@@ -0,0 +1,73 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.hidden;
+
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToDoubleBiFunction;
+
+/**
+ * Bounded least recently used cache of text widths per font and string. Must be used on the JavaFX application thread.
+ */
+public final class TextWidthCache {
+    public static final int DEFAULT_CAPACITY = 16_384;
+
+    /**
+     * Shared cache that uses {@link #measure(Font, String)}.
+     */
+    public static final TextWidthCache TEXT_WIDTH_CACHE = new TextWidthCache(TextWidthCache::measure, DEFAULT_CAPACITY);
+
+    private record Key(Font font, String text) {
+    }
+
+    private static Text measuringText;
+
+    private final ToDoubleBiFunction<Font, String> measurer;
+    private final LinkedHashMap<Key, Double> cache;
+
+    public TextWidthCache(ToDoubleBiFunction<Font, String> measurer, int capacity) {
+        this.measurer = measurer;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Double> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    public double width(Font font, String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        var key = new Key(font, text);
+        var width = cache.get(key);
+        if (width == null) {
+            width = measurer.applyAsDouble(font, text);
+            cache.put(key, width);
+        }
+        return width;
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Measures text width with a shared {@link Text} node.
+     *
+     * @param font font, {@code null} means default font
+     * @param text text
+     * @return text width
+     */
+    public static double measure(Font font, String text) {
+        if (measuringText == null) {
+            measuringText = new Text();
+        }
+        measuringText.setFont(font == null ? Font.getDefault() : font);
+        measuringText.setText(text);
+        return measuringText.getLayoutBounds().getWidth();
+    }
+}
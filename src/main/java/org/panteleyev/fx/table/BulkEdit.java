@@ -0,0 +1,614 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.table;
+
+import javafx.application.Platform;
+import javafx.collections.ObservableList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * This class pastes tab separated text into table rows and edits rows in bulk.
+ * <p>
+ * Rows are treated as immutable values: each edit column has a parser that converts text to a value and a wither that
+ * returns a copy of the row with the new value. Text is split into records on the calling thread, records are parsed
+ * and converted in parallel chunks on the {@link #executor(Executor) executor}. The result is delivered to the JavaFX
+ * application thread with all validation errors collected, nothing is changed until the result is
+ * {@link Result#commit() committed}.
+ * <p>
+ * Commit replaces edited rows with a single list change: {@link KeyedObservableList#reconcile(Collection)} for keyed
+ * lists, {@link ObservableList#setAll(Collection)} otherwise. The returned {@link Edit} undoes and redoes the whole
+ * commit as one step.
+ * <p>
+ * Text follows the spreadsheet clipboard format: records are separated by line feed with optional carriage return,
+ * fields by tab, and fields that start with a quote are quoted according to RFC 4180 and may contain tabs and line
+ * breaks.
+ * <p>
+ * Parsers, withers and validator must be thread-safe. Other methods must be called on the JavaFX application thread.
+ * <p>
+ * <strong>Example:</strong>
+ * {@snippet lang = java:
+ * var edit = bulkEdit(tableView.getItems())
+ *     .column(String::trim, Account::withName)
+ *     .column(BigDecimal::new, Account::withBalance);
+ * edit.paste(Clipboard.getSystemClipboard().getString(), tableView.getSelectionModel().getSelectedIndex(), 0)
+ *     .thenAccept(result -> {
+ *         if (result.isValid()) {
+ *             undoStack.push(result.commit());
+ *         } else {
+ *             showErrors(result.errors());
+ *         }
+ *     });
+ *}
+ *
+ * @param <S> the type of the rows
+ */
+public final class BulkEdit<S> {
+    /**
+     * Validation error.
+     *
+     * @param row     row index, {@code -1} for errors of the value of {@link #fill(Collection, int, String) fill}
+     * @param column  edit column index, {@code -1} for errors of the whole row
+     * @param message error message
+     */
+    public record ValidationError(int row, int column, String message) {
+    }
+
+    private record Column<S, T>(Function<String, ? extends T> parser,
+                                BiFunction<? super S, ? super T, ? extends S> wither)
+    {
+        S apply(S row, String text) {
+            return wither.apply(row, parser.apply(text));
+        }
+    }
+
+    static final int CHUNK_SIZE = 2_048;
+
+    private final ObservableList<S> items;
+    private final List<Column<S, ?>> columns = new ArrayList<>();
+    private final Executor fxExecutor;
+
+    private Executor executor = ForkJoinPool.commonPool();
+    private Supplier<? extends S> rowFactory;
+    private Function<? super S, String> validator;
+
+    BulkEdit(ObservableList<S> items, Executor fxExecutor) {
+        this.items = items;
+        this.fxExecutor = fxExecutor;
+    }
+
+    /**
+     * Creates bulk edit of the list without columns.
+     *
+     * @param items list of rows, usually table items
+     * @param <S>   the type of the rows
+     * @return bulk edit
+     * @throws NullPointerException if {@code items} is {@code null}
+     */
+    public static <S> BulkEdit<S> bulkEdit(ObservableList<S> items) {
+        requireNonNull(items, "Items must not be null");
+        return new BulkEdit<>(items, Platform::runLater);
+    }
+
+    /**
+     * Adds edit column. Columns are filled from text fields in the order of addition.
+     *
+     * @param parser function that converts field text to value, exception message becomes validation error
+     * @param wither function that returns copy of the row with the new value
+     * @param <T>    the type of the values
+     * @return this bulk edit
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public <T> BulkEdit<S> column(Function<String, ? extends T> parser,
+            BiFunction<? super S, ? super T, ? extends S> wither)
+    {
+        requireNonNull(parser, "Parser must not be null");
+        requireNonNull(wither, "Wither must not be null");
+        columns.add(new Column<>(parser, wither));
+        return this;
+    }
+
+    /**
+     * Sets factory of new rows. When set, records pasted below the last row are appended to the list, otherwise they
+     * are reported as errors.
+     *
+     * @param rowFactory factory of new rows, {@code null} to disable appending
+     * @return this bulk edit
+     */
+    public BulkEdit<S> rowFactory(Supplier<? extends S> rowFactory) {
+        this.rowFactory = rowFactory;
+        return this;
+    }
+
+    /**
+     * Sets validator of edited rows.
+     *
+     * @param validator function that returns error message or {@code null} if row is valid
+     * @return this bulk edit
+     */
+    public BulkEdit<S> validator(Function<? super S, String> validator) {
+        this.validator = validator;
+        return this;
+    }
+
+    /**
+     * Sets executor of parsing chunks, default is the common fork-join pool.
+     *
+     * @param executor executor
+     * @return this bulk edit
+     * @throws NullPointerException if {@code executor} is {@code null}
+     */
+    public BulkEdit<S> executor(Executor executor) {
+        this.executor = requireNonNull(executor, "Executor must not be null");
+        return this;
+    }
+
+    /**
+     * Parses tab separated text into rows starting from the specified position. Fields that do not fit into edit
+     * columns are ignored, missing fields leave values unchanged.
+     *
+     * @param text   tab separated text
+     * @param row    index of the first row
+     * @param column index of the first edit column
+     * @return future completed with result on the JavaFX application thread
+     * @throws NullPointerException      if {@code text} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code row} is negative or greater than list size, or {@code column} is
+     *                                   not a valid edit column index
+     */
+    public CompletableFuture<Result<S>> paste(String text, int row, int column) {
+        requireNonNull(text, "Text must not be null");
+        checkIndex(row, items.size() + 1);
+        checkIndex(column, columns.size());
+
+        var snapshot = List.copyOf(items);
+        var editColumns = List.copyOf(columns);
+        var records = records(text);
+        var count = records.length - 1;
+        var indices = new int[count];
+        Arrays.setAll(indices, i -> row + i);
+
+        return edit(snapshot, indices, (start, end) -> {
+            var fields = new String[end - start][];
+            for (int r = start; r < end; r++) {
+                fields[r - start] = fields(text, records[r], records[r + 1]);
+            }
+            return (r, base, errors) -> {
+                var values = fields[r - start];
+                var edited = base;
+                for (int f = 0; f < values.length && column + f < editColumns.size(); f++) {
+                    try {
+                        edited = editColumns.get(column + f).apply(edited, values[f]);
+                    } catch (RuntimeException ex) {
+                        errors.add(new ValidationError(indices[r], column + f, ex.getMessage()));
+                        return null;
+                    }
+                }
+                return edited;
+            };
+        });
+    }
+
+    /**
+     * Sets the same value to the column of all specified rows. Text is parsed once on the calling thread, the parsed
+     * value is passed to the wither for each row, so it must not be modified by withers. Parse error is reported once
+     * with row index {@code -1}.
+     *
+     * @param rows   indices of rows
+     * @param column edit column index
+     * @param text   value text
+     * @return future completed with result on the JavaFX application thread
+     * @throws NullPointerException      if any argument is {@code null}
+     * @throws IndexOutOfBoundsException if any row index or {@code column} is out of range
+     */
+    public CompletableFuture<Result<S>> fill(Collection<Integer> rows, int column, String text) {
+        requireNonNull(rows, "Rows must not be null");
+        requireNonNull(text, "Text must not be null");
+        checkIndex(column, columns.size());
+
+        var snapshot = List.copyOf(items);
+        var indices = rows.stream().mapToInt(Integer::intValue).sorted().distinct().toArray();
+        for (var index : indices) {
+            checkIndex(index, snapshot.size());
+        }
+
+        return fill(snapshot, indices, column, columns.get(column), text);
+    }
+
+    private <T> CompletableFuture<Result<S>> fill(List<S> snapshot, int[] indices, int column, Column<S, T> editColumn,
+            String text)
+    {
+        T value;
+        try {
+            value = editColumn.parser().apply(text);
+        } catch (RuntimeException ex) {
+            var errors = new ArrayList<ValidationError>();
+            errors.add(new ValidationError(-1, column, ex.getMessage()));
+            return CompletableFuture.supplyAsync(
+                    () -> new Result<>(items, snapshot, indices, new Object[indices.length], errors), fxExecutor);
+        }
+
+        return edit(snapshot, indices, (_, _) -> (r, base, errors) -> {
+            try {
+                return editColumn.wither().apply(base, value);
+            } catch (RuntimeException ex) {
+                errors.add(new ValidationError(indices[r], column, ex.getMessage()));
+                return null;
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface ChunkParser<S> {
+        RowEditor<S> parse(int start, int end);
+    }
+
+    @FunctionalInterface
+    private interface RowEditor<S> {
+        S edit(int r, S base, List<ValidationError> errors);
+    }
+
+    private record Chunk<S>(Object[] rows, List<ValidationError> errors) {
+    }
+
+    private CompletableFuture<Result<S>> edit(List<S> snapshot, int[] indices, ChunkParser<S> parser) {
+        var factory = rowFactory;
+        var rowValidator = validator;
+
+        var chunks = new ArrayList<CompletableFuture<Chunk<S>>>();
+        for (int start = 0; start < indices.length; start += CHUNK_SIZE) {
+            var from = start;
+            var to = Math.min(indices.length, start + CHUNK_SIZE);
+            chunks.add(CompletableFuture.supplyAsync(() -> {
+                var editor = parser.parse(from, to);
+                var rows = new Object[to - from];
+                var errors = new ArrayList<ValidationError>();
+                for (int r = from; r < to; r++) {
+                    var index = indices[r];
+                    S base;
+                    if (index < snapshot.size()) {
+                        base = snapshot.get(index);
+                    } else if (factory != null) {
+                        base = factory.get();
+                    } else {
+                        errors.add(new ValidationError(index, -1, "No row to paste into"));
+                        continue;
+                    }
+
+                    var edited = editor.edit(r, base, errors);
+                    if (edited == null) {
+                        continue;
+                    }
+                    var message = rowValidator == null ? null : rowValidator.apply(edited);
+                    if (message != null) {
+                        errors.add(new ValidationError(index, -1, message));
+                    } else {
+                        rows[r - from] = edited;
+                    }
+                }
+                return new Chunk<>(rows, errors);
+            }, executor));
+        }
+
+        return CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).thenApplyAsync(_ -> {
+            var edited = new Object[indices.length];
+            var errors = new ArrayList<ValidationError>();
+            var pos = 0;
+            for (var chunk : chunks) {
+                var result = chunk.join();
+                System.arraycopy(result.rows(), 0, edited, pos, result.rows().length);
+                pos += result.rows().length;
+                errors.addAll(result.errors());
+            }
+            return new Result<>(items, snapshot, indices, edited, errors);
+        }, fxExecutor);
+    }
+
+    /**
+     * Result of parsing and validation.
+     *
+     * @param <S> the type of the rows
+     */
+    public static final class Result<S> {
+        private final ObservableList<S> items;
+        private final List<S> snapshot;
+        private final int[] indices;
+        private final Object[] edited;
+        private final List<ValidationError> errors;
+        private boolean committed = false;
+
+        private Result(ObservableList<S> items, List<S> snapshot, int[] indices, Object[] edited,
+                List<ValidationError> errors)
+        {
+            this.items = items;
+            this.snapshot = snapshot;
+            this.indices = indices;
+            this.edited = edited;
+            errors.sort((e1, e2) -> e1.row() != e2.row()
+                    ? Integer.compare(e1.row(), e2.row())
+                    : Integer.compare(e1.column(), e2.column()));
+            this.errors = Collections.unmodifiableList(errors);
+        }
+
+        /**
+         * Returns validation errors sorted by row and column.
+         *
+         * @return unmodifiable list of errors
+         */
+        public List<ValidationError> errors() {
+            return errors;
+        }
+
+        /**
+         * Checks if there are no validation errors.
+         *
+         * @return {@code true} if result can be committed
+         */
+        public boolean isValid() {
+            return errors.isEmpty();
+        }
+
+        /**
+         * Returns number of edited rows including appended ones.
+         *
+         * @return number of rows
+         */
+        public int rowCount() {
+            return indices.length;
+        }
+
+        /**
+         * Applies edited rows as a single list change. Result can be committed only once.
+         *
+         * @return edit that can be undone
+         * @throws IllegalStateException if there are validation errors, result was already committed, or list was
+         *                               modified after editing started
+         */
+        public Edit<S> commit() {
+            if (!isValid()) {
+                throw new IllegalStateException("Result has validation errors");
+            }
+            if (committed) {
+                throw new IllegalStateException("Result is already committed");
+            }
+            if (!Edit.matches(items, snapshot.size(), indices, snapshot, null)) {
+                throw new IllegalStateException("Items were modified");
+            }
+
+            var before = new Object[indices.length];
+            for (int i = 0; i < indices.length; i++) {
+                before[i] = indices[i] < snapshot.size() ? snapshot.get(indices[i]) : null;
+            }
+            var edit = new Edit<>(items, snapshot.size(), indices, before, edited);
+            edit.redo();
+            committed = true;
+            return edit;
+        }
+    }
+
+    /**
+     * Committed edit. Undo and redo apply rows as a single list change.
+     *
+     * @param <S> the type of the rows
+     */
+    public static final class Edit<S> {
+        private final ObservableList<S> items;
+        private final int originalSize;
+        private final int[] indices;
+        private final Object[] before;
+        private final Object[] after;
+        private final int appended;
+        private boolean done = false;
+
+        private Edit(ObservableList<S> items, int originalSize, int[] indices, Object[] before, Object[] after) {
+            this.items = items;
+            this.originalSize = originalSize;
+            this.indices = indices;
+            this.before = before;
+            this.after = after;
+            this.appended = (int) Arrays.stream(indices).filter(i -> i >= originalSize).count();
+        }
+
+        /**
+         * Checks if edit is applied.
+         *
+         * @return {@code true} if edit is applied, {@code false} if it is undone
+         */
+        public boolean isDone() {
+            return done;
+        }
+
+        /**
+         * Restores rows replaced by the edit and removes appended rows.
+         *
+         * @throws IllegalStateException if edit is already undone or edited rows were modified
+         */
+        public void undo() {
+            if (!done) {
+                throw new IllegalStateException("Edit is already undone");
+            }
+            if (!matches(items, originalSize + appended, indices, null, after)) {
+                throw new IllegalStateException("Items were modified");
+            }
+            var content = new ArrayList<S>(items.subList(0, originalSize));
+            for (int i = 0; i < indices.length && indices[i] < originalSize; i++) {
+                content.set(indices[i], cast(before[i]));
+            }
+            apply(content);
+            done = false;
+        }
+
+        /**
+         * Applies the edit again after {@link #undo()}.
+         *
+         * @throws IllegalStateException if edit is already applied or edited rows were modified
+         */
+        public void redo() {
+            if (done) {
+                throw new IllegalStateException("Edit is already applied");
+            }
+            if (!matches(items, originalSize, indices, null, before)) {
+                throw new IllegalStateException("Items were modified");
+            }
+            var content = new ArrayList<S>(items.size() + appended);
+            content.addAll(items);
+            for (int i = 0; i < indices.length; i++) {
+                if (indices[i] < originalSize) {
+                    content.set(indices[i], cast(after[i]));
+                } else {
+                    content.add(cast(after[i]));
+                }
+            }
+            apply(content);
+            done = true;
+        }
+
+        private void apply(List<S> content) {
+            if (items instanceof KeyedObservableList<?, S> keyed) {
+                keyed.reconcile(content);
+            } else {
+                items.setAll(content);
+            }
+        }
+
+        /**
+         * Checks that list has expected size and rows at the edited positions are the expected ones. Rows are
+         * compared by identity, positions beyond the expected size are ignored when rows are taken from the list
+         * snapshot.
+         */
+        static <S> boolean matches(List<S> items, int size, int[] indices, List<S> snapshot, Object[] rows) {
+            if (items.size() != size) {
+                return false;
+            }
+            for (int i = 0; i < indices.length; i++) {
+                var index = indices[i];
+                if (index >= size) {
+                    continue;
+                }
+                var expected = snapshot != null ? snapshot.get(index) : rows[i];
+                if (items.get(index) != expected) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <S> S cast(Object row) {
+            return (S) row;
+        }
+    }
+
+    /**
+     * Finds record boundaries. Returns array of record start offsets followed by the text length. Line breaks inside
+     * quoted fields do not separate records, trailing line break does not start an empty record.
+     */
+    static int[] records(String text) {
+        var length = text.length();
+        if (length == 0) {
+            return new int[]{0};
+        }
+
+        var starts = new int[64];
+        var count = 0;
+        starts[count++] = 0;
+
+        var quoted = false;
+        var fieldStart = true;
+        for (int i = 0; i < length; i++) {
+            var ch = text.charAt(i);
+            if (quoted) {
+                if (ch == '"') {
+                    if (i + 1 < length && text.charAt(i + 1) == '"') {
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                }
+                fieldStart = false;
+            } else if (ch == '"' && fieldStart) {
+                quoted = true;
+                fieldStart = false;
+            } else if (ch == '\n') {
+                if (count == starts.length) {
+                    starts = Arrays.copyOf(starts, count * 2);
+                }
+                starts[count++] = i + 1;
+                fieldStart = true;
+            } else {
+                fieldStart = ch == '\t';
+            }
+        }
+
+        if (starts[count - 1] == length) {
+            count--;
+        }
+        var result = Arrays.copyOf(starts, count + 1);
+        result[count] = length;
+        return result;
+    }
+
+    /**
+     * Splits record into fields. Record may end with line break.
+     */
+    static String[] fields(String text, int from, int to) {
+        if (to > from && text.charAt(to - 1) == '\n') {
+            to--;
+        }
+        if (to > from && text.charAt(to - 1) == '\r') {
+            to--;
+        }
+
+        var fields = new ArrayList<String>();
+        var i = from;
+        while (true) {
+            if (i < to && text.charAt(i) == '"') {
+                var value = new StringBuilder();
+                i++;
+                while (i < to) {
+                    var ch = text.charAt(i++);
+                    if (ch == '"') {
+                        if (i < to && text.charAt(i) == '"') {
+                            i++;
+                        } else {
+                            break;
+                        }
+                    }
+                    value.append(ch);
+                }
+                fields.add(value.toString());
+                var tab = text.indexOf('\t', i);
+                if (tab < 0 || tab >= to) {
+                    break;
+                }
+                i = tab + 1;
+            } else {
+                var tab = text.indexOf('\t', i);
+                if (tab < 0 || tab >= to) {
+                    fields.add(text.substring(i, to));
+                    break;
+                }
+                fields.add(text.substring(i, tab));
+                i = tab + 1;
+            }
+        }
+        return fields.toArray(String[]::new);
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+}
@@ -0,0 +1,301 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.table;
+
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.WeakListChangeListener;
+import org.panteleyev.fx.factories.TableFactory.TableValueColumn;
+
+import java.util.Arrays;
+import java.util.TreeMap;
+import java.util.function.ToDoubleFunction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * This class implements aggregate values of a numeric column: sum, count, average, minimum and maximum.
+ * <p>
+ * Aggregates are maintained incrementally from list changes. Sum and count are updated in O(delta), minimum and maximum
+ * are taken from an ordered multiset of values and updated in O(delta log n). The list itself is never rescanned.
+ * Attaching aggregate to a {@link javafx.collections.transformation.FilteredList} makes it follow the filter, e.g.
+ * {@link org.panteleyev.fx.PredicateProperty} bound to the list predicate.
+ * <p>
+ * Missing values, i.e. {@code null} values or {@link Double#NaN}, are not aggregated. {@link #countProperty()} returns
+ * the number of non-missing values. Minimum, maximum and average are {@link Double#NaN} when there are no values.
+ * Infinite values are aggregated: sum is infinite while values contain infinities of one sign and {@link Double#NaN}
+ * while they contain both, removal of infinities restores the finite sum.
+ * <p>
+ * Aggregate holds a weak listener, reference to the aggregate must be kept as long as it is used.
+ * <p>
+ * <strong>Example:</strong>
+ * {@snippet lang = java:
+ * var filtered = new FilteredList<>(items);
+ * filtered.predicateProperty().bind(filterProperty);
+ * var total = columnAggregate(filtered, amountColumn);
+ * footerLabel.textProperty().bind(total.sumProperty().asString("%.2f"));
+ *}
+ *
+ * @param <S> the type of the rows
+ */
+public final class ColumnAggregate<S> {
+    private final ObservableList<? extends S> items;
+    private final ToDoubleFunction<? super S> extractor;
+
+    private final ListChangeListener<S> listener = this::onChanged;
+    private final WeakListChangeListener<S> weakListener = new WeakListChangeListener<>(listener);
+
+    private final ReadOnlyDoubleWrapper sum = new ReadOnlyDoubleWrapper(this, "sum", 0);
+    private final ReadOnlyIntegerWrapper count = new ReadOnlyIntegerWrapper(this, "count", 0);
+    private final ReadOnlyDoubleWrapper average = new ReadOnlyDoubleWrapper(this, "average", Double.NaN);
+    private final ReadOnlyDoubleWrapper min = new ReadOnlyDoubleWrapper(this, "min", Double.NaN);
+    private final ReadOnlyDoubleWrapper max = new ReadOnlyDoubleWrapper(this, "max", Double.NaN);
+
+    // Extracted values mirroring the list, required for removals, updates and permutations
+    private double[] values = new double[16];
+    private int size = 0;
+
+    // Neumaier compensated sum of finite values, infinities are counted separately so that they can be removed
+    private double total = 0;
+    private double compensation = 0;
+    private int positiveInfinities = 0;
+    private int negativeInfinities = 0;
+    private int valueCount = 0;
+
+    // Ordered multiset: value -> number of occurrences
+    private final TreeMap<Double, int[]> histogram = new TreeMap<>();
+
+    private ColumnAggregate(ObservableList<? extends S> items, ToDoubleFunction<? super S> extractor) {
+        this.items = items;
+        this.extractor = extractor;
+        rebuild();
+        items.addListener(weakListener);
+    }
+
+    /**
+     * Creates aggregate for values produced by extractor function.
+     *
+     * @param items     list of rows
+     * @param extractor function that returns row value, {@link Double#NaN} means missing value
+     * @param <S>       the type of the rows
+     * @return column aggregate
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public static <S> ColumnAggregate<S> columnAggregate(ObservableList<? extends S> items,
+            ToDoubleFunction<? super S> extractor)
+    {
+        return new ColumnAggregate<>(
+                requireNonNull(items, "Items must not be null"),
+                requireNonNull(extractor, "Extractor must not be null")
+        );
+    }
+
+    /**
+     * Creates aggregate for values of numeric column. Column converter is used to obtain values.
+     *
+     * @param items  list of rows
+     * @param column numeric column
+     * @param <S>    the type of the rows
+     * @return column aggregate
+     * @throws NullPointerException  if any argument is {@code null}
+     * @throws IllegalStateException if column converter is not set
+     */
+    public static <S> ColumnAggregate<S> columnAggregate(ObservableList<? extends S> items,
+            TableValueColumn<S, ? extends Number> column)
+    {
+        requireNonNull(column, "Column must not be null");
+        var converter = column.getValueConverter();
+        if (converter == null) {
+            throw new IllegalStateException("Column value converter is not set");
+        }
+        return columnAggregate(items, row -> {
+            var value = converter.apply(row);
+            return value == null ? Double.NaN : value.doubleValue();
+        });
+    }
+
+    /**
+     * Returns sum of values.
+     *
+     * @return sum property
+     */
+    public ReadOnlyDoubleProperty sumProperty() {
+        return sum.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns number of non-missing values.
+     *
+     * @return count property
+     */
+    public ReadOnlyIntegerProperty countProperty() {
+        return count.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns average of values.
+     *
+     * @return average property
+     */
+    public ReadOnlyDoubleProperty averageProperty() {
+        return average.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns minimum value.
+     *
+     * @return minimum property
+     */
+    public ReadOnlyDoubleProperty minProperty() {
+        return min.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns maximum value.
+     *
+     * @return maximum property
+     */
+    public ReadOnlyDoubleProperty maxProperty() {
+        return max.getReadOnlyProperty();
+    }
+
+    /**
+     * Recalculates all aggregates from scratch. This is only required if row values are modified without list
+     * notification.
+     */
+    public void refresh() {
+        rebuild();
+    }
+
+    /**
+     * Stops tracking list changes.
+     */
+    public void dispose() {
+        items.removeListener(weakListener);
+    }
+
+    private void rebuild() {
+        size = 0;
+        total = 0;
+        compensation = 0;
+        positiveInfinities = 0;
+        negativeInfinities = 0;
+        valueCount = 0;
+        histogram.clear();
+
+        ensureCapacity(items.size());
+        for (var row : items) {
+            var value = extractor.applyAsDouble(row);
+            values[size++] = value;
+            include(value);
+        }
+        publish();
+    }
+
+    private void onChanged(ListChangeListener.Change<? extends S> change) {
+        while (change.next()) {
+            var from = change.getFrom();
+            var to = change.getTo();
+
+            if (change.wasPermutated()) {
+                var permuted = Arrays.copyOfRange(values, from, to);
+                for (int i = from; i < to; i++) {
+                    values[change.getPermutation(i)] = permuted[i - from];
+                }
+            } else if (change.wasUpdated()) {
+                for (int i = from; i < to; i++) {
+                    exclude(values[i]);
+                    values[i] = extractor.applyAsDouble(items.get(i));
+                    include(values[i]);
+                }
+            } else {
+                var removed = change.getRemovedSize();
+                if (removed > 0) {
+                    for (int i = from; i < from + removed; i++) {
+                        exclude(values[i]);
+                    }
+                    System.arraycopy(values, from + removed, values, from, size - from - removed);
+                    size -= removed;
+                }
+
+                var added = to - from;
+                if (added > 0) {
+                    ensureCapacity(size + added);
+                    System.arraycopy(values, from, values, to, size - from);
+                    size += added;
+                    for (int i = from; i < to; i++) {
+                        values[i] = extractor.applyAsDouble(items.get(i));
+                        include(values[i]);
+                    }
+                }
+            }
+        }
+        publish();
+    }
+
+    private void include(double value) {
+        if (Double.isNaN(value)) return;
+        add(value, 1);
+        valueCount++;
+        histogram.computeIfAbsent(value, _ -> new int[1])[0]++;
+    }
+
+    private void exclude(double value) {
+        if (Double.isNaN(value)) return;
+        add(value, -1);
+        valueCount--;
+        var counter = histogram.get(value);
+        if (counter != null && --counter[0] == 0) {
+            histogram.remove(value);
+        }
+    }
+
+    private void add(double value, int sign) {
+        if (value == Double.POSITIVE_INFINITY) {
+            positiveInfinities += sign;
+            return;
+        }
+        if (value == Double.NEGATIVE_INFINITY) {
+            negativeInfinities += sign;
+            return;
+        }
+
+        value *= sign;
+        var t = total + value;
+        if (Math.abs(total) >= Math.abs(value)) {
+            compensation += (total - t) + value;
+        } else {
+            compensation += (value - t) + total;
+        }
+        total = t;
+    }
+
+    private void publish() {
+        if (valueCount == 0) {
+            // Drop accumulated rounding error
+            total = 0;
+            compensation = 0;
+        }
+        double s;
+        if (positiveInfinities > 0) {
+            s = negativeInfinities > 0 ? Double.NaN : Double.POSITIVE_INFINITY;
+        } else {
+            s = negativeInfinities > 0 ? Double.NEGATIVE_INFINITY : total + compensation;
+        }
+        sum.set(s);
+        count.set(valueCount);
+        average.set(valueCount == 0 ? Double.NaN : s / valueCount);
+        min.set(histogram.isEmpty() ? Double.NaN : histogram.firstKey());
+        max.set(histogram.isEmpty() ? Double.NaN : histogram.lastKey());
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > values.length) {
+            values = Arrays.copyOf(values, Math.max(capacity, values.length + (values.length >> 1)));
+        }
+    }
+}
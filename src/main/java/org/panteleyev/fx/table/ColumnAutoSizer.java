@@ -0,0 +1,321 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.table;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.WeakListChangeListener;
+import javafx.scene.control.TableColumnBase;
+import javafx.scene.text.Font;
+import org.panteleyev.fx.factories.TableFactory.TableValueColumn;
+import org.panteleyev.fx.factories.TreeTableFactory.TreeTableValueColumn;
+import org.panteleyev.fx.hidden.TextWidthCache;
+
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.ToDoubleBiFunction;
+
+import static java.util.Objects.requireNonNull;
+import static org.panteleyev.fx.hidden.PulseExecutor.PULSE_EXECUTOR;
+import static org.panteleyev.fx.hidden.TextWidthCache.TEXT_WIDTH_CACHE;
+
+/**
+ * This class fits preferred width of a table or tree table column to its content.
+ * <p>
+ * Instead of measuring every row the sizer measures a stratified random sample of rows plus the column header. Text
+ * widths are cached per font and string in a bounded least recently used cache shared by all sizers. Sizing a column
+ * of a million rows takes about the same time as sizing a column of {@link #sampleSize(int) sample size} rows.
+ * <p>
+ * Sizer tracks changes of the row list. Added and updated rows are measured immediately and may only widen the column.
+ * Full recalculation is scheduled to the next pulse when the number of changed rows since the last recalculation
+ * exceeds the {@link #recomputeThreshold(double) threshold}.
+ * <p>
+ * Tree table columns are sized from a flat list of row values, e.g. the list used to
+ * {@link org.panteleyev.fx.tree.TreeBuilder build} the hierarchy. Indentation of tree items is not taken into
+ * account.
+ * <p>
+ * Sizer holds a weak listener, reference to the sizer must be kept as long as it is used. Preferred width of the
+ * column must not be bound. All methods must be called on the JavaFX application thread.
+ * <p>
+ * <strong>Example:</strong>
+ * {@snippet lang = java:
+ * var nameSizer = columnAutoSizer(nameColumn, items)
+ *     .maxWidth(400);
+ *}
+ *
+ * @param <S> the type of the rows
+ */
+public final class ColumnAutoSizer<S> {
+    /**
+     * Default number of rows measured by full recalculation.
+     */
+    public static final int DEFAULT_SAMPLE_SIZE = 1_000;
+    /**
+     * Default horizontal padding in pixels added to the text width.
+     */
+    public static final double DEFAULT_PADDING = 12;
+    /**
+     * Default fraction of the list size, number of changed rows that triggers full recalculation.
+     */
+    public static final double DEFAULT_RECOMPUTE_THRESHOLD = 0.1;
+
+    private static final long SEED = 0x5DEECE66DL;
+
+    private final TableColumnBase<?, ?> column;
+    private final ObservableList<? extends S> items;
+    private final Function<? super S, String> textExtractor;
+    private final Executor executor;
+
+    private final ListChangeListener<S> listener = this::onChanged;
+    private final WeakListChangeListener<S> weakListener = new WeakListChangeListener<>(listener);
+
+    private TextWidthCache cache = TEXT_WIDTH_CACHE;
+    private Font font;
+    private int sampleSize = DEFAULT_SAMPLE_SIZE;
+    private double padding = DEFAULT_PADDING;
+    private double recomputeThreshold = DEFAULT_RECOMPUTE_THRESHOLD;
+    private double maxWidth = Double.MAX_VALUE;
+
+    private double contentWidth = 0;
+    private int changedRows = 0;
+    private boolean scheduled = false;
+
+    ColumnAutoSizer(TableColumnBase<?, ?> column, ObservableList<? extends S> items,
+            Function<? super S, String> textExtractor, Executor executor)
+    {
+        this.column = column;
+        this.items = items;
+        this.textExtractor = textExtractor;
+        this.executor = executor;
+        items.addListener(weakListener);
+        schedule();
+    }
+
+    /**
+     * Creates sizer for column which cell text is produced by text extractor. Column is sized at the next pulse.
+     *
+     * @param column        table or tree table column
+     * @param items         list of rows
+     * @param textExtractor function that returns cell text
+     * @param <S>           the type of the rows
+     * @return column sizer
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public static <S> ColumnAutoSizer<S> columnAutoSizer(TableColumnBase<?, ?> column,
+            ObservableList<? extends S> items, Function<? super S, String> textExtractor)
+    {
+        return new ColumnAutoSizer<>(
+                requireNonNull(column, "Column must not be null"),
+                requireNonNull(items, "Items must not be null"),
+                requireNonNull(textExtractor, "Text extractor must not be null"),
+                PULSE_EXECUTOR
+        );
+    }
+
+    /**
+     * Creates sizer for table column. Cell text is a string representation of value produced by column converter.
+     *
+     * @param column table column
+     * @param items  list of rows
+     * @param <S>    the type of the rows
+     * @return column sizer
+     * @throws NullPointerException  if any argument is {@code null}
+     * @throws IllegalStateException if column converter is not set
+     */
+    public static <S> ColumnAutoSizer<S> columnAutoSizer(TableValueColumn<S, ?> column,
+            ObservableList<? extends S> items)
+    {
+        requireNonNull(column, "Column must not be null");
+        return columnAutoSizer(column, items, textExtractor(column.getValueConverter()));
+    }
+
+    /**
+     * Creates sizer for tree table column. Cell text is a string representation of value produced by column
+     * converter.
+     *
+     * @param column tree table column
+     * @param items  flat list of row values
+     * @param <S>    the type of the rows
+     * @return column sizer
+     * @throws NullPointerException  if any argument is {@code null}
+     * @throws IllegalStateException if column converter is not set
+     */
+    public static <S> ColumnAutoSizer<S> columnAutoSizer(TreeTableValueColumn<S, ?> column,
+            ObservableList<? extends S> items)
+    {
+        requireNonNull(column, "Column must not be null");
+        return columnAutoSizer(column, items, textExtractor(column.getValueConverter()));
+    }
+
+    /**
+     * Sets font of the cells.
+     *
+     * @param font font, {@code null} means default font
+     * @return this sizer
+     */
+    public ColumnAutoSizer<S> font(Font font) {
+        this.font = font;
+        return this;
+    }
+
+    /**
+     * Sets number of sampled rows. Lists that are not larger than sample size are measured completely.
+     *
+     * @param sampleSize sample size
+     * @return this sizer
+     * @throws IllegalArgumentException if {@code sampleSize} is not positive
+     */
+    public ColumnAutoSizer<S> sampleSize(int sampleSize) {
+        if (sampleSize <= 0) {
+            throw new IllegalArgumentException("Sample size must be positive");
+        }
+        this.sampleSize = sampleSize;
+        return this;
+    }
+
+    /**
+     * Sets horizontal padding added to the text width.
+     *
+     * @param padding padding
+     * @return this sizer
+     */
+    public ColumnAutoSizer<S> padding(double padding) {
+        this.padding = padding;
+        return this;
+    }
+
+    /**
+     * Sets fraction of rows that must change before full recalculation.
+     *
+     * @param recomputeThreshold fraction of the list size
+     * @return this sizer
+     */
+    public ColumnAutoSizer<S> recomputeThreshold(double recomputeThreshold) {
+        this.recomputeThreshold = recomputeThreshold;
+        return this;
+    }
+
+    /**
+     * Sets maximum width of the column.
+     *
+     * @param maxWidth maximum width
+     * @return this sizer
+     */
+    public ColumnAutoSizer<S> maxWidth(double maxWidth) {
+        this.maxWidth = maxWidth;
+        return this;
+    }
+
+    /**
+     * Sets function that measures text width. By default text is measured with a {@link javafx.scene.text.Text} node
+     * and results are shared by all sizers. Custom measurer gets its own cache.
+     *
+     * @param measurer text width function
+     * @return this sizer
+     * @throws NullPointerException if {@code measurer} is {@code null}
+     */
+    public ColumnAutoSizer<S> measurer(ToDoubleBiFunction<Font, String> measurer) {
+        cache = new TextWidthCache(requireNonNull(measurer, "Measurer must not be null"),
+                TextWidthCache.DEFAULT_CAPACITY);
+        return this;
+    }
+
+    /**
+     * Recalculates and applies column width immediately.
+     */
+    public void resize() {
+        var size = items.size();
+        var width = cache.width(font, column.getText());
+
+        if (size <= sampleSize) {
+            for (var row : items) {
+                width = Math.max(width, measure(row));
+            }
+        } else {
+            // Stratified sample: one random row from each of sampleSize equal strata
+            var random = new SplittableRandom(SEED);
+            var stride = (double) size / sampleSize;
+            for (int i = 0; i < sampleSize; i++) {
+                var index = Math.min(size - 1, (int) (i * stride + random.nextDouble() * stride));
+                width = Math.max(width, measure(items.get(index)));
+            }
+        }
+
+        contentWidth = width;
+        changedRows = 0;
+        apply();
+    }
+
+    /**
+     * Returns width of the widest measured text.
+     *
+     * @return content width without padding
+     */
+    public double getContentWidth() {
+        return contentWidth;
+    }
+
+    /**
+     * Stops tracking list changes.
+     */
+    public void dispose() {
+        items.removeListener(weakListener);
+    }
+
+    private void onChanged(ListChangeListener.Change<? extends S> change) {
+        var widened = false;
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            changedRows += change.getRemovedSize();
+
+            var from = change.getFrom();
+            var to = change.getTo();
+            changedRows += to - from;
+            // Measure new rows only while it is cheaper than recalculation
+            for (int i = from; i < to && i - from < sampleSize; i++) {
+                var width = measure(items.get(i));
+                if (width > contentWidth) {
+                    contentWidth = width;
+                    widened = true;
+                }
+            }
+        }
+
+        if (widened) {
+            apply();
+        }
+        if (changedRows > 0 && changedRows >= recomputeThreshold * items.size()) {
+            schedule();
+        }
+    }
+
+    private double measure(S row) {
+        return cache.width(font, textExtractor.apply(row));
+    }
+
+    private void apply() {
+        column.setPrefWidth(Math.min(maxWidth, Math.ceil(contentWidth + padding)));
+    }
+
+    private void schedule() {
+        if (scheduled) {
+            return;
+        }
+        scheduled = true;
+        executor.execute(() -> {
+            scheduled = false;
+            resize();
+        });
+    }
+
+    private static <S> Function<S, String> textExtractor(Function<S, ?> converter) {
+        if (converter == null) {
+            throw new IllegalStateException("Column value converter is not set");
+        }
+        return row -> Objects.toString(converter.apply(row), "");
+    }
+}
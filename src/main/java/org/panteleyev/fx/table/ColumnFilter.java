@@ -0,0 +1,140 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.table;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Typed filter of column values. Filters are immutable, {@code null} values never match.
+ *
+ * @param <T> the type of the column values
+ * @see ColumnFilters
+ */
+public sealed interface ColumnFilter<T> {
+    /**
+     * Case-insensitive substring filter.
+     *
+     * @param text text to find
+     * @param <T>  the type of the column values
+     */
+    record Contains<T extends CharSequence>(String text) implements ColumnFilter<T> {
+        /**
+         * Creates filter.
+         *
+         * @param text text to find
+         * @throws NullPointerException if {@code text} is {@code null}
+         */
+        public Contains {
+            requireNonNull(text, "Text must not be null");
+        }
+
+        @Override
+        public Predicate<T> toPredicate() {
+            var length = text.length();
+            return value -> {
+                if (value == null) {
+                    return false;
+                }
+                var string = value.toString();
+                for (int i = 0, last = string.length() - length; i <= last; i++) {
+                    if (string.regionMatches(true, i, text, 0, length)) {
+                        return true;
+                    }
+                }
+                return false;
+            };
+        }
+    }
+
+    /**
+     * Range filter, both bounds are inclusive.
+     *
+     * @param min lower bound, {@code null} if range is not bounded from below
+     * @param max upper bound, {@code null} if range is not bounded from above
+     * @param <T> the type of the column values
+     */
+    record Range<T extends Comparable<? super T>>(T min, T max) implements ColumnFilter<T> {
+        @Override
+        public Predicate<T> toPredicate() {
+            if (min == null && max == null) {
+                return value -> value != null;
+            } else if (max == null) {
+                return value -> value != null && value.compareTo(min) >= 0;
+            } else if (min == null) {
+                return value -> value != null && value.compareTo(max) <= 0;
+            } else {
+                return value -> value != null && value.compareTo(min) >= 0 && value.compareTo(max) <= 0;
+            }
+        }
+    }
+
+    /**
+     * Set membership filter.
+     *
+     * @param values allowed values
+     * @param <T>    the type of the column values
+     */
+    record OneOf<T>(Set<T> values) implements ColumnFilter<T> {
+        /**
+         * Creates filter.
+         *
+         * @param values allowed values, a copy is made
+         * @throws NullPointerException if {@code values} is {@code null} or contains {@code null}
+         */
+        public OneOf {
+            values = Set.copyOf(values);
+        }
+
+        @Override
+        public Predicate<T> toPredicate() {
+            return value -> value != null && values.contains(value);
+        }
+    }
+
+    /**
+     * Creates case-insensitive substring filter.
+     *
+     * @param text text to find
+     * @param <T>  the type of the column values
+     * @return column filter
+     * @throws NullPointerException if {@code text} is {@code null}
+     */
+    static <T extends CharSequence> ColumnFilter<T> contains(String text) {
+        return new Contains<>(text);
+    }
+
+    /**
+     * Creates range filter, both bounds are inclusive.
+     *
+     * @param min lower bound, {@code null} if range is not bounded from below
+     * @param max upper bound, {@code null} if range is not bounded from above
+     * @param <T> the type of the column values
+     * @return column filter
+     */
+    static <T extends Comparable<? super T>> ColumnFilter<T> range(T min, T max) {
+        return new Range<>(min, max);
+    }
+
+    /**
+     * Creates set membership filter.
+     *
+     * @param values allowed values
+     * @param <T>    the type of the column values
+     * @return column filter
+     * @throws NullPointerException if {@code values} is {@code null} or contains {@code null}
+     */
+    static <T> ColumnFilter<T> oneOf(Collection<? extends T> values) {
+        return new OneOf<>(Set.copyOf(values));
+    }
+
+    /**
+     * Returns predicate of column values.
+     *
+     * @return predicate
+     */
+    Predicate<T> toPredicate();
+}
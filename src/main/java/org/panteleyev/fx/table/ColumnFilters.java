@@ -0,0 +1,224 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.table;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ObservableValue;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import org.panteleyev.fx.PredicateProperty;
+import org.panteleyev.fx.factories.TableFactory.TableStringColumn;
+import org.panteleyev.fx.factories.TableFactory.TableValueColumn;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * This class combines typed column filters into a single row predicate.
+ * <p>
+ * Each filter is applied to the value returned by the column extractor, values are compared directly without
+ * conversion to string. Active filters are compiled into one evaluation plan whenever any of them changes: filters
+ * are ordered from the cheapest to the most expensive one, i.e. set membership, then ranges, then substring search,
+ * and evaluation stops at the first failed filter. The plan is published as {@link #predicateProperty()} that can be
+ * bound to {@link javafx.collections.transformation.FilteredList#predicateProperty()}. Large lists can be filtered in
+ * parallel with {@link #filter(Collection)}.
+ * <p>
+ * Filter properties hold listeners of the filters, so filters remain active as long as columns are reachable.
+ * Extractors must be thread-safe if parallel filtering is used.
+ * <p>
+ * <strong>Example:</strong>
+ * {@snippet lang = java:
+ * var filters = columnFilters(tableView);
+ * filteredList.predicateProperty().bind(filters.predicateProperty());
+ * amountColumn.columnFilterProperty().set(ColumnFilter.range(BigDecimal.ZERO, null));
+ *}
+ *
+ * @param <S> the type of the rows
+ */
+public final class ColumnFilters<S> {
+    /**
+     * Minimum number of rows filtered in parallel.
+     */
+    public static final int PARALLEL_THRESHOLD = 10_000;
+
+    private record Entry<S, T>(Function<? super S, ? extends T> extractor,
+                               ObservableValue<? extends ColumnFilter<? super T>> filter)
+    {
+        Predicate<S> compile() {
+            var columnFilter = filter.getValue();
+            if (columnFilter == null) {
+                return null;
+            }
+            var predicate = columnFilter.toPredicate();
+            return row -> predicate.test(extractor.apply(row));
+        }
+
+        int cost() {
+            return switch (filter.getValue()) {
+                case ColumnFilter.OneOf<?> _ -> 0;
+                case ColumnFilter.Range<?> _ -> 1;
+                case ColumnFilter.Contains<?> _ -> 2;
+                case null -> Integer.MAX_VALUE;
+            };
+        }
+    }
+
+    private final List<Entry<S, ?>> entries = new ArrayList<>();
+    private final PredicateProperty<S> predicate = new PredicateProperty<>(this, "predicate");
+
+    private final InvalidationListener listener = _ -> compile();
+
+    private ColumnFilters() {
+    }
+
+    /**
+     * Creates filters without columns.
+     *
+     * @param <S> the type of the rows
+     * @return column filters
+     */
+    public static <S> ColumnFilters<S> columnFilters() {
+        return new ColumnFilters<>();
+    }
+
+    /**
+     * Creates filters of all leaf {@link TableValueColumn} and {@link TableStringColumn} columns of the table view
+     * including hidden ones. Columns added to the table later are not tracked.
+     *
+     * @param tableView table view
+     * @param <S>       the type of the rows
+     * @return column filters
+     * @throws NullPointerException if {@code tableView} is {@code null}
+     */
+    public static <S> ColumnFilters<S> columnFilters(TableView<S> tableView) {
+        requireNonNull(tableView, "Table view must not be null");
+        var filters = new ColumnFilters<S>();
+        filters.addLeafColumns(tableView.getColumns());
+        return filters;
+    }
+
+    /**
+     * Adds filter of the values returned by extractor.
+     *
+     * @param extractor function that returns value of the row
+     * @param filter    observable filter, {@code null} filter value is ignored
+     * @param <T>       the type of the values
+     * @return this filters
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public <T> ColumnFilters<S> filter(Function<? super S, ? extends T> extractor,
+            ObservableValue<? extends ColumnFilter<? super T>> filter)
+    {
+        requireNonNull(extractor, "Extractor must not be null");
+        requireNonNull(filter, "Filter must not be null");
+        entries.add(new Entry<>(extractor, filter));
+        filter.addListener(listener);
+        compile();
+        return this;
+    }
+
+    /**
+     * Adds filter of the value column. Values are extracted with the column
+     * {@link TableValueColumn#getValueConverter() converter} at the time of the call.
+     *
+     * @param column table column
+     * @param <T>    the type of the values
+     * @return this filters
+     * @throws NullPointerException     if {@code column} is {@code null}
+     * @throws IllegalArgumentException if column has no converter
+     */
+    public <T> ColumnFilters<S> column(TableValueColumn<S, T> column) {
+        requireNonNull(column, "Column must not be null");
+        return filter(checkConverter(column.getValueConverter()), column.columnFilterProperty());
+    }
+
+    /**
+     * Adds filter of the string column. Values are extracted with the column
+     * {@link TableStringColumn#getValueConverter() converter} at the time of the call.
+     *
+     * @param column table column
+     * @return this filters
+     * @throws NullPointerException     if {@code column} is {@code null}
+     * @throws IllegalArgumentException if column has no converter
+     */
+    public ColumnFilters<S> column(TableStringColumn<S> column) {
+        requireNonNull(column, "Column must not be null");
+        return filter(checkConverter(column.getValueConverter()), column.columnFilterProperty());
+    }
+
+    /**
+     * Row predicate compiled from active filters. Predicate accepts all rows when no filter is active.
+     *
+     * @return predicate property
+     */
+    public PredicateProperty<S> predicateProperty() {
+        return predicate;
+    }
+
+    /**
+     * Returns rows accepted by the current predicate preserving their order. Large collections are filtered in
+     * parallel.
+     *
+     * @param rows rows
+     * @return unmodifiable list of accepted rows
+     * @throws NullPointerException if {@code rows} is {@code null}
+     */
+    public List<S> filter(Collection<? extends S> rows) {
+        requireNonNull(rows, "Rows must not be null");
+        Predicate<S> plan = predicate.get();
+        var stream = rows.size() >= PARALLEL_THRESHOLD ? rows.parallelStream() : rows.stream();
+        return Collections.unmodifiableList(stream.filter(plan).toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void addLeafColumns(List<? extends TableColumn<S, ?>> columns) {
+        for (var column : columns) {
+            if (!column.getColumns().isEmpty()) {
+                addLeafColumns(column.getColumns());
+                continue;
+            }
+            switch (column) {
+                case TableValueColumn<S, ?> c when c.getValueConverter() != null -> column(c);
+                case TableStringColumn<?> c when c.getValueConverter() != null -> column((TableStringColumn<S>) c);
+                default -> {
+                }
+            }
+        }
+    }
+
+    private void compile() {
+        var active = entries.stream()
+                .filter(e -> e.filter().getValue() != null)
+                .sorted(Comparator.comparingInt(Entry::cost))
+                .toList();
+
+        @SuppressWarnings("unchecked")
+        Predicate<S>[] plan = active.stream().map(Entry::compile).toArray(Predicate[]::new);
+        predicate.set(switch (plan.length) {
+            case 0 -> _ -> true;
+            case 1 -> plan[0];
+            default -> row -> {
+                for (var p : plan) {
+                    if (!p.test(row)) {
+                        return false;
+                    }
+                }
+                return true;
+            };
+        });
+    }
+
+    private static <F> F checkConverter(F converter) {
+        if (converter == null) {
+            throw new IllegalArgumentException("Column must have value converter");
+        }
+        return converter;
+    }
+}
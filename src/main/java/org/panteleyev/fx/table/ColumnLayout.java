@@ -0,0 +1,267 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.table;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
+import javafx.scene.control.TableColumnBase;
+import javafx.scene.control.TableView;
+import javafx.scene.control.TreeTableView;
+import javafx.scene.layout.Region;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static java.util.Objects.requireNonNull;
+import static org.panteleyev.fx.hidden.PulseExecutor.PULSE_EXECUTOR;
+
+/**
+ * This class distributes width of a table between its columns proportionally to column weights.
+ * <p>
+ * Layout replaces per-column width bindings such as {@code table.widthProperty().multiply(0.15)}. All column widths
+ * are calculated together once per pulse regardless of how many times the table width changes. Widths respect minimum
+ * and maximum column widths: columns that hit their limits are fixed and the rest of the width is distributed between
+ * other columns. Widths are rounded to whole pixels, rounding remainder is given to columns with the largest
+ * fractional parts, so the total width matches the available width exactly.
+ * <p>
+ * Hidden columns are excluded. Preferred width of managed columns must not be bound, i.e. column
+ * {@code widthBinding} must not be used. Layout holds weak listeners, reference to the layout must be kept as long as
+ * it is used. All methods must be called on the JavaFX application thread.
+ * <p>
+ * <strong>Example:</strong>
+ * {@snippet lang = java:
+ * var layout = columnLayout(tableView)
+ *     .column(dateColumn, 15, 80, 120)
+ *     .column(nameColumn, 60)
+ *     .column(amountColumn, 25)
+ *     .reservedWidth(20);
+ *}
+ */
+public final class ColumnLayout {
+    private record Entry(TableColumnBase<?, ?> column, double weight, double minWidth, double maxWidth) {
+    }
+
+    private final Region table;
+    private final Executor executor;
+    private final List<Entry> entries = new ArrayList<>();
+    private double reservedWidth = 0;
+    private boolean scheduled = false;
+
+    private final InvalidationListener listener = _ -> schedule();
+    private final WeakInvalidationListener weakListener = new WeakInvalidationListener(listener);
+
+    ColumnLayout(Region table, Executor executor) {
+        this.table = table;
+        this.executor = executor;
+        table.widthProperty().addListener(weakListener);
+        table.insetsProperty().addListener(weakListener);
+    }
+
+    /**
+     * Creates column layout for table view.
+     *
+     * @param tableView table view
+     * @return column layout
+     * @throws NullPointerException if {@code tableView} is {@code null}
+     */
+    public static ColumnLayout columnLayout(TableView<?> tableView) {
+        return new ColumnLayout(requireNonNull(tableView, "Table view must not be null"), PULSE_EXECUTOR);
+    }
+
+    /**
+     * Creates column layout for tree table view.
+     *
+     * @param treeTableView tree table view
+     * @return column layout
+     * @throws NullPointerException if {@code treeTableView} is {@code null}
+     */
+    public static ColumnLayout columnLayout(TreeTableView<?> treeTableView) {
+        return new ColumnLayout(requireNonNull(treeTableView, "Tree table view must not be null"), PULSE_EXECUTOR);
+    }
+
+    /**
+     * Adds column without width limits.
+     *
+     * @param column column
+     * @param weight column weight
+     * @return this layout
+     * @throws NullPointerException     if {@code column} is {@code null}
+     * @throws IllegalArgumentException if {@code weight} is negative
+     */
+    public ColumnLayout column(TableColumnBase<?, ?> column, double weight) {
+        return column(column, weight, 0, Double.MAX_VALUE);
+    }
+
+    /**
+     * Adds column.
+     *
+     * @param column   column
+     * @param weight   column weight
+     * @param minWidth minimum column width
+     * @param maxWidth maximum column width
+     * @return this layout
+     * @throws NullPointerException     if {@code column} is {@code null}
+     * @throws IllegalArgumentException if {@code weight} is negative or {@code minWidth} is greater than
+     *                                  {@code maxWidth}
+     */
+    public ColumnLayout column(TableColumnBase<?, ?> column, double weight, double minWidth, double maxWidth) {
+        requireNonNull(column, "Column must not be null");
+        if (weight < 0) {
+            throw new IllegalArgumentException("Weight must not be negative");
+        }
+        if (minWidth > maxWidth) {
+            throw new IllegalArgumentException("Minimum width must not be greater than maximum width");
+        }
+        entries.add(new Entry(column, weight, minWidth, maxWidth));
+        column.visibleProperty().addListener(weakListener);
+        schedule();
+        return this;
+    }
+
+    /**
+     * Sets width excluded from distribution, e.g. width of the vertical scroll bar.
+     *
+     * @param reservedWidth reserved width
+     * @return this layout
+     */
+    public ColumnLayout reservedWidth(double reservedWidth) {
+        this.reservedWidth = reservedWidth;
+        schedule();
+        return this;
+    }
+
+    /**
+     * Calculates and applies column widths immediately.
+     */
+    public void layout() {
+        var visible = entries.stream().filter(e -> e.column().isVisible()).toList();
+        if (visible.isEmpty()) {
+            return;
+        }
+
+        var weights = new double[visible.size()];
+        var minWidths = new double[visible.size()];
+        var maxWidths = new double[visible.size()];
+        for (int i = 0; i < weights.length; i++) {
+            var entry = visible.get(i);
+            weights[i] = entry.weight();
+            minWidths[i] = entry.minWidth();
+            maxWidths[i] = entry.maxWidth();
+        }
+
+        var insets = table.getInsets();
+        var available = table.getWidth() - insets.getLeft() - insets.getRight() - reservedWidth;
+        var widths = distribute(available, weights, minWidths, maxWidths);
+        for (int i = 0; i < widths.length; i++) {
+            visible.get(i).column().setPrefWidth(widths[i]);
+        }
+    }
+
+    /**
+     * Stops tracking table width and column visibility.
+     */
+    public void dispose() {
+        table.widthProperty().removeListener(weakListener);
+        table.insetsProperty().removeListener(weakListener);
+        for (var entry : entries) {
+            entry.column().visibleProperty().removeListener(weakListener);
+        }
+    }
+
+    private void schedule() {
+        if (scheduled) {
+            return;
+        }
+        scheduled = true;
+        executor.execute(() -> {
+            scheduled = false;
+            layout();
+        });
+    }
+
+    /**
+     * Distributes available width proportionally to weights within limits and rounds widths to whole pixels.
+     *
+     * @param available available width
+     * @param weights   column weights
+     * @param minWidths minimum column widths
+     * @param maxWidths maximum column widths
+     * @return column widths
+     */
+    static double[] distribute(double available, double[] weights, double[] minWidths, double[] maxWidths) {
+        var n = weights.length;
+        var widths = new double[n];
+        var fixed = new boolean[n];
+
+        // Columns without weight keep their minimum width
+        var remaining = Math.max(0, available);
+        for (int i = 0; i < n; i++) {
+            if (weights[i] == 0) {
+                fixed[i] = true;
+                widths[i] = minWidths[i];
+                remaining -= minWidths[i];
+            }
+        }
+
+        // Each iteration fixes at least one column, usually the first iteration has no violations
+        while (true) {
+            var totalWeight = 0.0;
+            for (int i = 0; i < n; i++) {
+                if (!fixed[i]) totalWeight += weights[i];
+            }
+            if (totalWeight == 0) {
+                break;
+            }
+
+            var share = Math.max(0, remaining) / totalWeight;
+            var violation = 0.0;
+            for (int i = 0; i < n; i++) {
+                if (fixed[i]) continue;
+                var width = share * weights[i];
+                widths[i] = Math.clamp(width, minWidths[i], maxWidths[i]);
+                violation += widths[i] - width;
+            }
+            if (violation == 0) {
+                break;
+            }
+
+            // Fix columns that violate limits in the direction of the total violation
+            for (int i = 0; i < n; i++) {
+                if (fixed[i]) continue;
+                var width = share * weights[i];
+                if ((violation > 0 && widths[i] > width) || (violation < 0 && widths[i] < width)) {
+                    fixed[i] = true;
+                    remaining -= widths[i];
+                }
+            }
+        }
+
+        // Largest remainder rounding
+        var target = 0.0;
+        var rounded = 0L;
+        var order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            target += widths[i];
+            order[i] = i;
+        }
+        var fractions = new double[n];
+        for (int i = 0; i < n; i++) {
+            var floor = Math.floor(widths[i]);
+            fractions[i] = widths[i] - floor;
+            widths[i] = floor;
+            rounded += (long) floor;
+        }
+        var remainder = (long) Math.floor(target + 1e-9) - rounded;
+        Arrays.sort(order, (a, b) -> Double.compare(fractions[b], fractions[a]));
+        for (int k = 0; k < n && remainder > 0; k++) {
+            var i = order[k];
+            if (fractions[i] > 0 && widths[i] + 1 <= maxWidths[i]) {
+                widths[i] += 1;
+                remainder--;
+            }
+        }
+        return widths;
+    }
+}
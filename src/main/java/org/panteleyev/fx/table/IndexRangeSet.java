@@ -0,0 +1,293 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.table;
+
+import javafx.scene.control.IndexRange;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Set of non-negative integers stored as sorted disjoint non-adjacent ranges. Most operations take
+ * {@code O(log ranges)} or {@code O(ranges)} time regardless of the number of integers in the set.
+ */
+final class IndexRangeSet {
+    // Range k is [starts[k], ends[k])
+    private int[] starts;
+    private int[] ends;
+    private int count;
+
+    // prefix[k] is the number of indices in ranges before k, prefix[count] is the size
+    private int[] prefix = new int[1];
+    private boolean prefixValid = true;
+
+    IndexRangeSet() {
+        starts = new int[8];
+        ends = new int[8];
+    }
+
+    private IndexRangeSet(IndexRangeSet other) {
+        starts = Arrays.copyOf(other.starts, Math.max(8, other.count));
+        ends = Arrays.copyOf(other.ends, Math.max(8, other.count));
+        count = other.count;
+        prefixValid = false;
+    }
+
+    IndexRangeSet copy() {
+        return new IndexRangeSet(this);
+    }
+
+    int size() {
+        return prefix()[count];
+    }
+
+    boolean isEmpty() {
+        return count == 0;
+    }
+
+    int rangeCount() {
+        return count;
+    }
+
+    /**
+     * Returns the smallest index or -1 if set is empty.
+     */
+    int first() {
+        return count == 0 ? -1 : starts[0];
+    }
+
+    /**
+     * Returns the largest index or -1 if set is empty.
+     */
+    int last() {
+        return count == 0 ? -1 : ends[count - 1] - 1;
+    }
+
+    boolean contains(int index) {
+        var k = firstEndAfter(index);
+        return k < count && starts[k] <= index;
+    }
+
+    /**
+     * Returns number of indices less than {@code index}.
+     */
+    int rank(int index) {
+        var k = firstEndAfter(index);
+        var prefix = prefix();
+        return k < count && starts[k] < index ? prefix[k] + index - starts[k] : prefix[k];
+    }
+
+    /**
+     * Returns index at the position in ascending order.
+     */
+    int get(int position) {
+        var prefix = prefix();
+        if (position < 0 || position >= prefix[count]) {
+            throw new IndexOutOfBoundsException(position);
+        }
+        // Ranges are never empty so prefix is strictly increasing
+        var k = Arrays.binarySearch(prefix, 0, count, position);
+        if (k < 0) {
+            k = -k - 2;
+        }
+        return starts[k] + position - prefix[k];
+    }
+
+    /**
+     * Adds indices {@code [from, to)}.
+     */
+    void add(int from, int to) {
+        if (from >= to) {
+            return;
+        }
+        // Ranges that overlap or touch [from, to) are merged
+        var first = firstEndAfter(from - 1);
+        var last = firstStartAfter(to) - 1;
+        if (first <= last) {
+            from = Math.min(from, starts[first]);
+            to = Math.max(to, ends[last]);
+        }
+        replace(first, last + 1, new int[]{from}, new int[]{to});
+    }
+
+    /**
+     * Removes indices {@code [from, to)}.
+     */
+    void remove(int from, int to) {
+        if (from >= to || count == 0) {
+            return;
+        }
+        var first = firstEndAfter(from);
+        var last = firstStartAfter(to - 1) - 1;
+        if (first > last) {
+            return;
+        }
+
+        var newStarts = new int[2];
+        var newEnds = new int[2];
+        var n = 0;
+        if (starts[first] < from) {
+            newStarts[n] = starts[first];
+            newEnds[n++] = from;
+        }
+        if (ends[last] > to) {
+            newStarts[n] = to;
+            newEnds[n++] = ends[last];
+        }
+        replace(first, last + 1, Arrays.copyOf(newStarts, n), Arrays.copyOf(newEnds, n));
+    }
+
+    void clear() {
+        count = 0;
+        prefixValid = false;
+    }
+
+    /**
+     * Inserts {@code length} unselected indices at {@code at}, indices greater or equal to {@code at} are shifted up.
+     */
+    void insert(int at, int length) {
+        if (length <= 0) {
+            return;
+        }
+        var k = firstEndAfter(at);
+        if (k < count && starts[k] < at) {
+            // Split the range that contains insertion point
+            var end = ends[k];
+            ends[k] = at;
+            replace(k + 1, k + 1, new int[]{at}, new int[]{end});
+            k++;
+        }
+        for (int i = k; i < count; i++) {
+            starts[i] += length;
+            ends[i] += length;
+        }
+        prefixValid = false;
+    }
+
+    /**
+     * Deletes indices {@code [from, from + length)}, indices greater or equal to {@code from + length} are shifted
+     * down.
+     */
+    void delete(int from, int length) {
+        if (length <= 0) {
+            return;
+        }
+        remove(from, from + length);
+        var k = firstEndAfter(from);
+        for (int i = k; i < count; i++) {
+            starts[i] -= length;
+            ends[i] -= length;
+        }
+        // Ranges around the deleted block may touch now
+        if (k > 0 && k < count && ends[k - 1] == starts[k]) {
+            var end = ends[k];
+            replace(k - 1, k + 1, new int[]{starts[k - 1]}, new int[]{end});
+        }
+        prefixValid = false;
+    }
+
+    /**
+     * Returns ranges in ascending order.
+     */
+    List<IndexRange> toRanges() {
+        var result = new ArrayList<IndexRange>(count);
+        for (int k = 0; k < count; k++) {
+            result.add(new IndexRange(starts[k], ends[k]));
+        }
+        return result;
+    }
+
+    int rangeStart(int k) {
+        return starts[k];
+    }
+
+    int rangeEnd(int k) {
+        return ends[k];
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof IndexRangeSet other
+                && count == other.count
+                && Arrays.equals(starts, 0, count, other.starts, 0, count)
+                && Arrays.equals(ends, 0, count, other.ends, 0, count);
+    }
+
+    @Override
+    public int hashCode() {
+        var hash = 1;
+        for (int k = 0; k < count; k++) {
+            hash = 31 * (31 * hash + starts[k]) + ends[k];
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        var builder = new StringBuilder("[");
+        for (int k = 0; k < count; k++) {
+            if (k > 0) builder.append(", ");
+            builder.append(starts[k]).append("..").append(ends[k]);
+        }
+        return builder.append(']').toString();
+    }
+
+    // First range k with ends[k] > index, count if none
+    private int firstEndAfter(int index) {
+        int low = 0, high = count;
+        while (low < high) {
+            var mid = (low + high) >>> 1;
+            if (ends[mid] > index) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    // First range k with starts[k] > index, count if none
+    private int firstStartAfter(int index) {
+        int low = 0, high = count;
+        while (low < high) {
+            var mid = (low + high) >>> 1;
+            if (starts[mid] > index) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    // Replaces ranges [from, to) with new ranges
+    private void replace(int from, int to, int[] newStarts, int[] newEnds) {
+        var newCount = count - (to - from) + newStarts.length;
+        if (newCount > starts.length) {
+            var capacity = Math.max(newCount, starts.length * 2);
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+        }
+        System.arraycopy(starts, to, starts, from + newStarts.length, count - to);
+        System.arraycopy(ends, to, ends, from + newEnds.length, count - to);
+        System.arraycopy(newStarts, 0, starts, from, newStarts.length);
+        System.arraycopy(newEnds, 0, ends, from, newEnds.length);
+        count = newCount;
+        prefixValid = false;
+    }
+
+    private int[] prefix() {
+        if (!prefixValid) {
+            if (prefix.length < count + 1) {
+                prefix = new int[Math.max(count + 1, prefix.length * 2)];
+            }
+            prefix[0] = 0;
+            for (int k = 0; k < count; k++) {
+                prefix[k + 1] = prefix[k] + ends[k] - starts[k];
+            }
+            prefixValid = true;
+        }
+        return prefix;
+    }
+}
@@ -0,0 +1,516 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.table;
+
+import javafx.collections.ModifiableObservableListBase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Objects;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * This class implements observable list of rows identified by unique keys.
+ * <p>
+ * In addition to regular list operations the list can be {@link #reconcile(Collection) reconciled} with a new snapshot
+ * of rows. Reconciliation computes minimal set of removals, insertions and in-place replacements and applies them as a
+ * single compound change. Rows that were not changed keep their positions, so table selection, scroll position and
+ * visible cells are preserved.
+ * <p>
+ * The list maintains hash index of keys, so {@link #indexOfKey(Object)}, {@link #getByKey(Object)} and
+ * {@link #replace(Object)} take constant time. Appends and in-place replacements update the index immediately.
+ * Insertions and removals in the middle of the list invalidate index entries after the modified position, they are
+ * rebuilt lazily on the next lookup. Sorting, including {@link #setAll(Collection)} with a permutation of the current
+ * content as done by {@link javafx.scene.control.TableView} default sort policy, is reported as a permutation.
+ * <p>
+ * Keys must be unique. {@link #keyedObservableList(Function, Collection) Factory} and {@link #reconcile(Collection)}
+ * reject duplicate keys. Regular list operations such as {@link #add(Object)}, {@link #set(int, Object)} and
+ * {@link #setAll(Collection)} do not check keys, since that would require index rebuild after insertions in the
+ * middle of the list. Results of key lookups are undefined if the list contains duplicate keys.
+ * <p>
+ * <strong>Example:</strong>
+ * {@snippet lang = java:
+ * var items = keyedObservableList(Account::id);
+ * tableView.setItems(items);
+ * // ...
+ * items.reconcile(repository.getAccounts());
+ *}
+ *
+ * @param <K> the type of the keys
+ * @param <T> the type of the rows
+ */
+public class KeyedObservableList<K, T> extends ModifiableObservableListBase<T> {
+    private final Function<? super T, ? extends K> keyExtractor;
+    private final ArrayList<T> rows = new ArrayList<>();
+
+    // Index entries for positions below validUpTo are accurate, others may be stale or missing
+    private HashMap<K, Integer> index = new HashMap<>();
+    private int validUpTo = 0;
+
+    KeyedObservableList(Function<? super T, ? extends K> keyExtractor) {
+        this.keyExtractor = requireNonNull(keyExtractor, "Key extractor must not be null");
+    }
+
+    /**
+     * Creates an empty list.
+     *
+     * @param keyExtractor function that returns row key
+     * @param <K>          the type of the keys
+     * @param <T>          the type of the rows
+     * @return keyed observable list
+     * @throws NullPointerException if {@code keyExtractor} is {@code null}
+     */
+    public static <K, T> KeyedObservableList<K, T> keyedObservableList(Function<? super T, ? extends K> keyExtractor) {
+        return new KeyedObservableList<>(keyExtractor);
+    }
+
+    /**
+     * Creates list containing specified rows.
+     *
+     * @param keyExtractor function that returns row key
+     * @param rows         initial rows
+     * @param <K>          the type of the keys
+     * @param <T>          the type of the rows
+     * @return keyed observable list
+     * @throws NullPointerException     if any argument is {@code null}
+     * @throws IllegalArgumentException if rows contain duplicate keys
+     */
+    public static <K, T> KeyedObservableList<K, T> keyedObservableList(Function<? super T, ? extends K> keyExtractor,
+            Collection<? extends T> rows)
+    {
+        var list = new KeyedObservableList<K, T>(keyExtractor);
+        list.rows.addAll(requireNonNull(rows, "Rows must not be null"));
+        for (int pos = 0; pos < list.rows.size(); pos++) {
+            var key = list.keyOf(list.rows.get(pos));
+            if (list.index.put(key, pos) != null) {
+                throw new IllegalArgumentException("Duplicate key: " + key);
+            }
+        }
+        list.validUpTo = list.rows.size();
+        return list;
+    }
+
+    /**
+     * Returns index of the row with the specified key.
+     *
+     * @param key key
+     * @return row index or -1 if there is no such row
+     */
+    public int indexOfKey(K key) {
+        var i = index.get(key);
+        if (i != null && i < validUpTo && isAt(key, i)) {
+            return i;
+        }
+
+        for (int pos = validUpTo; pos < rows.size(); pos++) {
+            index.put(keyOf(rows.get(pos)), pos);
+        }
+        validUpTo = rows.size();
+
+        i = index.get(key);
+        if (i == null) {
+            return -1;
+        }
+        if (isAt(key, i)) {
+            return i;
+        }
+        // All positions are indexed now, entry left by removal of the row is stale
+        index.remove(key);
+        return -1;
+    }
+
+    /**
+     * Checks if list contains row with the specified key.
+     *
+     * @param key key
+     * @return {@code true} if row exists
+     */
+    public boolean containsKey(K key) {
+        return indexOfKey(key) >= 0;
+    }
+
+    /**
+     * Returns row with the specified key.
+     *
+     * @param key key
+     * @return row or {@code null} if there is no such row
+     */
+    public T getByKey(K key) {
+        var i = indexOfKey(key);
+        return i < 0 ? null : rows.get(i);
+    }
+
+    /**
+     * Replaces row that has the same key as the specified one. Replacement is reported as a single element change.
+     *
+     * @param row new row
+     * @return {@code true} if row was replaced, {@code false} if there is no row with the same key
+     * @throws NullPointerException if {@code row} is {@code null}
+     */
+    public boolean replace(T row) {
+        requireNonNull(row, "Row must not be null");
+        var i = indexOfKey(keyOf(row));
+        if (i < 0) {
+            return false;
+        }
+        set(i, row);
+        return true;
+    }
+
+    /**
+     * Returns key of the row.
+     *
+     * @param row row
+     * @return key
+     */
+    public K keyOf(T row) {
+        return keyExtractor.apply(row);
+    }
+
+    /**
+     * Replaces list content with the snapshot. Rows are matched by keys, matched rows are replaced in place if they are
+     * not {@link Object#equals(Object) equal}. All modifications are reported as a single change.
+     *
+     * @param snapshot new list content
+     * @return {@code true} if list was modified
+     * @throws NullPointerException     if {@code snapshot} is {@code null}
+     * @throws IllegalArgumentException if snapshot contains duplicate keys
+     */
+    public boolean reconcile(Collection<? extends T> snapshot) {
+        requireNonNull(snapshot, "Snapshot must not be null");
+
+        @SuppressWarnings("unchecked")
+        var newRows = (T[]) snapshot.toArray();
+        var oldSize = rows.size();
+        var newSize = newRows.length;
+
+        // Hash index of the new keys
+        var newIndex = new HashMap<K, Integer>(Math.max(16, (int) (newSize / 0.75f) + 1));
+        for (int i = 0; i < newSize; i++) {
+            if (newIndex.put(keyExtractor.apply(newRows[i]), i) != null) {
+                throw new IllegalArgumentException("Duplicate key: " + keyExtractor.apply(newRows[i]));
+            }
+        }
+
+        // Position of each old row in the new snapshot, -1 if removed
+        var target = new int[oldSize];
+        for (int i = 0; i < oldSize; i++) {
+            var pos = newIndex.get(keyExtractor.apply(rows.get(i)));
+            target[i] = pos == null ? -1 : pos;
+        }
+
+        var keep = longestIncreasingSubsequence(target);
+        var keptNew = new boolean[newSize];
+        for (int i = 0; i < oldSize; i++) {
+            if (keep[i]) {
+                keptNew[target[i]] = true;
+            }
+        }
+
+        var oldRows = new ArrayList<>(rows);
+        var modified = false;
+
+        beginChange();
+        try {
+            rows.clear();
+            rows.addAll(Arrays.asList(newRows));
+            index = newIndex;
+            validUpTo = newSize;
+
+            // Walk both sequences, pos is the position in the list being transformed
+            int pos = 0;
+            int i = 0;
+            int j = 0;
+            while (i < oldSize || j < newSize) {
+                if (i < oldSize && !keep[i]) {
+                    nextRemove(pos, oldRows.get(i));
+                    i++;
+                    modified = true;
+                } else if (j < newSize && !keptNew[j]) {
+                    nextAdd(pos, pos + 1);
+                    pos++;
+                    j++;
+                    modified = true;
+                } else {
+                    var oldRow = oldRows.get(i);
+                    if (!Objects.equals(oldRow, newRows[j])) {
+                        nextSet(pos, oldRow);
+                        modified = true;
+                    }
+                    pos++;
+                    i++;
+                    j++;
+                }
+            }
+        } finally {
+            endChange();
+        }
+        return modified;
+    }
+
+    /**
+     * Marks elements that belong to the longest strictly increasing subsequence, negative values are never included.
+     * Already ordered input, the most common case, is detected in a single pass.
+     */
+    static boolean[] longestIncreasingSubsequence(int[] values) {
+        var result = new boolean[values.length];
+
+        // Fast path: surviving rows did not change their relative order
+        int last = -1;
+        var ordered = true;
+        for (var v : values) {
+            if (v < 0) continue;
+            if (v < last) {
+                ordered = false;
+                break;
+            }
+            last = v;
+        }
+        if (ordered) {
+            for (int i = 0; i < values.length; i++) {
+                result[i] = values[i] >= 0;
+            }
+            return result;
+        }
+
+        // Patience sorting, O(n log n)
+        var tails = new int[values.length];
+        var previous = new int[values.length];
+        int length = 0;
+        for (int i = 0; i < values.length; i++) {
+            var v = values[i];
+            if (v < 0) continue;
+
+            int lo = 0;
+            int hi = length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (values[tails[mid]] < v) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            previous[i] = lo > 0 ? tails[lo - 1] : -1;
+            tails[lo] = i;
+            if (lo == length) {
+                length++;
+            }
+        }
+
+        for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = previous[i]) {
+            result[i] = true;
+        }
+        return result;
+    }
+
+    private boolean isAt(K key, int pos) {
+        return pos < rows.size() && Objects.equals(key, keyOf(rows.get(pos)));
+    }
+
+    private void invalidateFrom(int pos) {
+        validUpTo = Math.min(validUpTo, pos);
+    }
+
+    private void removeFromIndex(T row, int pos) {
+        var key = keyOf(row);
+        var i = index.get(key);
+        if (i != null && i == pos) {
+            index.remove(key);
+        }
+    }
+
+    // ModifiableObservableListBase
+
+    @Override
+    public T get(int index) {
+        return rows.get(index);
+    }
+
+    @Override
+    public int size() {
+        return rows.size();
+    }
+
+    @Override
+    protected void doAdd(int index, T element) {
+        rows.add(index, element);
+        if (index == validUpTo && index == rows.size() - 1) {
+            this.index.put(keyOf(element), index);
+            validUpTo++;
+        } else {
+            invalidateFrom(index);
+        }
+    }
+
+    @Override
+    protected T doSet(int index, T element) {
+        var old = rows.set(index, element);
+        removeFromIndex(old, index);
+        this.index.put(keyOf(element), index);
+        return old;
+    }
+
+    @Override
+    protected T doRemove(int index) {
+        var old = rows.remove(index);
+        removeFromIndex(old, index);
+        invalidateFrom(index);
+        return old;
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> c) {
+        if (index < 0 || index > rows.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        if (c.isEmpty()) {
+            return false;
+        }
+
+        beginChange();
+        try {
+            var append = index == rows.size() && validUpTo == rows.size();
+            rows.addAll(index, c);
+            if (append) {
+                for (int pos = index; pos < rows.size(); pos++) {
+                    this.index.put(keyOf(rows.get(pos)), pos);
+                }
+                validUpTo = rows.size();
+            } else {
+                invalidateFrom(index);
+            }
+            nextAdd(index, index + c.size());
+            modCount++;
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> c) {
+        return addAll(rows.size(), c);
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) {
+            return;
+        }
+
+        beginChange();
+        try {
+            var range = rows.subList(fromIndex, toIndex);
+            var removed = new ArrayList<>(range);
+            range.clear();
+            for (int i = 0; i < removed.size(); i++) {
+                removeFromIndex(removed.get(i), fromIndex + i);
+            }
+            invalidateFrom(fromIndex);
+            nextRemove(fromIndex, removed);
+            modCount++;
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Replaces list content. If new content is a permutation of the current one, i.e. it contains the same row
+     * instances, the modification is reported as a permutation.
+     *
+     * @param col new content
+     * @return {@code true}
+     */
+    @Override
+    public boolean setAll(Collection<? extends T> col) {
+        var permutation = toPermutation(col);
+        if (permutation != null) {
+            @SuppressWarnings("unchecked")
+            var newRows = (T[]) col.toArray();
+            applyPermutation(newRows, permutation);
+            return true;
+        }
+
+        beginChange();
+        try {
+            clear();
+            addAll(col);
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    /**
+     * Sorts the list. Sorting is stable and is reported as a permutation.
+     *
+     * @param comparator comparator, {@code null} means natural ordering
+     */
+    @Override
+    public void sort(Comparator<? super T> comparator) {
+        if (rows.size() < 2) {
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        var newRows = (T[]) rows.toArray();
+        Arrays.sort(newRows, comparator);
+        var permutation = toPermutation(Arrays.asList(newRows));
+        if (permutation != null) {
+            applyPermutation(newRows, permutation);
+        }
+    }
+
+    /**
+     * Returns permutation that maps current positions to positions in the new content or {@code null} if new content
+     * is not a permutation of the current one.
+     */
+    private int[] toPermutation(Collection<? extends T> col) {
+        if (col.size() != rows.size() || rows.isEmpty()) {
+            return null;
+        }
+
+        var permutation = new int[rows.size()];
+        var assigned = new boolean[rows.size()];
+        int newPos = 0;
+        for (var row : col) {
+            var oldPos = indexOfKey(keyOf(row));
+            if (oldPos < 0 || assigned[oldPos] || rows.get(oldPos) != row) {
+                return null;
+            }
+            assigned[oldPos] = true;
+            permutation[oldPos] = newPos++;
+        }
+        return permutation;
+    }
+
+    private void applyPermutation(T[] newRows, int[] permutation) {
+        var identity = true;
+        for (int i = 0; identity && i < permutation.length; i++) {
+            identity = permutation[i] == i;
+        }
+        if (identity) {
+            return;
+        }
+
+        beginChange();
+        try {
+            rows.clear();
+            rows.addAll(Arrays.asList(newRows));
+            for (int i = 0; i < permutation.length; i++) {
+                index.put(keyOf(newRows[permutation[i]]), permutation[i]);
+            }
+            validUpTo = rows.size();
+            nextPermutation(0, rows.size(), permutation);
+            modCount++;
+        } finally {
+            endChange();
+        }
+    }
+}
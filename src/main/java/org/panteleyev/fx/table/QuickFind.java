@@ -0,0 +1,328 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.table;
+
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import org.panteleyev.fx.hidden.ColumnConverters;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+import static org.panteleyev.fx.hidden.PulseExecutor.PULSE_EXECUTOR;
+
+/**
+ * This class finds text in table cells in background.
+ * <p>
+ * Setting the {@link #queryProperty() query} starts a scan of the rows, the previous scan is cancelled. Rows are split
+ * into chunks that are scanned in parallel, each cell value is converted to string by the column converter and
+ * matched case-insensitively. Hits are delivered to the JavaFX application thread as soon as a chunk is scanned, so
+ * the first hits are available long before the scan completes. {@link #getHits() Hits} are always sorted by row and
+ * column.
+ * <p>
+ * The first delivered hit becomes {@link #currentHitProperty() current}, {@link #next()} and {@link #previous()}
+ * navigate over hits. Current hit stays the same while hits found later are inserted before it. Finder created for a
+ * table view selects and scrolls to the current hit.
+ * <p>
+ * Rows and converters are captured when a scan starts. {@link #refresh()} must be called to rescan after rows are
+ * changed. Column converters must be thread-safe. All methods must be called on the JavaFX application thread.
+ * <p>
+ * <strong>Example:</strong>
+ * {@snippet lang = java:
+ * var find = quickFind(tableView);
+ * find.queryProperty().bind(searchField.textProperty());
+ * nextButton.setOnAction(_ -> find.next());
+ *}
+ *
+ * @param <S> the type of the rows
+ */
+public final class QuickFind<S> {
+    /**
+     * Position of the found text.
+     *
+     * @param row    row index
+     * @param column column index in the order columns were added to the finder
+     */
+    public record Hit(int row, int column) implements Comparable<Hit> {
+        @Override
+        public int compareTo(Hit other) {
+            var result = Integer.compare(row, other.row);
+            return result != 0 ? result : Integer.compare(column, other.column);
+        }
+    }
+
+    private final class Scan {
+        private final String query;
+        private final List<? extends S> rows;
+        private final List<Function<? super S, ?>> converters;
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+        // Accessed on the JavaFX application thread only
+        private int remainingChunks;
+
+        Scan(String query, List<? extends S> rows, List<Function<? super S, ?>> converters) {
+            this.query = query;
+            this.rows = rows;
+            this.converters = converters;
+        }
+
+        void scanChunk(int from, int to) {
+            var found = new ArrayList<Hit>();
+            for (int r = from; r < to; r++) {
+                if ((r & 63) == 0 && cancelled.get()) {
+                    return;
+                }
+                var row = rows.get(r);
+                for (int c = 0; c < converters.size(); c++) {
+                    var value = converters.get(c).apply(row);
+                    if (value != null && containsIgnoreCase(value.toString(), query)) {
+                        found.add(new Hit(r, c));
+                    }
+                }
+            }
+            fxExecutor.execute(() -> deliver(this, found));
+        }
+    }
+
+    static final int CHUNK_SIZE = 2_048;
+
+    private final Supplier<List<? extends S>> rowSupplier;
+    private final List<Function<? super S, ?>> columns = new ArrayList<>();
+    private final Executor executor;
+    private final Executor fxExecutor;
+
+    private final StringProperty query = new SimpleStringProperty(this, "query", "");
+    private final ObservableList<Hit> hits = FXCollections.observableArrayList();
+    private final ObservableList<Hit> readOnlyHits = FXCollections.unmodifiableObservableList(hits);
+    private final ReadOnlyIntegerWrapper currentIndex = new ReadOnlyIntegerWrapper(this, "currentIndex", -1);
+    private final ReadOnlyObjectWrapper<Hit> currentHit = new ReadOnlyObjectWrapper<>(this, "currentHit");
+    private final ReadOnlyBooleanWrapper running = new ReadOnlyBooleanWrapper(this, "running");
+
+    private Scan scan;
+
+    QuickFind(Supplier<List<? extends S>> rowSupplier, Executor executor, Executor fxExecutor) {
+        this.rowSupplier = rowSupplier;
+        this.executor = executor;
+        this.fxExecutor = fxExecutor;
+        query.addListener(_ -> refresh());
+    }
+
+    /**
+     * Creates finder of table items without columns.
+     *
+     * @param items table items
+     * @param <S>   the type of the rows
+     * @return finder
+     * @throws NullPointerException if {@code items} is {@code null}
+     */
+    public static <S> QuickFind<S> quickFind(List<? extends S> items) {
+        requireNonNull(items, "Items must not be null");
+        return new QuickFind<>(() -> items, ForkJoinPool.commonPool(), PULSE_EXECUTOR);
+    }
+
+    /**
+     * Creates finder of table items and visible factory columns. Finder selects and scrolls to the current hit.
+     *
+     * @param tableView table view
+     * @param <S>       the type of the rows
+     * @return finder
+     * @throws NullPointerException if {@code tableView} is {@code null}
+     */
+    public static <S> QuickFind<S> quickFind(TableView<S> tableView) {
+        requireNonNull(tableView, "Table view must not be null");
+        var find = new QuickFind<S>(tableView::getItems, ForkJoinPool.commonPool(), PULSE_EXECUTOR);
+
+        var tableColumns = new ArrayList<TableColumn<S, ?>>();
+        for (var column : tableView.getVisibleLeafColumns()) {
+            var converter = ColumnConverters.converter(column);
+            if (converter != null) {
+                find.column(converter);
+                tableColumns.add(column);
+            }
+        }
+
+        find.currentHit.addListener((_, _, hit) -> {
+            if (hit == null) {
+                return;
+            }
+            var selectionModel = tableView.getSelectionModel();
+            if (selectionModel != null) {
+                selectionModel.clearAndSelect(hit.row(), tableColumns.get(hit.column()));
+            }
+            tableView.scrollTo(hit.row());
+        });
+        return find;
+    }
+
+    /**
+     * Adds column. Columns added after the scan has started are scanned after {@link #refresh()}.
+     *
+     * @param converter function that returns column value, value is converted to string with
+     *                  {@link Object#toString()}
+     * @return this finder
+     * @throws NullPointerException if {@code converter} is {@code null}
+     */
+    public QuickFind<S> column(Function<? super S, ?> converter) {
+        columns.add(requireNonNull(converter, "Converter must not be null"));
+        return this;
+    }
+
+    /**
+     * Query. Empty or {@code null} query clears hits.
+     *
+     * @return query property
+     */
+    public StringProperty queryProperty() {
+        return query;
+    }
+
+    /**
+     * Returns unmodifiable list of hits sorted by row and column.
+     *
+     * @return list of hits
+     */
+    public ObservableList<Hit> getHits() {
+        return readOnlyHits;
+    }
+
+    /**
+     * Index of the current hit, -1 if there are no hits.
+     *
+     * @return current index property
+     */
+    public ReadOnlyIntegerProperty currentIndexProperty() {
+        return currentIndex.getReadOnlyProperty();
+    }
+
+    /**
+     * Current hit, {@code null} if there are no hits.
+     *
+     * @return current hit property
+     */
+    public ReadOnlyObjectProperty<Hit> currentHitProperty() {
+        return currentHit.getReadOnlyProperty();
+    }
+
+    /**
+     * Indicates that scan is running.
+     *
+     * @return running property
+     */
+    public ReadOnlyBooleanProperty runningProperty() {
+        return running.getReadOnlyProperty();
+    }
+
+    /**
+     * Makes the next hit current, wraps around after the last hit.
+     */
+    public void next() {
+        if (!hits.isEmpty()) {
+            setCurrent((currentIndex.get() + 1) % hits.size());
+        }
+    }
+
+    /**
+     * Makes the previous hit current, wraps around before the first hit.
+     */
+    public void previous() {
+        if (!hits.isEmpty()) {
+            setCurrent((currentIndex.get() - 1 + hits.size()) % hits.size());
+        }
+    }
+
+    /**
+     * Cancels the running scan and starts a new one with the current query.
+     */
+    public void refresh() {
+        cancel();
+        hits.clear();
+        setCurrent(-1);
+
+        var text = query.get();
+        if (text == null || text.isEmpty() || columns.isEmpty()) {
+            return;
+        }
+
+        var rows = List.copyOf(rowSupplier.get());
+        if (rows.isEmpty()) {
+            return;
+        }
+        scan = new Scan(text, rows, List.copyOf(columns));
+        scan.remainingChunks = (rows.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        running.set(true);
+
+        var current = scan;
+        for (int from = 0; from < rows.size(); from += CHUNK_SIZE) {
+            var chunkFrom = from;
+            var chunkTo = Math.min(rows.size(), from + CHUNK_SIZE);
+            executor.execute(() -> current.scanChunk(chunkFrom, chunkTo));
+        }
+    }
+
+    /**
+     * Cancels the running scan. Hits found so far are kept.
+     */
+    public void cancel() {
+        if (scan != null) {
+            scan.cancelled.set(true);
+            scan = null;
+        }
+        running.set(false);
+    }
+
+    private void deliver(Scan delivered, List<Hit> found) {
+        if (delivered != scan) {
+            return;
+        }
+
+        if (!found.isEmpty()) {
+            // Chunk hits are sorted and do not interleave with hits of other chunks
+            var position = -Collections.binarySearch(hits, found.getFirst()) - 1;
+            hits.addAll(position, found);
+
+            var current = currentIndex.get();
+            if (current == -1) {
+                setCurrent(position);
+            } else if (position <= current) {
+                currentIndex.set(current + found.size());
+            }
+        }
+
+        if (--delivered.remainingChunks == 0) {
+            scan = null;
+            running.set(false);
+        }
+    }
+
+    private void setCurrent(int index) {
+        currentIndex.set(index);
+        currentHit.set(index < 0 ? null : hits.get(index));
+    }
+
+    static boolean containsIgnoreCase(String text, String query) {
+        var length = query.length();
+        for (int i = 0, last = text.length() - length; i <= last; i++) {
+            if (text.regionMatches(true, i, query, 0, length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
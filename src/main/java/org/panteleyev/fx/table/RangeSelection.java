@@ -0,0 +1,347 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.table;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Selection state of {@link RangeSelectionModel}: selected indices stored as {@link IndexRangeSet} and lazy observable
+ * lists of selected indices, items and cells.
+ * <p>
+ * Every change of the selection is published as a single replacement of a contiguous block of list positions. Both
+ * added and removed elements are lazy views, so the size of a change event does not depend on the number of selected
+ * rows.
+ *
+ * @param <S> the type of the items
+ * @param <C> the type of the cells
+ */
+final class RangeSelection<S, C> {
+    private record Part<E>(int from, int to, List<E> removed) {
+    }
+
+    private IndexRangeSet ranges = new IndexRangeSet();
+
+    private final IntFunction<S> item;
+    private final RangeList<Integer> indices = new RangeList<>(Integer::valueOf) {
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Integer index && ranges.contains(index);
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            return o instanceof Integer index && ranges.contains(index) ? ranges.rank(index) : -1;
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            return indexOf(o);
+        }
+    };
+    private final RangeList<S> items;
+    private final RangeList<C> cells;
+
+    RangeSelection(IntFunction<S> item, IntFunction<C> cell) {
+        this.item = item;
+        this.items = new RangeList<>(item);
+        this.cells = new RangeList<>(cell);
+    }
+
+    IndexRangeSet ranges() {
+        return ranges;
+    }
+
+    ObservableList<Integer> getSelectedIndices() {
+        return indices;
+    }
+
+    ObservableList<S> getSelectedItems() {
+        return items;
+    }
+
+    ObservableList<C> getSelectedCells() {
+        return cells;
+    }
+
+    /**
+     * Modifies selection. All modified indices must be within {@code [from, to)}.
+     *
+     * @param from     first index that may be modified
+     * @param to       index after the last one that may be modified
+     * @param mutation modification
+     */
+    void update(int from, int to, Consumer<IndexRangeSet> mutation) {
+        var old = ranges.copy();
+        mutation.accept(ranges);
+        if (ranges.equals(old)) {
+            return;
+        }
+
+        var position = old.rank(from);
+        var oldEnd = old.rank(to);
+        var newEnd = ranges.rank(to);
+        indices.fire(List.of(new Part<>(position, newEnd, view(old, position, oldEnd, Integer::valueOf))));
+        items.fire(List.of(new Part<>(position, newEnd, view(old, position, oldEnd, item))));
+        cells.fire(List.of(new Part<>(position, newEnd, view(old, position, oldEnd, cells.mapper))));
+    }
+
+    /**
+     * Updates selection after change of the items list. Removed items are deselected, inserted items are not
+     * selected, selection follows permuted items.
+     *
+     * @param change  items list change
+     * @param tracked index to track
+     * @return new position of the tracked index or -1 if it was removed
+     */
+    int itemsChanged(ListChangeListener.Change<? extends S> change, int tracked) {
+        var old = ranges.copy();
+        var firstChanged = Integer.MAX_VALUE;
+        var itemParts = new ArrayList<Part<S>>();
+
+        while (change.next()) {
+            if (change.wasUpdated()) {
+                continue;
+            }
+
+            var from = change.getFrom();
+            firstChanged = Math.min(firstChanged, from);
+
+            if (change.wasPermutated()) {
+                var to = change.getTo();
+                var permutation = new int[to - from];
+                for (int i = from; i < to; i++) {
+                    permutation[i - from] = change.getPermutation(i);
+                }
+                if (tracked >= from && tracked < to) {
+                    tracked = permutation[tracked - from];
+                }
+                ranges = permute(ranges, from, permutation);
+
+                // Selected items are the same, only their order changes
+                var size = ranges.size();
+                itemParts.add(new Part<>(0, size, view(old, 0, size, i ->
+                        item.apply(i >= from && i < to ? permutation[i - from] : i))));
+                continue;
+            }
+
+            var removed = change.getRemoved();
+            var removedSize = removed.size();
+            var addedSize = change.getAddedSize();
+
+            var position = ranges.rank(from);
+            var removedEnd = ranges.rank(from + removedSize);
+            if (removedEnd > position) {
+                var removedItems = new ArrayList<S>(removedEnd - position);
+                for (int p = position; p < removedEnd; p++) {
+                    removedItems.add(removed.get(ranges.get(p) - from));
+                }
+                itemParts.add(new Part<>(position, position, removedItems));
+            }
+
+            if (tracked >= from + removedSize) {
+                tracked += addedSize - removedSize;
+            } else if (tracked >= from) {
+                tracked = -1;
+            }
+            ranges.delete(from, removedSize);
+            ranges.insert(from, addedSize);
+        }
+
+        if (!ranges.equals(old)) {
+            var position = old.rank(firstChanged);
+            var oldSize = old.size();
+            var size = ranges.size();
+            indices.fire(List.of(new Part<>(position, size, view(old, position, oldSize, Integer::valueOf))));
+            cells.fire(List.of(new Part<>(position, size, view(old, position, oldSize, cells.mapper))));
+        }
+        if (!itemParts.isEmpty()) {
+            items.fire(itemParts);
+        }
+        return tracked;
+    }
+
+    private static IndexRangeSet permute(IndexRangeSet ranges, int from, int[] permutation) {
+        var result = new IndexRangeSet();
+        var permuted = new BitSet();
+        var to = from + permutation.length;
+        for (int k = 0; k < ranges.rangeCount(); k++) {
+            var start = ranges.rangeStart(k);
+            var end = ranges.rangeEnd(k);
+            // Parts outside of the permuted block stay as they are
+            result.add(start, Math.min(end, from));
+            result.add(Math.max(start, to), end);
+            for (int i = Math.max(start, from); i < Math.min(end, to); i++) {
+                permuted.set(permutation[i - from]);
+            }
+        }
+        for (int i = permuted.nextSetBit(0); i >= 0; ) {
+            var end = permuted.nextClearBit(i);
+            result.add(i, end);
+            i = permuted.nextSetBit(end);
+        }
+        return result;
+    }
+
+    private static <E> List<E> view(IndexRangeSet ranges, int from, int to, IntFunction<E> mapper) {
+        return new AbstractList<>() {
+            @Override
+            public E get(int index) {
+                if (index < 0 || index >= to - from) {
+                    throw new IndexOutOfBoundsException(index);
+                }
+                return mapper.apply(ranges.get(from + index));
+            }
+
+            @Override
+            public int size() {
+                return to - from;
+            }
+        };
+    }
+
+    private class RangeList<E> extends AbstractList<E> implements ObservableList<E> {
+        private final IntFunction<E> mapper;
+        private final List<ListChangeListener<? super E>> listeners = new ArrayList<>(2);
+        private final List<InvalidationListener> invalidationListeners = new ArrayList<>(2);
+
+        RangeList(IntFunction<E> mapper) {
+            this.mapper = mapper;
+        }
+
+        @Override
+        public E get(int index) {
+            return mapper.apply(ranges.get(index));
+        }
+
+        @Override
+        public int size() {
+            return ranges.size();
+        }
+
+        @Override
+        public void addListener(ListChangeListener<? super E> listener) {
+            listeners.add(requireNonNull(listener));
+        }
+
+        @Override
+        public void removeListener(ListChangeListener<? super E> listener) {
+            listeners.remove(listener);
+        }
+
+        @Override
+        public void addListener(InvalidationListener listener) {
+            invalidationListeners.add(requireNonNull(listener));
+        }
+
+        @Override
+        public void removeListener(InvalidationListener listener) {
+            invalidationListeners.remove(listener);
+        }
+
+        @SafeVarargs
+        @Override
+        public final boolean addAll(E... elements) {
+            throw new UnsupportedOperationException();
+        }
+
+        @SafeVarargs
+        @Override
+        public final boolean setAll(E... elements) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean setAll(Collection<? extends E> col) {
+            throw new UnsupportedOperationException();
+        }
+
+        @SafeVarargs
+        @Override
+        public final boolean removeAll(E... elements) {
+            throw new UnsupportedOperationException();
+        }
+
+        @SafeVarargs
+        @Override
+        public final boolean retainAll(E... elements) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void remove(int from, int to) {
+            throw new UnsupportedOperationException();
+        }
+
+        private void fire(List<Part<E>> parts) {
+            for (var listener : List.copyOf(invalidationListeners)) {
+                listener.invalidated(this);
+            }
+            for (var listener : List.copyOf(listeners)) {
+                listener.onChanged(new RangeChange<>(this, parts));
+            }
+        }
+    }
+
+    private static final class RangeChange<E> extends ListChangeListener.Change<E> {
+        private final List<Part<E>> parts;
+        private int cursor = -1;
+
+        RangeChange(ObservableList<E> list, List<Part<E>> parts) {
+            super(list);
+            this.parts = parts;
+        }
+
+        @Override
+        public boolean next() {
+            if (cursor + 1 < parts.size()) {
+                cursor++;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void reset() {
+            cursor = -1;
+        }
+
+        @Override
+        public int getFrom() {
+            return part().from();
+        }
+
+        @Override
+        public int getTo() {
+            return part().to();
+        }
+
+        @Override
+        public List<E> getRemoved() {
+            return part().removed();
+        }
+
+        @Override
+        protected int[] getPermutation() {
+            return new int[0];
+        }
+
+        private Part<E> part() {
+            if (cursor < 0 || cursor >= parts.size()) {
+                throw new IllegalStateException("next() must be called before inspecting the change");
+            }
+            return parts.get(cursor);
+        }
+    }
+}
@@ -0,0 +1,376 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.table;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.WeakListChangeListener;
+import javafx.scene.control.IndexRange;
+import javafx.scene.control.SelectionMode;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableColumnBase;
+import javafx.scene.control.TablePosition;
+import javafx.scene.control.TableView;
+
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Row selection model for large tables that stores selection as ranges of row indices.
+ * <p>
+ * Memory used by the model and the time of range selection, select all and clear selection are proportional to the
+ * number of selected ranges rather than the number of selected rows. Lists of selected indices, items and cells are
+ * lazy views of the ranges. Every selection change is published as a single replacement of a contiguous block of list
+ * positions with lazy added and removed sublists. Listeners that iterate added or removed elements still pay for each
+ * element, listeners should use {@link #getSelectedRanges()} instead.
+ * <p>
+ * Selection follows changes of the table items: removed rows are deselected, inserted rows are not selected, sorting
+ * keeps the selected rows selected. Cell selection is not supported, cell related methods operate on rows.
+ * <p>
+ * <strong>Example:</strong>
+ * {@snippet lang = java:
+ * var selectionModel = rangeSelectionModel(tableView);
+ * selectionModel.setSelectionMode(SelectionMode.MULTIPLE);
+ *}
+ *
+ * @param <S> the type of the rows
+ */
+public final class RangeSelectionModel<S> extends TableView.TableViewSelectionModel<S> {
+    private final RangeSelection<S, TablePosition<S, ?>> selection;
+
+    private ObservableList<S> items;
+    private final ListChangeListener<S> itemsListener = this::onItemsChanged;
+    private final WeakListChangeListener<S> weakItemsListener = new WeakListChangeListener<>(itemsListener);
+    private final InvalidationListener itemsPropertyListener = _ -> onItemsReplaced();
+    private final InvalidationListener selectionModeListener = _ -> onSelectionModeChanged();
+
+    private RangeSelectionModel(TableView<S> tableView) {
+        super(tableView);
+        selection = new RangeSelection<>(this::getModelItem, row -> new TablePosition<>(tableView, row, null));
+
+        tableView.itemsProperty().addListener(new WeakInvalidationListener(itemsPropertyListener));
+        selectionModeProperty().addListener(selectionModeListener);
+        items = tableView.getItems();
+        if (items != null) {
+            items.addListener(weakItemsListener);
+        }
+    }
+
+    /**
+     * Creates range selection model and sets it to the table view.
+     *
+     * @param tableView table view
+     * @param <S>       the type of the rows
+     * @return selection model
+     * @throws NullPointerException if {@code tableView} is {@code null}
+     */
+    public static <S> RangeSelectionModel<S> rangeSelectionModel(TableView<S> tableView) {
+        requireNonNull(tableView, "Table view must not be null");
+        var selectionModel = new RangeSelectionModel<>(tableView);
+        tableView.setSelectionModel(selectionModel);
+        return selectionModel;
+    }
+
+    /**
+     * Returns selected row ranges in ascending order. Ranges do not overlap or touch each other.
+     *
+     * @return list of ranges
+     */
+    public List<IndexRange> getSelectedRanges() {
+        return selection.ranges().toRanges();
+    }
+
+    /**
+     * Returns number of selected rows.
+     *
+     * @return number of selected rows
+     */
+    public int getSelectedCount() {
+        return selection.ranges().size();
+    }
+
+    @Override
+    public ObservableList<Integer> getSelectedIndices() {
+        return selection.getSelectedIndices();
+    }
+
+    @Override
+    public ObservableList<S> getSelectedItems() {
+        return selection.getSelectedItems();
+    }
+
+    @Override
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public ObservableList<TablePosition> getSelectedCells() {
+        return (ObservableList) selection.getSelectedCells();
+    }
+
+    @Override
+    public boolean isSelected(int row) {
+        return selection.ranges().contains(row);
+    }
+
+    @Override
+    public boolean isSelected(int row, TableColumn<S, ?> column) {
+        return isSelected(row);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return selection.ranges().isEmpty();
+    }
+
+    @Override
+    public void select(int row) {
+        if (!isValid(row)) {
+            return;
+        }
+        if (getSelectionMode() == SelectionMode.SINGLE) {
+            clearAndSelect(row);
+            return;
+        }
+        selection.update(row, row + 1, ranges -> ranges.add(row, row + 1));
+        selected(row);
+    }
+
+    @Override
+    public void select(int row, TableColumn<S, ?> column) {
+        select(row);
+    }
+
+    @Override
+    public void select(S item) {
+        if (item == null || items == null) {
+            return;
+        }
+        var row = items.indexOf(item);
+        if (row >= 0) {
+            select(row);
+        }
+    }
+
+    @Override
+    public void clearAndSelect(int row) {
+        if (!isValid(row)) {
+            return;
+        }
+        var to = Math.max(row, selection.ranges().last()) + 1;
+        selection.update(0, to, ranges -> {
+            ranges.clear();
+            ranges.add(row, row + 1);
+        });
+        selected(row);
+    }
+
+    @Override
+    public void clearAndSelect(int row, TableColumn<S, ?> column) {
+        clearAndSelect(row);
+    }
+
+    @Override
+    public void clearSelection(int row) {
+        selection.update(row, row + 1, ranges -> ranges.remove(row, row + 1));
+        updateSelectedIndex();
+    }
+
+    @Override
+    public void clearSelection(int row, TableColumn<S, ?> column) {
+        clearSelection(row);
+    }
+
+    @Override
+    public void clearSelection() {
+        var to = selection.ranges().last() + 1;
+        selection.update(0, to, IndexRangeSet::clear);
+        setSelectedIndex(-1);
+        setSelectedItem(null);
+    }
+
+    @Override
+    public void selectAll() {
+        if (getSelectionMode() == SelectionMode.SINGLE) {
+            return;
+        }
+        var count = getItemCount();
+        if (count == 0) {
+            return;
+        }
+        selection.update(0, count, ranges -> ranges.add(0, count));
+        setSelectedIndex(count - 1);
+        setSelectedItem(getModelItem(count - 1));
+    }
+
+    @Override
+    public void selectIndices(int row, int... rows) {
+        var last = isValid(row) ? row : -1;
+        var min = last < 0 ? Integer.MAX_VALUE : row;
+        var max = last;
+        if (rows != null) {
+            for (var r : rows) {
+                if (isValid(r)) {
+                    last = r;
+                    min = Math.min(min, r);
+                    max = Math.max(max, r);
+                }
+            }
+        }
+        if (last < 0) {
+            return;
+        }
+        if (getSelectionMode() == SelectionMode.SINGLE) {
+            clearAndSelect(last);
+            return;
+        }
+
+        selection.update(min, max + 1, ranges -> {
+            if (isValid(row)) {
+                ranges.add(row, row + 1);
+            }
+            if (rows != null) {
+                for (var r : rows) {
+                    if (isValid(r)) {
+                        ranges.add(r, r + 1);
+                    }
+                }
+            }
+        });
+        selected(last);
+    }
+
+    /**
+     * Selects rows from {@code start} inclusive to {@code end} exclusive. If {@code start} is greater than
+     * {@code end} rows are selected in descending order, i.e. {@code end} row is excluded.
+     *
+     * @param start the first row to select
+     * @param end   the row after the last one to select
+     */
+    @Override
+    public void selectRange(int start, int end) {
+        if (start == end) {
+            return;
+        }
+        var from = Math.max(0, Math.min(start, end) + (start < end ? 0 : 1));
+        var to = Math.min(getItemCount(), Math.max(start, end) + (start < end ? 0 : 1));
+        if (from >= to) {
+            return;
+        }
+        var last = start < end ? to - 1 : from;
+        if (getSelectionMode() == SelectionMode.SINGLE) {
+            clearAndSelect(last);
+            return;
+        }
+        selection.update(from, to, ranges -> ranges.add(from, to));
+        selected(last);
+    }
+
+    @Override
+    public void selectRange(int minRow, TableColumnBase<S, ?> minColumn, int maxRow,
+            TableColumnBase<S, ?> maxColumn)
+    {
+        selectRange(minRow, maxRow < minRow ? maxRow - 1 : maxRow + 1);
+    }
+
+    @Override
+    public void selectFirst() {
+        if (getItemCount() > 0) {
+            select(0);
+        }
+    }
+
+    @Override
+    public void selectLast() {
+        var count = getItemCount();
+        if (count > 0) {
+            select(count - 1);
+        }
+    }
+
+    @Override
+    public void selectPrevious() {
+        var focused = getFocusedIndex();
+        if (focused == -1) {
+            selectLast();
+        } else if (focused > 0) {
+            select(focused - 1);
+        }
+    }
+
+    @Override
+    public void selectNext() {
+        var focused = getFocusedIndex();
+        if (focused == -1) {
+            selectFirst();
+        } else if (focused < getItemCount() - 1) {
+            select(focused + 1);
+        }
+    }
+
+    @Override
+    public void selectAboveCell() {
+        selectPrevious();
+    }
+
+    @Override
+    public void selectBelowCell() {
+        selectNext();
+    }
+
+    @Override
+    public void selectLeftCell() {
+    }
+
+    @Override
+    public void selectRightCell() {
+    }
+
+    private boolean isValid(int row) {
+        return row >= 0 && row < getItemCount();
+    }
+
+    private void selected(int row) {
+        setSelectedIndex(row);
+        setSelectedItem(getModelItem(row));
+        focus(row);
+    }
+
+    private void updateSelectedIndex() {
+        var index = getSelectedIndex();
+        if (index >= 0 && isSelected(index)) {
+            return;
+        }
+        index = selection.ranges().last();
+        setSelectedIndex(index);
+        setSelectedItem(index < 0 ? null : getModelItem(index));
+    }
+
+    private void onItemsChanged(ListChangeListener.Change<? extends S> change) {
+        var index = selection.itemsChanged(change, getSelectedIndex());
+        setSelectedIndex(index);
+        updateSelectedIndex();
+    }
+
+    private void onItemsReplaced() {
+        if (items != null) {
+            items.removeListener(weakItemsListener);
+        }
+        items = getTableView().getItems();
+        if (items != null) {
+            items.addListener(weakItemsListener);
+        }
+        clearSelection();
+    }
+
+    private void onSelectionModeChanged() {
+        if (getSelectionMode() == SelectionMode.SINGLE && selection.ranges().size() > 1) {
+            var index = getSelectedIndex();
+            if (index >= 0) {
+                clearAndSelect(index);
+            } else {
+                clearSelection();
+            }
+        }
+    }
+}
@@ -0,0 +1,364 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.table;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.collections.ObservableList;
+import javafx.scene.control.TableView;
+import javafx.scene.control.TreeItem;
+import javafx.scene.control.TreeTableView;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * This class implements streaming adapter that delivers rows produced by background threads to the table items.
+ * <p>
+ * Rows can be offered from any thread either directly via {@link #offer(Object)} or by subscribing this stream to a
+ * {@link Flow.Publisher}. Rows are buffered in a lock-free queue and drained on the JavaFX application thread at most
+ * once per pulse. Each drain results in a single {@code addAll} call, i.e. one list change. The number of rows drained
+ * per pulse is adjusted so that adding them fits into configured time budget.
+ * <p>
+ * Buffer capacity provides backpressure: {@link #offer(Object)} returns {@code false} when buffer is full, publishers
+ * receive demand only for rows that can be buffered.
+ * <p>
+ * <strong>Example:</strong>
+ * {@snippet lang = java:
+ * var stream = rowStream(tableView);
+ * publisher.subscribe(stream);
+ *}
+ *
+ * @param <T> the type of the rows
+ */
+public final class RowStream<T> implements Flow.Subscriber<T> {
+    /**
+     * Default buffer capacity.
+     */
+    public static final int DEFAULT_CAPACITY = 65_536;
+    /**
+     * Default per-pulse time budget.
+     */
+    public static final Duration DEFAULT_BUDGET = Duration.ofMillis(4);
+
+    private static final int MIN_BATCH = 256;
+
+    private final Consumer<List<T>> sink;
+    private final int capacity;
+    private final long budgetNanos;
+    private final Executor fxExecutor;
+
+    private final ConcurrentLinkedQueue<T> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicLong publisherCredit = new AtomicLong();
+    // Publisher completed, completion handler is not called yet
+    private final AtomicBoolean completed = new AtomicBoolean();
+
+    private volatile Flow.Subscription subscription;
+    private volatile Consumer<Throwable> errorHandler = _ -> {};
+    private volatile Runnable completionHandler = () -> {};
+
+    // Accessed on the drain thread only, null in tests
+    private AnimationTimer timer;
+    private double nanosPerRow = 0;
+
+    RowStream(Consumer<List<T>> sink, Duration budget, int capacity, Executor fxExecutor) {
+        this.sink = requireNonNull(sink, "Sink must not be null");
+        this.budgetNanos = requireNonNull(budget, "Budget must not be null").toNanos();
+        if (budgetNanos <= 0) {
+            throw new IllegalArgumentException("Budget must be positive");
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.fxExecutor = fxExecutor;
+    }
+
+    /**
+     * Creates stream that appends rows to the specified list.
+     *
+     * @param items target list
+     * @param <T>   the type of the rows
+     * @return row stream
+     * @throws NullPointerException if {@code items} is {@code null}
+     */
+    public static <T> RowStream<T> rowStream(ObservableList<T> items) {
+        return rowStream(items, DEFAULT_BUDGET, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates stream that appends rows to the specified list.
+     *
+     * @param items    target list
+     * @param budget   per-pulse time budget
+     * @param capacity buffer capacity
+     * @param <T>      the type of the rows
+     * @return row stream
+     * @throws NullPointerException     if {@code items} or {@code budget} is {@code null}
+     * @throws IllegalArgumentException if {@code budget} or {@code capacity} is not positive
+     */
+    public static <T> RowStream<T> rowStream(ObservableList<T> items, Duration budget, int capacity) {
+        requireNonNull(items, "Items must not be null");
+        return new RowStream<>(items::addAll, budget, capacity, Platform::runLater);
+    }
+
+    /**
+     * Creates stream that appends rows to the current items of the table view.
+     *
+     * @param tableView table view
+     * @param <T>       the type of the rows
+     * @return row stream
+     * @throws NullPointerException if {@code tableView} is {@code null}
+     */
+    public static <T> RowStream<T> rowStream(TableView<T> tableView) {
+        requireNonNull(tableView, "Table view must not be null");
+        return new RowStream<>(rows -> tableView.getItems().addAll(rows), DEFAULT_BUDGET, DEFAULT_CAPACITY,
+                Platform::runLater);
+    }
+
+    /**
+     * Creates stream that appends rows as children of the specified tree item. Each row is wrapped into
+     * {@link TreeItem}.
+     *
+     * @param parent parent tree item
+     * @param <T>    the type of the rows
+     * @return row stream
+     * @throws NullPointerException if {@code parent} is {@code null}
+     */
+    public static <T> RowStream<T> rowStream(TreeItem<T> parent) {
+        requireNonNull(parent, "Parent must not be null");
+        return new RowStream<>(rows -> parent.getChildren().addAll(toTreeItems(rows)), DEFAULT_BUDGET,
+                DEFAULT_CAPACITY, Platform::runLater);
+    }
+
+    /**
+     * Creates stream that appends rows as children of the current root of the tree table view.
+     *
+     * @param treeTableView tree table view
+     * @param <T>           the type of the rows
+     * @return row stream
+     * @throws NullPointerException if {@code treeTableView} is {@code null}
+     */
+    public static <T> RowStream<T> rowStream(TreeTableView<T> treeTableView) {
+        requireNonNull(treeTableView, "Tree table view must not be null");
+        return new RowStream<>(rows -> {
+            var root = treeTableView.getRoot();
+            if (root != null) {
+                root.getChildren().addAll(toTreeItems(rows));
+            }
+        }, DEFAULT_BUDGET, DEFAULT_CAPACITY, Platform::runLater);
+    }
+
+    /**
+     * Sets handler for errors reported by the publisher. Handler is called on the publisher thread.
+     *
+     * @param errorHandler error handler
+     * @return this stream
+     * @throws NullPointerException if {@code errorHandler} is {@code null}
+     */
+    public RowStream<T> errorHandler(Consumer<Throwable> errorHandler) {
+        this.errorHandler = requireNonNull(errorHandler, "Error handler must not be null");
+        return this;
+    }
+
+    /**
+     * Sets handler called on the JavaFX application thread when publisher completes and all its rows are delivered.
+     *
+     * @param completionHandler completion handler
+     * @return this stream
+     * @throws NullPointerException if {@code completionHandler} is {@code null}
+     */
+    public RowStream<T> completionHandler(Runnable completionHandler) {
+        this.completionHandler = requireNonNull(completionHandler, "Completion handler must not be null");
+        return this;
+    }
+
+    /**
+     * Offers row to this stream. This method can be called from any thread.
+     *
+     * @param row row
+     * @return {@code true} if row was accepted, {@code false} if buffer is full
+     * @throws NullPointerException if {@code row} is {@code null}
+     */
+    public boolean offer(T row) {
+        requireNonNull(row, "Row must not be null");
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            return false;
+        }
+        queue.add(row);
+        schedule();
+        return true;
+    }
+
+    /**
+     * Returns number of buffered rows that are not delivered yet.
+     *
+     * @return number of pending rows
+     */
+    public int pendingCount() {
+        return size.get();
+    }
+
+    /**
+     * Cancels publisher subscription if any and discards all pending rows.
+     */
+    public void cancel() {
+        var s = subscription;
+        subscription = null;
+        if (s != null) {
+            s.cancel();
+        }
+        publisherCredit.set(0);
+        int removed = 0;
+        while (queue.poll() != null) {
+            removed++;
+        }
+        size.addAndGet(-removed);
+    }
+
+    // Flow.Subscriber
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        requireNonNull(subscription, "Subscription must not be null");
+        if (this.subscription != null) {
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        int demand = Math.max(1, capacity - size.get());
+        publisherCredit.addAndGet(demand);
+        subscription.request(demand);
+    }
+
+    @Override
+    public void onNext(T item) {
+        requireNonNull(item, "Item must not be null");
+        // Demand is limited by capacity, no need to check it here
+        publisherCredit.decrementAndGet();
+        size.incrementAndGet();
+        queue.add(item);
+        schedule();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        subscription = null;
+        errorHandler.accept(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        subscription = null;
+        completed.set(true);
+        // Remaining rows are drained by pulses, completion handler is called when the queue is empty
+        schedule();
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            fxExecutor.execute(this::startTimer);
+        }
+    }
+
+    private void startTimer() {
+        if (timer == null) {
+            timer = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    onPulse();
+                }
+            };
+        }
+        timer.start();
+    }
+
+    void onPulse() {
+        drain();
+        if (!queue.isEmpty()) {
+            return;
+        }
+
+        if (timer != null) {
+            timer.stop();
+        }
+        scheduled.set(false);
+        // Rows offered between the last poll and flag reset
+        if (!queue.isEmpty() && scheduled.compareAndSet(false, true)) {
+            startTimer();
+            return;
+        }
+
+        if (completed.compareAndSet(true, false)) {
+            completionHandler.run();
+        }
+    }
+
+    /**
+     * Moves buffered rows to the sink as a single batch. Batch size is limited by the time budget.
+     *
+     * @return number of rows drained
+     */
+    int drain() {
+        var limit = nanosPerRow <= 0 ? Integer.MAX_VALUE : Math.max(MIN_BATCH, (int) (budgetNanos / nanosPerRow));
+
+        var batch = new ArrayList<T>(Math.min(limit, Math.max(size.get(), 1)));
+        T row;
+        while (batch.size() < limit && (row = queue.poll()) != null) {
+            batch.add(row);
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        var start = System.nanoTime();
+        try {
+            sink.accept(batch);
+        } finally {
+            updateCost(System.nanoTime() - start, batch.size());
+            size.addAndGet(-batch.size());
+            requestMore(batch.size());
+        }
+        return batch.size();
+    }
+
+    private void updateCost(long elapsed, int rows) {
+        var cost = (double) elapsed / rows;
+        nanosPerRow = nanosPerRow <= 0 ? cost : 0.75 * nanosPerRow + 0.25 * cost;
+    }
+
+    private void requestMore(int drained) {
+        var s = subscription;
+        if (s == null) {
+            return;
+        }
+        var credit = publisherCredit.get();
+        var missing = capacity - credit - size.get();
+        var demand = Math.min(drained, missing);
+        if (demand > 0) {
+            publisherCredit.addAndGet(demand);
+            s.request(demand);
+        }
+    }
+
+    private static <T> List<TreeItem<T>> toTreeItems(List<T> rows) {
+        var items = new ArrayList<TreeItem<T>>(rows.size());
+        for (var row : rows) {
+            items.add(new TreeItem<>(row));
+        }
+        return items;
+    }
+}
@@ -0,0 +1,228 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.table;
+
+import javafx.scene.Node;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.IndexedCell;
+import javafx.scene.control.MenuItem;
+import javafx.scene.control.SeparatorMenuItem;
+import javafx.scene.control.TableRow;
+import javafx.scene.control.TableView;
+import javafx.scene.control.TreeTableRow;
+import javafx.scene.control.TreeTableView;
+import javafx.scene.input.ContextMenuEvent;
+import org.panteleyev.fx.FxAction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+import static org.panteleyev.fx.FxAction.ACTION_SEPARATOR;
+
+/**
+ * Context menu shared by all rows of a table.
+ * <p>
+ * Unlike {@link FxAction#createContextMenu(java.util.Collection)} attached to each row or cell, only one
+ * {@link ContextMenu} exists per table, and its items are created on the first show. Menu items are not bound to
+ * actions: text, accelerator, visibility and enablement of each item are evaluated every time the menu is shown, so
+ * neither memory nor the number of listeners depends on the number of rows.
+ * <p>
+ * The menu is shown for the row under the mouse pointer, or for the selected row when requested from keyboard. That
+ * row becomes {@link #getContextRow() context row} and is passed to enablement predicates and row handlers. Context row
+ * is {@code null} when the menu is requested outside of non-empty rows. The menu does not use
+ * {@link javafx.scene.control.Control#contextMenuProperty() context menu property} of the table.
+ * <p>
+ * <strong>Example:</strong>
+ * {@snippet lang = java:
+ * sharedContextMenu(tableView)
+ *     .action(editAction, Objects::nonNull, this::onEdit)
+ *     .action(deleteAction, account -> account != null && !account.locked(), this::onDelete)
+ *     .action(ACTION_SEPARATOR)
+ *     .action(refreshAction);
+ *}
+ *
+ * @param <S> the type of the rows
+ */
+public final class SharedContextMenu<S> {
+    private record Entry<S>(FxAction action, Predicate<? super S> enabled, Consumer<? super S> onAction) {
+    }
+
+    private final List<Entry<S>> entries = new ArrayList<>();
+
+    private List<MenuItem> items;
+    private ContextMenu contextMenu;
+    private S contextRow;
+
+    SharedContextMenu() {
+    }
+
+    /**
+     * Creates context menu shared by all rows of the table view.
+     *
+     * @param tableView table view
+     * @param <S>       the type of the rows
+     * @return shared context menu
+     * @throws NullPointerException if {@code tableView} is {@code null}
+     */
+    public static <S> SharedContextMenu<S> sharedContextMenu(TableView<S> tableView) {
+        requireNonNull(tableView, "Table view must not be null");
+        var menu = new SharedContextMenu<S>();
+        tableView.addEventHandler(ContextMenuEvent.CONTEXT_MENU_REQUESTED, event -> {
+            var index = event.isKeyboardTrigger()
+                    ? tableView.getSelectionModel().getSelectedIndex()
+                    : rowIndex(event, tableView);
+            menu.show(tableView, event, index, tableView.getItems()::get);
+        });
+        return menu;
+    }
+
+    /**
+     * Creates context menu shared by all rows of the tree table view. Context row is the value of the tree item.
+     *
+     * @param treeTableView tree table view
+     * @param <S>           the type of the rows
+     * @return shared context menu
+     * @throws NullPointerException if {@code treeTableView} is {@code null}
+     */
+    public static <S> SharedContextMenu<S> sharedContextMenu(TreeTableView<S> treeTableView) {
+        requireNonNull(treeTableView, "Tree table view must not be null");
+        var menu = new SharedContextMenu<S>();
+        treeTableView.addEventHandler(ContextMenuEvent.CONTEXT_MENU_REQUESTED, event -> {
+            var index = event.isKeyboardTrigger()
+                    ? treeTableView.getSelectionModel().getSelectedIndex()
+                    : rowIndex(event, treeTableView);
+            menu.show(treeTableView, event, index, i -> {
+                var treeItem = treeTableView.getTreeItem(i);
+                return treeItem == null ? null : treeItem.getValue();
+            });
+        });
+        return menu;
+    }
+
+    /**
+     * Adds menu item of the action. Item is disabled if the action is disabled at the time the menu is shown, its
+     * event handler is the action event handler. {@link FxAction#ACTION_SEPARATOR} adds separator.
+     *
+     * @param action action
+     * @return this menu
+     * @throws NullPointerException if {@code action} is {@code null}
+     */
+    public SharedContextMenu<S> action(FxAction action) {
+        requireNonNull(action, "Action must not be null");
+        return add(new Entry<>(action, null, null));
+    }
+
+    /**
+     * Adds menu item of the action that handles the context row. Item is disabled if the action is disabled or the
+     * predicate does not accept the context row at the time the menu is shown. Action event handler is not used.
+     *
+     * @param action   action that provides text, accelerator, visibility and enablement
+     * @param enabled  predicate that accepts the context row if item is enabled, receives {@code null} outside rows
+     * @param onAction row handler, receives the context row
+     * @return this menu
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public SharedContextMenu<S> action(FxAction action, Predicate<? super S> enabled, Consumer<? super S> onAction) {
+        requireNonNull(action, "Action must not be null");
+        requireNonNull(enabled, "Predicate must not be null");
+        requireNonNull(onAction, "Handler must not be null");
+        return add(new Entry<>(action, enabled, onAction));
+    }
+
+    /**
+     * Returns the row the menu was shown for the last time. Row is retained until the menu is shown again.
+     *
+     * @return context row or {@code null}
+     */
+    public S getContextRow() {
+        return contextRow;
+    }
+
+    private SharedContextMenu<S> add(Entry<S> entry) {
+        entries.add(entry);
+        // Items are created again on the next show
+        items = null;
+        if (contextMenu != null) {
+            contextMenu.getItems().clear();
+        }
+        return this;
+    }
+
+    private void show(Node owner, ContextMenuEvent event, int index, IntFunction<S> rowAt) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        if (contextMenu == null) {
+            contextMenu = new ContextMenu();
+        }
+        contextMenu.hide();
+
+        var rebuild = items == null;
+        var menuItems = prepare(index < 0 ? null : rowAt.apply(index));
+        if (rebuild) {
+            contextMenu.getItems().setAll(menuItems);
+        }
+        contextMenu.show(owner, event.getScreenX(), event.getScreenY());
+        event.consume();
+    }
+
+    /**
+     * Sets context row, creates items if necessary and updates them.
+     *
+     * @param row context row
+     * @return menu items
+     */
+    List<MenuItem> prepare(S row) {
+        contextRow = row;
+        if (items == null) {
+            items = new ArrayList<>(entries.size());
+            for (var entry : entries) {
+                items.add(createItem(entry));
+            }
+        }
+
+        for (int i = 0; i < entries.size(); i++) {
+            var entry = entries.get(i);
+            if (entry.action() == ACTION_SEPARATOR) {
+                continue;
+            }
+            var action = entry.action();
+            var item = items.get(i);
+            item.setText(action.textProperty().get());
+            item.setAccelerator(action.acceleratorProperty().get());
+            item.setVisible(action.visibleProperty().get());
+            item.setDisable(action.disableProperty().get()
+                    || entry.enabled() != null && !entry.enabled().test(row));
+        }
+        return items;
+    }
+
+    private MenuItem createItem(Entry<S> entry) {
+        if (entry.action() == ACTION_SEPARATOR) {
+            return new SeparatorMenuItem();
+        }
+        var item = new MenuItem();
+        if (entry.onAction() == null) {
+            item.setOnAction(event -> entry.action().onActionProperty().get().handle(event));
+        } else {
+            item.setOnAction(_ -> entry.onAction().accept(contextRow));
+        }
+        return item;
+    }
+
+    private static int rowIndex(ContextMenuEvent event, Node owner) {
+        var node = event.getPickResult().getIntersectedNode();
+        while (node != null && node != owner) {
+            if (node instanceof TableRow<?> || node instanceof TreeTableRow<?>) {
+                var row = (IndexedCell<?>) node;
+                return row.isEmpty() ? -1 : row.getIndex();
+            }
+            node = node.getParent();
+        }
+        return -1;
+    }
+}
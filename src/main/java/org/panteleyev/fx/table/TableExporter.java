@@ -0,0 +1,435 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.table;
+
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import javafx.scene.control.TableView;
+import javafx.scene.control.TreeItem;
+import javafx.scene.control.TreeTableView;
+import org.panteleyev.fx.hidden.ColumnConverters;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * This class exports table rows to CSV or TSV file in background.
+ * <p>
+ * Exporter takes a snapshot of row references and column converters when created, so the table may be modified while
+ * export is running. The snapshot is a list of references, i.e. it takes memory proportional to the number of rows.
+ * Rows are formatted in chunks and written through a {@link FileChannel} on a virtual thread. Formatted text is not
+ * accumulated: at most one chunk is kept in memory, or a bounded window of chunks when
+ * {@link #parallel(boolean) parallel formatting} is enabled.
+ * <p>
+ * Exporter runs one export at a time, it can be reused after the previous export is completed.
+ * <p>
+ * Only factory columns with value converters are exported when exporter is created from a table view. Values are
+ * converted to strings with {@link Object#toString()}, {@code null} values are exported as empty strings. CSV fields
+ * are quoted according to RFC 4180. TSV fields escape tab, line feed, carriage return and backslash as {@code \t},
+ * {@code \n}, {@code \r} and {@code \\}.
+ * <p>
+ * Column converters must be thread-safe.
+ * <p>
+ * <strong>Example:</strong>
+ * {@snippet lang = java:
+ * var exporter = tableExporter(tableView).format(TableExporter.Format.CSV);
+ * progressBar.progressProperty().bind(exporter.progressProperty());
+ * exporter.export(path).whenComplete((rows, ex) -> Platform.runLater(() -> onExported(rows, ex)));
+ *}
+ *
+ * @param <S> the type of the rows
+ */
+public final class TableExporter<S> {
+    /**
+     * Export format.
+     */
+    public enum Format {
+        /**
+         * Comma separated values, RFC 4180.
+         */
+        CSV(',', "\r\n"),
+        /**
+         * Tab separated values.
+         */
+        TSV('\t', "\n");
+
+        private final char delimiter;
+        private final String lineSeparator;
+
+        Format(char delimiter, String lineSeparator) {
+            this.delimiter = delimiter;
+            this.lineSeparator = lineSeparator;
+        }
+    }
+
+    private record Column<S>(String header, Function<? super S, ?> converter) {
+    }
+
+    static final int CHUNK_SIZE = 4_096;
+
+    private final List<? extends S> rows;
+    private final List<Column<S>> columns = new ArrayList<>();
+    private final Executor fxExecutor;
+
+    private Format format = Format.CSV;
+    private Charset charset = StandardCharsets.UTF_8;
+    private boolean header = true;
+    private boolean parallel = false;
+
+    private final ReadOnlyDoubleWrapper progress = new ReadOnlyDoubleWrapper(this, "progress", 0);
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicBoolean progressScheduled = new AtomicBoolean();
+    // Progress fields above belong to the running export
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    TableExporter(List<? extends S> rows, Executor fxExecutor) {
+        this.rows = rows;
+        this.fxExecutor = fxExecutor;
+    }
+
+    /**
+     * Creates exporter without columns.
+     *
+     * @param items rows, a snapshot is taken
+     * @param <S>   the type of the rows
+     * @return table exporter
+     * @throws NullPointerException if {@code items} is {@code null}
+     */
+    public static <S> TableExporter<S> tableExporter(Collection<? extends S> items) {
+        requireNonNull(items, "Items must not be null");
+        return new TableExporter<>(List.copyOf(items), Platform::runLater);
+    }
+
+    /**
+     * Creates exporter of table items and visible factory columns.
+     *
+     * @param tableView table view
+     * @param <S>       the type of the rows
+     * @return table exporter
+     * @throws NullPointerException if {@code tableView} is {@code null}
+     */
+    public static <S> TableExporter<S> tableExporter(TableView<S> tableView) {
+        requireNonNull(tableView, "Table view must not be null");
+        var exporter = TableExporter.<S>tableExporter(tableView.getItems());
+        for (var column : tableView.getVisibleLeafColumns()) {
+            var converter = ColumnConverters.converter(column);
+            if (converter != null) {
+                exporter.column(column.getText(), converter);
+            }
+        }
+        return exporter;
+    }
+
+    /**
+     * Creates exporter of tree table item values in depth-first order and visible factory columns. Collapsed items are
+     * exported as well.
+     *
+     * @param treeTableView tree table view
+     * @param <S>           the type of the rows
+     * @return table exporter
+     * @throws NullPointerException if {@code treeTableView} is {@code null}
+     */
+    public static <S> TableExporter<S> tableExporter(TreeTableView<S> treeTableView) {
+        requireNonNull(treeTableView, "Tree table view must not be null");
+        var exporter = new TableExporter<S>(treeValues(treeTableView), Platform::runLater);
+        for (var column : treeTableView.getVisibleLeafColumns()) {
+            var converter = ColumnConverters.converter(column);
+            if (converter != null) {
+                exporter.column(column.getText(), converter);
+            }
+        }
+        return exporter;
+    }
+
+    /**
+     * Adds column.
+     *
+     * @param header    column header
+     * @param converter function that returns column value
+     * @return this exporter
+     * @throws NullPointerException if {@code converter} is {@code null}
+     */
+    public TableExporter<S> column(String header, Function<? super S, ?> converter) {
+        columns.add(new Column<>(header == null ? "" : header,
+                requireNonNull(converter, "Converter must not be null")));
+        return this;
+    }
+
+    /**
+     * Sets export format, default is {@link Format#CSV}.
+     *
+     * @param format format
+     * @return this exporter
+     * @throws NullPointerException if {@code format} is {@code null}
+     */
+    public TableExporter<S> format(Format format) {
+        this.format = requireNonNull(format, "Format must not be null");
+        return this;
+    }
+
+    /**
+     * Sets charset, default is UTF-8.
+     *
+     * @param charset charset
+     * @return this exporter
+     * @throws NullPointerException if {@code charset} is {@code null}
+     */
+    public TableExporter<S> charset(Charset charset) {
+        this.charset = requireNonNull(charset, "Charset must not be null");
+        return this;
+    }
+
+    /**
+     * Enables header line with column headers, enabled by default.
+     *
+     * @param header {@code true} to write header line
+     * @return this exporter
+     */
+    public TableExporter<S> header(boolean header) {
+        this.header = header;
+        return this;
+    }
+
+    /**
+     * Enables parallel formatting of row chunks on the common fork-join pool. Chunks are written in order.
+     *
+     * @param parallel {@code true} to format chunks in parallel
+     * @return this exporter
+     */
+    public TableExporter<S> parallel(boolean parallel) {
+        this.parallel = parallel;
+        return this;
+    }
+
+    /**
+     * Returns export progress from 0 to 1. Progress is updated on the JavaFX application thread.
+     *
+     * @return progress property
+     */
+    public ReadOnlyDoubleProperty progressProperty() {
+        return progress.getReadOnlyProperty();
+    }
+
+    /**
+     * Starts export on a virtual thread. Cancelling the returned future stops export and deletes the file. The future
+     * is completed on the JavaFX application thread after the final progress update. If export fails the file is
+     * deleted and the future is completed with {@link IOException} thrown while writing the file or with exception
+     * thrown by a column converter.
+     *
+     * @param path file path
+     * @return future completed with number of exported rows
+     * @throws NullPointerException  if {@code path} is {@code null}
+     * @throws IllegalStateException if another export of this exporter is running
+     */
+    public CompletableFuture<Long> export(Path path) {
+        requireNonNull(path, "Path must not be null");
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("Export is already running");
+        }
+
+        var future = new CompletableFuture<Long>();
+        written.set(0);
+        fxExecutor.execute(this::publishProgress);
+
+        Thread.ofVirtual().name("table-export").start(() -> {
+            try {
+                write(path, future);
+                // Queued after progress updates of the chunks
+                fxExecutor.execute(() -> {
+                    publishProgress();
+                    running.set(false);
+                    future.complete((long) rows.size());
+                });
+            } catch (CancellationException ex) {
+                deleteQuietly(path);
+                running.set(false);
+            } catch (Throwable ex) {
+                deleteQuietly(path);
+                running.set(false);
+                future.completeExceptionally(ex);
+            }
+        });
+        return future;
+    }
+
+    private void write(Path path, CompletableFuture<?> future) throws IOException {
+        try (var channel = FileChannel.open(path, WRITE, CREATE, TRUNCATE_EXISTING)) {
+            if (header) {
+                var line = new StringBuilder();
+                for (int c = 0; c < columns.size(); c++) {
+                    if (c > 0) line.append(format.delimiter);
+                    appendField(line, columns.get(c).header());
+                }
+                line.append(format.lineSeparator);
+                writeFully(channel, encode(line));
+            }
+
+            var chunks = (rows.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+            if (!parallel) {
+                for (int chunk = 0; chunk < chunks; chunk++) {
+                    checkCancelled(future);
+                    writeChunk(channel, formatChunk(chunk), chunk);
+                }
+            } else {
+                var window = 2 * ForkJoinPool.getCommonPoolParallelism();
+                var pending = new ArrayDeque<CompletableFuture<ByteBuffer>>(window);
+                var next = 0;
+                for (int chunk = 0; chunk < chunks; chunk++) {
+                    while (next < chunks && pending.size() < window) {
+                        var index = next++;
+                        pending.add(CompletableFuture.supplyAsync(() -> formatChunk(index)));
+                    }
+                    checkCancelled(future);
+                    writeChunk(channel, join(pending.poll()), chunk);
+                }
+            }
+        }
+    }
+
+    private void writeChunk(FileChannel channel, ByteBuffer buffer, int chunk) throws IOException {
+        writeFully(channel, buffer);
+        written.set(Math.min(rows.size(), (long) (chunk + 1) * CHUNK_SIZE));
+        if (progressScheduled.compareAndSet(false, true)) {
+            fxExecutor.execute(() -> {
+                progressScheduled.set(false);
+                publishProgress();
+            });
+        }
+    }
+
+    private void publishProgress() {
+        progress.set(rows.isEmpty() ? 1 : (double) written.get() / rows.size());
+    }
+
+    private ByteBuffer formatChunk(int chunk) {
+        var from = chunk * CHUNK_SIZE;
+        var to = Math.min(rows.size(), from + CHUNK_SIZE);
+        var text = new StringBuilder((to - from) * columns.size() * 12);
+        for (int r = from; r < to; r++) {
+            var row = rows.get(r);
+            for (int c = 0; c < columns.size(); c++) {
+                if (c > 0) text.append(format.delimiter);
+                var value = columns.get(c).converter().apply(row);
+                if (value != null) {
+                    appendField(text, value.toString());
+                }
+            }
+            text.append(format.lineSeparator);
+        }
+        return encode(text);
+    }
+
+    private void appendField(StringBuilder text, String value) {
+        if (format == Format.CSV) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                    && value.indexOf('\r') < 0)
+            {
+                text.append(value);
+            } else {
+                text.append('"').append(value.replace("\"", "\"\"")).append('"');
+            }
+        } else {
+            for (int i = 0; i < value.length(); i++) {
+                var ch = value.charAt(i);
+                switch (ch) {
+                    case '\t' -> text.append("\\t");
+                    case '\n' -> text.append("\\n");
+                    case '\r' -> text.append("\\r");
+                    case '\\' -> text.append("\\\\");
+                    default -> text.append(ch);
+                }
+            }
+        }
+    }
+
+    private ByteBuffer encode(CharSequence text) {
+        return charset.encode(CharBuffer.wrap(text));
+    }
+
+    /**
+     * Collects non-null tree item values in depth-first order including collapsed items.
+     *
+     * @param treeTableView tree table view
+     * @param <S>           the type of the rows
+     * @return list of values
+     */
+    static <S> List<S> treeValues(TreeTableView<S> treeTableView) {
+        var values = new ArrayList<S>();
+        var root = treeTableView.getRoot();
+        if (root == null) {
+            return values;
+        }
+
+        var stack = new ArrayDeque<TreeItem<S>>();
+        if (treeTableView.isShowRoot()) {
+            stack.push(root);
+        } else {
+            root.getChildren().reversed().forEach(stack::push);
+        }
+        while (!stack.isEmpty()) {
+            var item = stack.pop();
+            if (item.getValue() != null) {
+                values.add(item.getValue());
+            }
+            item.getChildren().reversed().forEach(stack::push);
+        }
+        return values;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static ByteBuffer join(CompletableFuture<ByteBuffer> chunk) {
+        try {
+            return chunk.join();
+        } catch (CompletionException ex) {
+            // Report the same exception as sequential formatting
+            switch (ex.getCause()) {
+                case RuntimeException cause -> throw cause;
+                case Error cause -> throw cause;
+                case null, default -> throw ex;
+            }
+        }
+    }
+
+    private static void checkCancelled(CompletableFuture<?> future) {
+        if (future.isCancelled()) {
+            throw new CancellationException();
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException _) {
+            // Nothing to do
+        }
+    }
+}
@@ -0,0 +1,165 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.table;
+
+import javafx.scene.control.TableColumnBase;
+import javafx.scene.control.TableView;
+import javafx.scene.control.TreeTableView;
+import org.panteleyev.fx.hidden.ColumnMetrics;
+
+import java.time.Duration;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Provides opt-in metrics of {@link org.panteleyev.fx.factories.TableFactory TableFactory} and
+ * {@link org.panteleyev.fx.factories.TreeTableFactory TreeTableFactory} columns.
+ * <p>
+ * Metrics are enabled with system property {@code org.panteleyev.fx.metrics=true} that must be set before the first
+ * column is created. When metrics are disabled, converters, cell value factories and comparators are not wrapped at
+ * all, and cells created by factory methods only check a static final flag.
+ * <p>
+ * When enabled, the following values are collected for each factory column:
+ * <ul>
+ *     <li>number and total time of converter invocations;</li>
+ *     <li>number of cell values created by cell value factory;</li>
+ *     <li>number of {@code updateItem} calls of cells created by factory methods, cells of custom cell factories are
+ *     not counted;</li>
+ *     <li>number of comparator invocations;</li>
+ *     <li>number and total time of sorts for tables {@link #instrument(TableView) instrumented} for sorting.</li>
+ * </ul>
+ * The same values are recorded as JDK Flight Recorder events: {@code org.panteleyev.fx.ColumnMetrics} is emitted
+ * periodically for each column, {@code org.panteleyev.fx.TableSort} is emitted for each sort with names of the sort
+ * columns and number of comparator invocations.
+ * <p>
+ * Events require module {@code jdk.jfr} at run time. The library does not require it, so applications on the module
+ * path must add it with {@code --add-modules jdk.jfr}, and custom runtime images must include it. Without the module
+ * metrics are still collected, but no events are recorded.
+ * <p>
+ * <strong>Example:</strong>
+ * {@snippet lang = java:
+ * // java -Dorg.panteleyev.fx.metrics=true ...
+ * TableMetrics.instrument(tableView);
+ * // ...
+ * TableMetrics.snapshot().forEach(System.out::println);
+ *}
+ */
+public final class TableMetrics {
+    /**
+     * System property that enables metrics.
+     */
+    public static final String PROPERTY = "org.panteleyev.fx.metrics";
+
+    /**
+     * {@code true} if metrics are enabled.
+     */
+    public static final boolean ENABLED = Boolean.getBoolean(PROPERTY);
+
+    /**
+     * Metrics of a column. Counters are cumulative since the column was created or metrics were
+     * {@link #reset() reset}.
+     *
+     * @param column          column text
+     * @param converterCalls  number of converter invocations
+     * @param converterTime   total time of converter invocations
+     * @param cellValues      number of cell values created by cell value factory
+     * @param updateItems     number of {@code updateItem} calls
+     * @param comparatorCalls number of comparator invocations
+     * @param sorts           number of sorts by the column
+     * @param sortTime        total time of sorts by the column
+     */
+    public record ColumnStats(
+            String column,
+            long converterCalls,
+            Duration converterTime,
+            long cellValues,
+            long updateItems,
+            long comparatorCalls,
+            long sorts,
+            Duration sortTime
+    ) {
+        /**
+         * Returns average number of comparator invocations per sort.
+         *
+         * @return comparator invocations per sort, 0 if column was not sorted
+         */
+        public double comparatorCallsPerSort() {
+            return sorts == 0 ? 0 : (double) comparatorCalls / sorts;
+        }
+    }
+
+    private TableMetrics() {
+    }
+
+    /**
+     * Returns metrics of the column.
+     *
+     * @param column table or tree table column
+     * @return column metrics or {@code null} if column is not instrumented
+     * @throws NullPointerException if {@code column} is {@code null}
+     */
+    public static ColumnStats stats(TableColumnBase<?, ?> column) {
+        requireNonNull(column, "Column must not be null");
+        var metrics = ColumnMetrics.get(column);
+        return metrics == null ? null : metrics.stats(column);
+    }
+
+    /**
+     * Returns metrics of all instrumented columns that are still reachable.
+     *
+     * @return list of column metrics
+     */
+    public static List<ColumnStats> snapshot() {
+        return ColumnMetrics.registered().entrySet().stream()
+                .map(e -> e.getValue().stats(e.getKey()))
+                .toList();
+    }
+
+    /**
+     * Resets counters of all columns.
+     */
+    public static void reset() {
+        ColumnMetrics.registered().values().forEach(ColumnMetrics::reset);
+    }
+
+    /**
+     * Wraps sort policy of the table to measure sorts. Must be called after custom sort policy is set. Does nothing
+     * if metrics are disabled.
+     *
+     * @param tableView table view
+     * @param <S>       the type of the rows
+     * @throws NullPointerException if {@code tableView} is {@code null}
+     */
+    public static <S> void instrument(TableView<S> tableView) {
+        requireNonNull(tableView, "Table view must not be null");
+        if (!ENABLED) {
+            return;
+        }
+        var policy = tableView.getSortPolicy();
+        if (policy != null) {
+            tableView.setSortPolicy(table ->
+                    ColumnMetrics.sort(table.getSortOrder(), table.getItems().size(), () -> policy.call(table)));
+        }
+    }
+
+    /**
+     * Wraps sort policy of the tree table to measure sorts. Must be called after custom sort policy such as
+     * {@link org.panteleyev.fx.tree.TreeTableSorter} is set. Does nothing if metrics are disabled.
+     *
+     * @param treeTableView tree table view
+     * @param <S>           the type of the rows
+     * @throws NullPointerException if {@code treeTableView} is {@code null}
+     */
+    public static <S> void instrument(TreeTableView<S> treeTableView) {
+        requireNonNull(treeTableView, "Tree table view must not be null");
+        if (!ENABLED) {
+            return;
+        }
+        var policy = treeTableView.getSortPolicy();
+        if (policy != null) {
+            treeTableView.setSortPolicy(table ->
+                    ColumnMetrics.sort(table.getSortOrder(), table.getExpandedItemCount(), () -> policy.call(table)));
+        }
+    }
+}
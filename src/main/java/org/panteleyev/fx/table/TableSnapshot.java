@@ -0,0 +1,454 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.table;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.List;
+
+import static java.nio.file.StandardOpenOption.READ;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * This class provides read access to a binary columnar table snapshot written by {@link TableSnapshotWriter}.
+ * <p>
+ * Snapshot file is memory-mapped, opening a snapshot reads only the header and the column directory. Values are
+ * decoded on access, strings are decoded from the dictionary once per distinct value. {@link #rows()} returns a list
+ * of lightweight row views that can be used as items of a table view, so only displayed rows are ever decoded.
+ * <p>
+ * File layout, all numbers are little-endian:
+ * <ul>
+ *     <li>header: magic {@code FXTS}, format version, row count, column count</li>
+ *     <li>column directory: column type, column name, offset of the column block</li>
+ *     <li>{@link ColumnType#LONG LONG}, {@link ColumnType#DOUBLE DOUBLE}, {@link ColumnType#DATE DATE} blocks:
+ *     null bitmap followed by 8-byte values</li>
+ *     <li>{@link ColumnType#BOOLEAN BOOLEAN} blocks: null bitmap followed by value bitmap</li>
+ *     <li>{@link ColumnType#STRING STRING} blocks: dictionary size, dictionary offsets, per-row dictionary codes,
+ *     dictionary UTF-8 bytes</li>
+ * </ul>
+ * <p>
+ * Snapshot is immutable and can be read from any thread.
+ * <p>
+ * <strong>Example:</strong>
+ * {@snippet lang = java:
+ * var snapshot = TableSnapshot.open(path);
+ * nameColumn.valueConverter(row -> row.getString(0));
+ * // Row list is unmodifiable, sorting is done by the sorted list
+ * var items = new SortedList<>(FXCollections.observableList(snapshot.rows()));
+ * items.comparatorProperty().bind(tableView.comparatorProperty());
+ * tableView.setItems(items);
+ *}
+ */
+public final class TableSnapshot {
+    /**
+     * Type of a column block.
+     */
+    public enum ColumnType {
+        /**
+         * Integral numbers, values are returned as {@link Long}.
+         */
+        LONG,
+        /**
+         * Floating point numbers, values are returned as {@link Double}.
+         */
+        DOUBLE,
+        /**
+         * Boolean values.
+         */
+        BOOLEAN,
+        /**
+         * Dates stored as epoch days, values are returned as {@link LocalDate}.
+         */
+        DATE,
+        /**
+         * Dictionary-encoded strings.
+         */
+        STRING
+    }
+
+    /**
+     * Lightweight view of a snapshot row. Values are decoded on access. Row views are created on each access, views
+     * are equal if they refer to the same row of the same snapshot.
+     */
+    public final class Row {
+        private final int index;
+
+        private Row(int index) {
+            this.index = index;
+        }
+
+        /**
+         * Returns row index.
+         *
+         * @return row index
+         */
+        public int index() {
+            return index;
+        }
+
+        /**
+         * Returns value of the column.
+         *
+         * @param column column index
+         * @return value or {@code null}
+         * @see TableSnapshot#get(int, int)
+         */
+        public Object get(int column) {
+            return TableSnapshot.this.get(column, index);
+        }
+
+        /**
+         * Returns value of the {@link ColumnType#STRING STRING} column.
+         *
+         * @param column column index
+         * @return value or {@code null}
+         */
+        public String getString(int column) {
+            return TableSnapshot.this.getString(column, index);
+        }
+
+        /**
+         * Returns value of the {@link ColumnType#LONG LONG} column.
+         *
+         * @param column column index
+         * @return value or {@code null}
+         */
+        public Long getLong(int column) {
+            return TableSnapshot.this.isNull(column, index) ? null : TableSnapshot.this.getLong(column, index);
+        }
+
+        /**
+         * Returns value of the {@link ColumnType#DOUBLE DOUBLE} column.
+         *
+         * @param column column index
+         * @return value or {@code null}
+         */
+        public Double getDouble(int column) {
+            return TableSnapshot.this.isNull(column, index) ? null : TableSnapshot.this.getDouble(column, index);
+        }
+
+        private TableSnapshot snapshot() {
+            return TableSnapshot.this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof TableSnapshot.Row that && that.snapshot() == snapshot() && that.index == index;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(snapshot()) + index;
+        }
+
+        @Override
+        public String toString() {
+            return "Row[" + index + "]";
+        }
+    }
+
+    private static final class Block {
+        private final String name;
+        private final ColumnType type;
+        private final ByteBuffer nulls;
+        private final ByteBuffer values;
+        // STRING only
+        private final int dictionarySize;
+        private final ByteBuffer offsets;
+        private final ByteBuffer bytes;
+        private String[] strings;
+
+        Block(String name, ColumnType type, ByteBuffer nulls, ByteBuffer values, int dictionarySize,
+                ByteBuffer offsets, ByteBuffer bytes)
+        {
+            this.name = name;
+            this.type = type;
+            this.nulls = nulls;
+            this.values = values;
+            this.dictionarySize = dictionarySize;
+            this.offsets = offsets;
+            this.bytes = bytes;
+        }
+    }
+
+    static final int MAGIC = 0x53545846;
+    static final int VERSION = 1;
+
+    private final int rowCount;
+    private final Block[] blocks;
+    private final List<Row> rows;
+
+    private TableSnapshot(ByteBuffer buffer) {
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a table snapshot");
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("Unsupported snapshot version " + buffer.getInt(4));
+        }
+        rowCount = buffer.getInt(8);
+        var columnCount = buffer.getInt(12);
+
+        blocks = new Block[columnCount];
+        var position = 16;
+        for (int c = 0; c < columnCount; c++) {
+            var type = ColumnType.values()[buffer.get(position)];
+            var nameLength = buffer.getInt(position + 1);
+            var nameBytes = new byte[nameLength];
+            buffer.get(position + 5, nameBytes);
+            var offset = (int) buffer.getLong(position + 5 + nameLength);
+            position += 13 + nameLength;
+            blocks[c] = block(buffer, new String(nameBytes, StandardCharsets.UTF_8), type, offset);
+        }
+
+        rows = new AbstractList<>() {
+            @Override
+            public Row get(int index) {
+                return new Row(checkRow(index));
+            }
+
+            @Override
+            public int size() {
+                return rowCount;
+            }
+        };
+    }
+
+    /**
+     * Opens snapshot file. File is memory-mapped, it is not read entirely.
+     *
+     * @param path file path
+     * @return snapshot
+     * @throws NullPointerException     if {@code path} is {@code null}
+     * @throws IOException              if file cannot be read
+     * @throws IllegalArgumentException if file is not a table snapshot
+     */
+    public static TableSnapshot open(Path path) throws IOException {
+        requireNonNull(path, "Path must not be null");
+        try (var channel = FileChannel.open(path, READ)) {
+            return new TableSnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Returns number of rows.
+     *
+     * @return row count
+     */
+    public int rowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Returns number of columns.
+     *
+     * @return column count
+     */
+    public int columnCount() {
+        return blocks.length;
+    }
+
+    /**
+     * Returns column name.
+     *
+     * @param column column index
+     * @return column name
+     */
+    public String getColumnName(int column) {
+        return blocks[column].name;
+    }
+
+    /**
+     * Returns column type.
+     *
+     * @param column column index
+     * @return column type
+     */
+    public ColumnType getColumnType(int column) {
+        return blocks[column].type;
+    }
+
+    /**
+     * Returns unmodifiable list of row views.
+     *
+     * @return list of rows
+     */
+    public List<Row> rows() {
+        return rows;
+    }
+
+    /**
+     * Checks if value is {@code null}.
+     *
+     * @param column column index
+     * @param row    row index
+     * @return {@code true} if value is {@code null}
+     */
+    public boolean isNull(int column, int row) {
+        checkRow(row);
+        var block = blocks[column];
+        if (block.type == ColumnType.STRING) {
+            return block.values.getInt(row * Integer.BYTES) < 0;
+        }
+        return !bit(block.nulls, row);
+    }
+
+    /**
+     * Returns value as an object of the type corresponding to column type.
+     *
+     * @param column column index
+     * @param row    row index
+     * @return value or {@code null}
+     */
+    public Object get(int column, int row) {
+        if (isNull(column, row)) {
+            return null;
+        }
+        return switch (blocks[column].type) {
+            case LONG -> getLong(column, row);
+            case DOUBLE -> getDouble(column, row);
+            case BOOLEAN -> getBoolean(column, row);
+            case DATE -> getDate(column, row);
+            case STRING -> getString(column, row);
+        };
+    }
+
+    /**
+     * Returns value of {@link ColumnType#LONG LONG} column.
+     *
+     * @param column column index
+     * @param row    row index
+     * @return value, 0 for {@code null}
+     * @throws IllegalStateException if column has different type
+     */
+    public long getLong(int column, int row) {
+        return block(column, ColumnType.LONG).values.getLong(checkRow(row) * Long.BYTES);
+    }
+
+    /**
+     * Returns value of {@link ColumnType#DOUBLE DOUBLE} column.
+     *
+     * @param column column index
+     * @param row    row index
+     * @return value, 0 for {@code null}
+     * @throws IllegalStateException if column has different type
+     */
+    public double getDouble(int column, int row) {
+        return block(column, ColumnType.DOUBLE).values.getDouble(checkRow(row) * Double.BYTES);
+    }
+
+    /**
+     * Returns value of {@link ColumnType#BOOLEAN BOOLEAN} column.
+     *
+     * @param column column index
+     * @param row    row index
+     * @return value, {@code false} for {@code null}
+     * @throws IllegalStateException if column has different type
+     */
+    public boolean getBoolean(int column, int row) {
+        return bit(block(column, ColumnType.BOOLEAN).values, checkRow(row));
+    }
+
+    /**
+     * Returns value of {@link ColumnType#DATE DATE} column.
+     *
+     * @param column column index
+     * @param row    row index
+     * @return value or {@code null}
+     * @throws IllegalStateException if column has different type
+     */
+    public LocalDate getDate(int column, int row) {
+        var block = block(column, ColumnType.DATE);
+        return bit(block.nulls, checkRow(row)) ? LocalDate.ofEpochDay(block.values.getLong(row * Long.BYTES)) : null;
+    }
+
+    /**
+     * Returns value of {@link ColumnType#STRING STRING} column.
+     *
+     * @param column column index
+     * @param row    row index
+     * @return value or {@code null}
+     * @throws IllegalStateException if column has different type
+     */
+    public String getString(int column, int row) {
+        var block = block(column, ColumnType.STRING);
+        var code = block.values.getInt(checkRow(row) * Integer.BYTES);
+        if (code < 0) {
+            return null;
+        }
+
+        var strings = block.strings;
+        if (strings == null) {
+            strings = new String[block.dictionarySize];
+            block.strings = strings;
+        }
+        var value = strings[code];
+        if (value == null) {
+            var from = block.offsets.getInt(code * Integer.BYTES);
+            var to = block.offsets.getInt((code + 1) * Integer.BYTES);
+            var bytes = new byte[to - from];
+            block.bytes.get(from, bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+            // Benign race: concurrent readers decode the same value
+            strings[code] = value;
+        }
+        return value;
+    }
+
+    private Block block(int column, ColumnType type) {
+        var block = blocks[column];
+        if (block.type != type) {
+            throw new IllegalStateException("Column " + column + " is " + block.type);
+        }
+        return block;
+    }
+
+    private int checkRow(int row) {
+        if (row < 0 || row >= rowCount) {
+            throw new IndexOutOfBoundsException(row);
+        }
+        return row;
+    }
+
+    private Block block(ByteBuffer buffer, String name, ColumnType type, int offset) {
+        var bitmapSize = bitmapSize(rowCount);
+        return switch (type) {
+            case LONG, DOUBLE, DATE -> new Block(name, type,
+                    slice(buffer, offset, bitmapSize),
+                    slice(buffer, offset + bitmapSize, rowCount * 8), 0, null, null);
+            case BOOLEAN -> new Block(name, type,
+                    slice(buffer, offset, bitmapSize),
+                    slice(buffer, offset + bitmapSize, bitmapSize), 0, null, null);
+            case STRING -> {
+                var dictionarySize = buffer.getInt(offset);
+                var offsetsStart = offset + Integer.BYTES;
+                var codesStart = offsetsStart + (dictionarySize + 1) * Integer.BYTES;
+                var bytesStart = codesStart + rowCount * Integer.BYTES;
+                var bytesLength = buffer.getInt(offsetsStart + dictionarySize * Integer.BYTES);
+                yield new Block(name, type, null,
+                        slice(buffer, codesStart, rowCount * Integer.BYTES), dictionarySize,
+                        slice(buffer, offsetsStart, (dictionarySize + 1) * Integer.BYTES),
+                        slice(buffer, bytesStart, bytesLength));
+            }
+        };
+    }
+
+    private static ByteBuffer slice(ByteBuffer buffer, int offset, int length) {
+        return buffer.slice(offset, length).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static boolean bit(ByteBuffer bitmap, int index) {
+        return (bitmap.get(index >>> 3) & (1 << (index & 7))) != 0;
+    }
+
+    static int bitmapSize(int rowCount) {
+        // Padded to 8 bytes to keep values aligned
+        return ((rowCount + 63) >>> 6) * 8;
+    }
+}
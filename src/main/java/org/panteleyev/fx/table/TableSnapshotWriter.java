@@ -0,0 +1,323 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.table;
+
+import javafx.scene.control.TableView;
+import javafx.scene.control.TreeTableView;
+import org.panteleyev.fx.hidden.ColumnConverters;
+import org.panteleyev.fx.table.TableSnapshot.ColumnType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.Function;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.requireNonNull;
+import static org.panteleyev.fx.table.TableSnapshot.bitmapSize;
+
+/**
+ * This class writes table rows to a binary columnar snapshot that can be opened with {@link TableSnapshot#open(Path)}.
+ * <p>
+ * Each column is written as a typed block, one block at a time, so memory used by the writer is proportional to a
+ * single column. Column type is either set explicitly or inferred from column values: integral numbers are written as
+ * {@link ColumnType#LONG LONG}, floating point numbers as {@link ColumnType#DOUBLE DOUBLE}, {@link Boolean} as
+ * {@link ColumnType#BOOLEAN BOOLEAN}, {@link LocalDate} as {@link ColumnType#DATE DATE}. Other values, and columns
+ * with values of mixed types, are written as dictionary-encoded {@link ColumnType#STRING STRING} using
+ * {@link Object#toString()}.
+ * <p>
+ * Snapshot size is limited to 2 GB. Writer takes a snapshot of row references when created, column converters are
+ * called from the thread that calls {@link #write(Path)}.
+ * <p>
+ * <strong>Example:</strong>
+ * {@snippet lang = java:
+ * var writer = tableSnapshotWriter(tableView);
+ * Thread.ofVirtual().start(() -> writer.write(path));
+ *}
+ *
+ * @param <S> the type of the rows
+ */
+public final class TableSnapshotWriter<S> {
+    private record Column<S>(String name, ColumnType type, Function<? super S, ?> converter) {
+    }
+
+    private final List<? extends S> rows;
+    private final List<Column<S>> columns = new ArrayList<>();
+
+    private TableSnapshotWriter(List<? extends S> rows) {
+        this.rows = rows;
+    }
+
+    /**
+     * Creates writer without columns.
+     *
+     * @param items rows, a snapshot is taken
+     * @param <S>   the type of the rows
+     * @return snapshot writer
+     * @throws NullPointerException if {@code items} is {@code null}
+     */
+    public static <S> TableSnapshotWriter<S> tableSnapshotWriter(Collection<? extends S> items) {
+        requireNonNull(items, "Items must not be null");
+        return new TableSnapshotWriter<>(List.copyOf(items));
+    }
+
+    /**
+     * Creates writer of table items and visible factory columns. Column types are inferred.
+     *
+     * @param tableView table view
+     * @param <S>       the type of the rows
+     * @return snapshot writer
+     * @throws NullPointerException if {@code tableView} is {@code null}
+     */
+    public static <S> TableSnapshotWriter<S> tableSnapshotWriter(TableView<S> tableView) {
+        requireNonNull(tableView, "Table view must not be null");
+        var writer = TableSnapshotWriter.<S>tableSnapshotWriter(tableView.getItems());
+        for (var column : tableView.getVisibleLeafColumns()) {
+            var converter = ColumnConverters.converter(column);
+            if (converter != null) {
+                writer.column(column.getText(), converter);
+            }
+        }
+        return writer;
+    }
+
+    /**
+     * Creates writer of tree table item values in depth-first order and visible factory columns. Collapsed items are
+     * written as well. Column types are inferred.
+     *
+     * @param treeTableView tree table view
+     * @param <S>           the type of the rows
+     * @return snapshot writer
+     * @throws NullPointerException if {@code treeTableView} is {@code null}
+     */
+    public static <S> TableSnapshotWriter<S> tableSnapshotWriter(TreeTableView<S> treeTableView) {
+        requireNonNull(treeTableView, "Tree table view must not be null");
+        var writer = new TableSnapshotWriter<S>(TableExporter.treeValues(treeTableView));
+        for (var column : treeTableView.getVisibleLeafColumns()) {
+            var converter = ColumnConverters.converter(column);
+            if (converter != null) {
+                writer.column(column.getText(), converter);
+            }
+        }
+        return writer;
+    }
+
+    /**
+     * Adds column, column type is inferred from values.
+     *
+     * @param name      column name
+     * @param converter function that returns column value
+     * @return this writer
+     * @throws NullPointerException if {@code converter} is {@code null}
+     */
+    public TableSnapshotWriter<S> column(String name, Function<? super S, ?> converter) {
+        columns.add(new Column<>(name == null ? "" : name, null,
+                requireNonNull(converter, "Converter must not be null")));
+        return this;
+    }
+
+    /**
+     * Adds column of the specified type. Values of {@link ColumnType#LONG LONG} and {@link ColumnType#DOUBLE DOUBLE}
+     * columns must be {@link Number}, values of {@link ColumnType#BOOLEAN BOOLEAN} columns must be {@link Boolean},
+     * values of {@link ColumnType#DATE DATE} columns must be {@link LocalDate}.
+     *
+     * @param name      column name
+     * @param type      column type
+     * @param converter function that returns column value
+     * @return this writer
+     * @throws NullPointerException if {@code type} or {@code converter} is {@code null}
+     */
+    public TableSnapshotWriter<S> column(String name, ColumnType type, Function<? super S, ?> converter) {
+        columns.add(new Column<>(name == null ? "" : name,
+                requireNonNull(type, "Type must not be null"),
+                requireNonNull(converter, "Converter must not be null")));
+        return this;
+    }
+
+    /**
+     * Writes snapshot file.
+     *
+     * @param path file path
+     * @return number of bytes written
+     * @throws NullPointerException if {@code path} is {@code null}
+     * @throws IOException          if file cannot be written or snapshot exceeds 2 GB
+     * @throws ClassCastException   if value does not match explicitly set column type
+     */
+    public long write(Path path) throws IOException {
+        requireNonNull(path, "Path must not be null");
+
+        var names = new byte[columns.size()][];
+        var directorySize = 16L;
+        for (int c = 0; c < columns.size(); c++) {
+            names[c] = columns.get(c).name().getBytes(StandardCharsets.UTF_8);
+            directorySize += 13 + names[c].length;
+        }
+
+        var offsets = new long[columns.size()];
+        var types = new ColumnType[columns.size()];
+        try (var channel = FileChannel.open(path, CREATE, TRUNCATE_EXISTING, WRITE)) {
+            // Blocks first, directory is written when block offsets are known
+            var position = align(directorySize);
+            for (int c = 0; c < columns.size(); c++) {
+                var column = columns.get(c);
+                var values = new Object[rows.size()];
+                for (int r = 0; r < values.length; r++) {
+                    values[r] = column.converter().apply(rows.get(r));
+                }
+                types[c] = column.type() == null ? inferType(values) : column.type();
+
+                var block = encode(types[c], values);
+                offsets[c] = position;
+                if (position + block.remaining() > Integer.MAX_VALUE) {
+                    throw new IOException("Snapshot exceeds 2 GB");
+                }
+                writeFully(channel, block, position);
+                position = align(position + block.limit());
+            }
+
+            var directory = ByteBuffer.allocate((int) directorySize).order(ByteOrder.LITTLE_ENDIAN)
+                    .putInt(TableSnapshot.MAGIC)
+                    .putInt(TableSnapshot.VERSION)
+                    .putInt(rows.size())
+                    .putInt(columns.size());
+            for (int c = 0; c < columns.size(); c++) {
+                directory.put((byte) types[c].ordinal())
+                        .putInt(names[c].length)
+                        .put(names[c])
+                        .putLong(offsets[c]);
+            }
+            writeFully(channel, directory.flip(), 0);
+            return channel.size();
+        }
+    }
+
+    static ColumnType inferType(Object[] values) {
+        ColumnType type = null;
+        for (var value : values) {
+            if (value == null) {
+                continue;
+            }
+            var valueType = switch (value) {
+                case Long _, Integer _, Short _, Byte _ -> ColumnType.LONG;
+                case Double _, Float _ -> ColumnType.DOUBLE;
+                case Boolean _ -> ColumnType.BOOLEAN;
+                case LocalDate _ -> ColumnType.DATE;
+                default -> ColumnType.STRING;
+            };
+            if (type == null) {
+                type = valueType;
+            } else if (type != valueType) {
+                return ColumnType.STRING;
+            }
+        }
+        return type == null ? ColumnType.STRING : type;
+    }
+
+    private static ByteBuffer encode(ColumnType type, Object[] values) throws IOException {
+        var rowCount = values.length;
+        var bitmapSize = bitmapSize(rowCount);
+        return switch (type) {
+            case LONG, DOUBLE, DATE -> {
+                var buffer = allocate((long) bitmapSize + rowCount * 8L);
+                for (int r = 0; r < rowCount; r++) {
+                    var value = values[r];
+                    if (value == null) {
+                        continue;
+                    }
+                    setBit(buffer, 0, r);
+                    var position = bitmapSize + r * 8;
+                    switch (type) {
+                        case LONG -> buffer.putLong(position, ((Number) value).longValue());
+                        case DOUBLE -> buffer.putDouble(position, ((Number) value).doubleValue());
+                        default -> buffer.putLong(position, ((LocalDate) value).toEpochDay());
+                    }
+                }
+                yield buffer;
+            }
+            case BOOLEAN -> {
+                var buffer = allocate(2L * bitmapSize);
+                for (int r = 0; r < rowCount; r++) {
+                    var value = values[r];
+                    if (value == null) {
+                        continue;
+                    }
+                    setBit(buffer, 0, r);
+                    if ((Boolean) value) {
+                        setBit(buffer, bitmapSize, r);
+                    }
+                }
+                yield buffer;
+            }
+            case STRING -> {
+                var dictionary = new HashMap<String, Integer>();
+                var entries = new ArrayList<byte[]>();
+                var codes = new int[rowCount];
+                var bytesLength = 0L;
+                for (int r = 0; r < rowCount; r++) {
+                    if (values[r] == null) {
+                        codes[r] = -1;
+                        continue;
+                    }
+                    var string = values[r].toString();
+                    var code = dictionary.get(string);
+                    if (code == null) {
+                        code = entries.size();
+                        dictionary.put(string, code);
+                        var bytes = string.getBytes(StandardCharsets.UTF_8);
+                        entries.add(bytes);
+                        bytesLength += bytes.length;
+                    }
+                    codes[r] = code;
+                }
+
+                var buffer = allocate(Integer.BYTES * (2L + entries.size() + rowCount) + bytesLength);
+                buffer.putInt(entries.size());
+                var offset = 0;
+                for (var entry : entries) {
+                    buffer.putInt(offset);
+                    offset += entry.length;
+                }
+                buffer.putInt(offset);
+                for (var code : codes) {
+                    buffer.putInt(code);
+                }
+                for (var entry : entries) {
+                    buffer.put(entry);
+                }
+                yield buffer.flip();
+            }
+        };
+    }
+
+    private static ByteBuffer allocate(long size) throws IOException {
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Snapshot exceeds 2 GB");
+        }
+        return ByteBuffer.allocate((int) size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static void setBit(ByteBuffer buffer, int offset, int index) {
+        var position = offset + (index >>> 3);
+        buffer.put(position, (byte) (buffer.get(position) | (1 << (index & 7))));
+    }
+
+    private static long align(long position) {
+        return (position + 7) & ~7L;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+
+/**
+ * Provides helper classes for {@link javafx.scene.control.TableView} and
+ * {@link javafx.scene.control.TreeTableView} contents.
+ */
+package org.panteleyev.fx.table;
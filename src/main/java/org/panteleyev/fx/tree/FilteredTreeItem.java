@@ -0,0 +1,245 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.tree;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ListChangeListener;
+import javafx.collections.WeakListChangeListener;
+import javafx.scene.control.TreeItem;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * This class implements filtered view of {@link TreeItem} hierarchy that preserves ancestors of matching items.
+ * <p>
+ * Each item of the view mirrors an item of the source hierarchy. Values, graphics and expanded state are bound to the
+ * source items, values are not copied. An item is visible if its value matches the predicate or if any of its
+ * descendants matches. Root item is always visible.
+ * <p>
+ * Predicate is evaluated bottom-up in a single pass, each item caches whether its subtree has a match. Children of an
+ * item are replaced only if the set of visible children has changed, branches not affected by the predicate change
+ * receive no events. Changes of the source hierarchy, i.e. added and removed children and changed values, re-evaluate
+ * only the changed item and its ancestors until the cached flag stays the same.
+ * <p>
+ * Items of the view are read-only: values are bound and children are managed by the view. View holds weak listeners,
+ * reference to the root item must be kept as long as it is used.
+ * <p>
+ * <strong>Example:</strong>
+ * {@snippet lang = java:
+ * var filter = new PredicateProperty<Account>();
+ * treeTableView.setRoot(filteredTreeItem(builder.build(accounts), filter));
+ * // ...
+ * filter.set(account -> account.name().contains(searchField.getText()));
+ *}
+ *
+ * @param <T> the type of the value
+ */
+public class FilteredTreeItem<T> extends TreeItem<T> {
+    private static final class Filter<T> {
+        private Predicate<? super T> predicate = _ -> true;
+    }
+
+    private final TreeItem<T> source;
+    private final Filter<T> filter;
+    private final FilteredTreeItem<T> parentItem;
+
+    // Mirrors of all source children in the source order
+    private final List<FilteredTreeItem<T>> mirrors = new ArrayList<>();
+    private boolean subtreeMatch = true;
+
+    private final ListChangeListener<TreeItem<T>> childrenListener = _ -> onSourceChildrenChanged();
+    private final WeakListChangeListener<TreeItem<T>> weakChildrenListener =
+            new WeakListChangeListener<>(childrenListener);
+    private final InvalidationListener valueListener = _ -> update(this);
+    private final WeakInvalidationListener weakValueListener = new WeakInvalidationListener(valueListener);
+
+    // Root only
+    private ObservableValue<? extends Predicate<? super T>> predicateValue;
+    private InvalidationListener predicateListener;
+
+    private FilteredTreeItem(TreeItem<T> source, Filter<T> filter, FilteredTreeItem<T> parentItem) {
+        this.source = source;
+        this.filter = filter;
+        this.parentItem = parentItem;
+
+        valueProperty().bind(source.valueProperty());
+        graphicProperty().bind(source.graphicProperty());
+        expandedProperty().bindBidirectional(source.expandedProperty());
+        source.getChildren().addListener(weakChildrenListener);
+        source.valueProperty().addListener(weakValueListener);
+    }
+
+    /**
+     * Creates filtered view of the source hierarchy.
+     *
+     * @param source    root of the source hierarchy
+     * @param predicate predicate, {@code null} value of the predicate matches all items
+     * @param <T>       the type of the value
+     * @return root of the filtered view
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public static <T> FilteredTreeItem<T> filteredTreeItem(TreeItem<T> source,
+            ObservableValue<? extends Predicate<? super T>> predicate)
+    {
+        requireNonNull(source, "Source must not be null");
+        requireNonNull(predicate, "Predicate must not be null");
+
+        var filter = new Filter<T>();
+        if (predicate.getValue() != null) {
+            filter.predicate = predicate.getValue();
+        }
+
+        var root = mirror(source, filter, null);
+        root.predicateValue = predicate;
+        root.predicateListener = _ -> {
+            var value = predicate.getValue();
+            filter.predicate = value == null ? _ -> true : value;
+            root.refilter();
+        };
+        predicate.addListener(new WeakInvalidationListener(root.predicateListener));
+        return root;
+    }
+
+    /**
+     * Returns source item mirrored by this item.
+     *
+     * @return source item
+     */
+    public TreeItem<T> getSource() {
+        return source;
+    }
+
+    /**
+     * Re-evaluates predicate for all items of this subtree. This is only required if source values are modified
+     * without notification.
+     */
+    public void refilter() {
+        evaluate(collect(this));
+        var item = parentItem;
+        var changed = true;
+        while (item != null && changed) {
+            changed = item.evaluate();
+            item = item.parentItem;
+        }
+    }
+
+    /**
+     * Stops tracking the predicate and the source hierarchy. Must be called on the root item of the view.
+     */
+    public void dispose() {
+        if (predicateValue != null) {
+            predicateValue.removeListener(predicateListener);
+            predicateValue = null;
+        }
+        for (var item : collect(this)) {
+            item.release();
+        }
+    }
+
+    private static <T> FilteredTreeItem<T> mirror(TreeItem<T> source, Filter<T> filter,
+            FilteredTreeItem<T> parentItem)
+    {
+        var top = new FilteredTreeItem<>(source, filter, parentItem);
+        var created = new ArrayList<FilteredTreeItem<T>>();
+        var stack = new ArrayDeque<FilteredTreeItem<T>>();
+        stack.push(top);
+        while (!stack.isEmpty()) {
+            var item = stack.pop();
+            created.add(item);
+            for (var child : item.source.getChildren()) {
+                var mirror = new FilteredTreeItem<>(child, filter, item);
+                item.mirrors.add(mirror);
+                stack.push(mirror);
+            }
+        }
+        evaluate(created);
+        return top;
+    }
+
+    /**
+     * Returns items of the subtree in pre-order, i.e. each item precedes its descendants.
+     */
+    private static <T> List<FilteredTreeItem<T>> collect(FilteredTreeItem<T> top) {
+        var result = new ArrayList<FilteredTreeItem<T>>();
+        var stack = new ArrayDeque<FilteredTreeItem<T>>();
+        stack.push(top);
+        while (!stack.isEmpty()) {
+            var item = stack.pop();
+            result.add(item);
+            for (var mirror : item.mirrors) {
+                stack.push(mirror);
+            }
+        }
+        return result;
+    }
+
+    private static <T> void evaluate(List<FilteredTreeItem<T>> preOrder) {
+        for (var i = preOrder.size() - 1; i >= 0; i--) {
+            preOrder.get(i).evaluate();
+        }
+    }
+
+    private static <T> void update(FilteredTreeItem<T> item) {
+        while (item != null && item.evaluate()) {
+            item = item.parentItem;
+        }
+    }
+
+    /**
+     * Re-evaluates this item assuming its mirrors are up to date.
+     *
+     * @return {@code true} if subtree match flag has changed
+     */
+    private boolean evaluate() {
+        var visible = new ArrayList<TreeItem<T>>(mirrors.size());
+        for (var mirror : mirrors) {
+            if (mirror.subtreeMatch) {
+                visible.add(mirror);
+            }
+        }
+        if (!visible.equals(getChildren())) {
+            getChildren().setAll(visible);
+        }
+
+        var match = parentItem == null || !visible.isEmpty() || filter.predicate.test(getValue());
+        var changed = match != subtreeMatch;
+        subtreeMatch = match;
+        return changed;
+    }
+
+    private void onSourceChildrenChanged() {
+        var existing = new IdentityHashMap<TreeItem<T>, FilteredTreeItem<T>>(mirrors.size());
+        for (var mirror : mirrors) {
+            existing.put(mirror.source, mirror);
+        }
+
+        mirrors.clear();
+        for (var child : source.getChildren()) {
+            var mirror = existing.remove(child);
+            mirrors.add(mirror != null ? mirror : mirror(child, filter, this));
+        }
+
+        for (var removed : existing.values()) {
+            for (var item : collect(removed)) {
+                item.release();
+            }
+        }
+        update(this);
+    }
+
+    private void release() {
+        valueProperty().unbind();
+        graphicProperty().unbind();
+        expandedProperty().unbindBidirectional(source.expandedProperty());
+        source.getChildren().removeListener(weakChildrenListener);
+        source.valueProperty().removeListener(weakValueListener);
+    }
+}
@@ -0,0 +1,321 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.tree;
+
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.control.TreeItem;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * This class implements {@link TreeItem} that loads its children on first expand.
+ * <p>
+ * Children are loaded by the child loader function on the specified executor. While loading, the item contains a
+ * single placeholder child. Collapsing the item before loading completes cancels loading. Loaded children are
+ * instances of {@link LazyTreeItem} that share configuration with their parent.
+ * <p>
+ * Optionally children of subtrees that stay collapsed longer than {@link #evictAfter(Duration) specified time} are
+ * released and loaded again on next expand. Eviction is checked whenever any item of the hierarchy is expanded or
+ * collapsed, or explicitly via {@link #evictCollapsed()}.
+ * <p>
+ * Configuration methods affect the whole hierarchy and should be called before the root item is shown. All methods
+ * must be called on the JavaFX application thread.
+ * <p>
+ * <strong>Example:</strong>
+ * {@snippet lang = java:
+ * var root = lazyTreeItem(rootAccount, repository::getChildAccounts, executor)
+ *     .leafPredicate(Account::isLeaf)
+ *     .evictAfter(Duration.ofMinutes(5));
+ * treeTableView.setRoot(root);
+ *}
+ *
+ * @param <T> the type of the value
+ */
+public class LazyTreeItem<T> extends TreeItem<T> {
+    /**
+     * Placeholder child shown while loading.
+     *
+     * @param <T> the type of the value
+     */
+    public static final class Placeholder<T> extends TreeItem<T> {
+        private Placeholder(Node graphic) {
+            super(null, graphic);
+        }
+
+        @Override
+        public boolean isLeaf() {
+            return true;
+        }
+    }
+
+    private enum State {
+        NOT_LOADED,
+        LOADING,
+        LOADED
+    }
+
+    private static final class Config<T> {
+        private final Function<? super T, ? extends Collection<? extends T>> childLoader;
+        private final Executor executor;
+        private final Executor fxExecutor;
+        private final Function<String, Node> placeholderGraphic;
+        private Predicate<? super T> leafPredicate = _ -> false;
+        private String placeholderText = "Loading…";
+        private Consumer<Throwable> errorHandler = _ -> {};
+        private long evictAfterNanos = -1;
+        // Loaded collapsed items in the order of collapse
+        private final LinkedHashMap<LazyTreeItem<T>, Long> collapsed = new LinkedHashMap<>();
+
+        Config(Function<? super T, ? extends Collection<? extends T>> childLoader, Executor executor,
+                Executor fxExecutor, Function<String, Node> placeholderGraphic)
+        {
+            this.childLoader = childLoader;
+            this.executor = executor;
+            this.fxExecutor = fxExecutor;
+            this.placeholderGraphic = placeholderGraphic;
+        }
+    }
+
+    private final class LoadTask extends FutureTask<Collection<? extends T>> {
+        LoadTask(T value) {
+            super(() -> config.childLoader.apply(value));
+        }
+
+        @Override
+        protected void done() {
+            if (!isCancelled()) {
+                config.fxExecutor.execute(() -> onLoaded(this));
+            }
+        }
+    }
+
+    private final Config<T> config;
+    private State state = State.NOT_LOADED;
+    private LoadTask task;
+    // Known after children are loaded
+    private Boolean leaf;
+
+    private LazyTreeItem(T value, Config<T> config) {
+        super(value);
+        this.config = config;
+        expandedProperty().addListener((_, _, expanded) -> {
+            if (expanded) {
+                onExpanded();
+            } else {
+                onCollapsed();
+            }
+        });
+    }
+
+    /**
+     * Creates tree item that loads its children on first expand.
+     *
+     * @param value       item value
+     * @param childLoader function that returns children values, called on the executor thread
+     * @param executor    executor for child loading
+     * @param <T>         the type of the value
+     * @return tree item
+     * @throws NullPointerException if {@code childLoader} or {@code executor} is {@code null}
+     */
+    public static <T> LazyTreeItem<T> lazyTreeItem(T value,
+            Function<? super T, ? extends Collection<? extends T>> childLoader, Executor executor)
+    {
+        return lazyTreeItem(value, childLoader, executor, Platform::runLater, Label::new);
+    }
+
+    static <T> LazyTreeItem<T> lazyTreeItem(T value,
+            Function<? super T, ? extends Collection<? extends T>> childLoader, Executor executor,
+            Executor fxExecutor, Function<String, Node> placeholderGraphic)
+    {
+        return new LazyTreeItem<>(value, new Config<>(
+                requireNonNull(childLoader, "Child loader must not be null"),
+                requireNonNull(executor, "Executor must not be null"),
+                fxExecutor,
+                placeholderGraphic
+        ));
+    }
+
+    /**
+     * Sets predicate that identifies leaf values without loading children. By default all items are considered
+     * non-leaf until their children are loaded.
+     *
+     * @param leafPredicate leaf predicate
+     * @return this item
+     * @throws NullPointerException if {@code leafPredicate} is {@code null}
+     */
+    public LazyTreeItem<T> leafPredicate(Predicate<? super T> leafPredicate) {
+        config.leafPredicate = requireNonNull(leafPredicate, "Leaf predicate must not be null");
+        return this;
+    }
+
+    /**
+     * Sets text of the placeholder shown while children are loading.
+     *
+     * @param placeholderText placeholder text
+     * @return this item
+     * @throws NullPointerException if {@code placeholderText} is {@code null}
+     */
+    public LazyTreeItem<T> placeholderText(String placeholderText) {
+        config.placeholderText = requireNonNull(placeholderText, "Placeholder text must not be null");
+        return this;
+    }
+
+    /**
+     * Sets handler of child loading errors. Handler is called on the JavaFX application thread. Item that failed to
+     * load is collapsed and will try to load again on next expand.
+     *
+     * @param errorHandler error handler
+     * @return this item
+     * @throws NullPointerException if {@code errorHandler} is {@code null}
+     */
+    public LazyTreeItem<T> errorHandler(Consumer<Throwable> errorHandler) {
+        config.errorHandler = requireNonNull(errorHandler, "Error handler must not be null");
+        return this;
+    }
+
+    /**
+     * Enables eviction of children of subtrees that stay collapsed longer than specified time.
+     *
+     * @param evictAfter time after which children of collapsed items are released, {@code null} disables eviction
+     * @return this item
+     */
+    public LazyTreeItem<T> evictAfter(Duration evictAfter) {
+        config.evictAfterNanos = evictAfter == null ? -1 : evictAfter.toNanos();
+        if (evictAfter == null) {
+            config.collapsed.clear();
+        }
+        return this;
+    }
+
+    /**
+     * Releases children of subtrees that stay collapsed longer than eviction time.
+     */
+    public void evictCollapsed() {
+        if (config.evictAfterNanos < 0) {
+            return;
+        }
+
+        var threshold = System.nanoTime() - config.evictAfterNanos;
+        var expired = new ArrayList<LazyTreeItem<T>>();
+        for (Iterator<LazyTreeItem<T>> iterator = config.collapsed.keySet().iterator(); iterator.hasNext(); ) {
+            var item = iterator.next();
+            if (config.collapsed.get(item) > threshold) {
+                break;
+            }
+            iterator.remove();
+            expired.add(item);
+        }
+
+        for (var item : expired) {
+            if (!item.isExpanded() && item.state == State.LOADED) {
+                item.unload();
+            }
+        }
+    }
+
+    /**
+     * Checks if children of this item are loaded.
+     *
+     * @return {@code true} if children are loaded
+     */
+    public boolean isLoaded() {
+        return state == State.LOADED;
+    }
+
+    @Override
+    public boolean isLeaf() {
+        return leaf != null ? leaf : config.leafPredicate.test(getValue());
+    }
+
+    private void onExpanded() {
+        config.collapsed.remove(this);
+        evictCollapsed();
+
+        if (state != State.NOT_LOADED || isLeaf()) {
+            return;
+        }
+
+        state = State.LOADING;
+        getChildren().setAll(List.of(new Placeholder<T>(config.placeholderGraphic.apply(config.placeholderText))));
+        task = new LoadTask(getValue());
+        config.executor.execute(task);
+    }
+
+    private void onCollapsed() {
+        switch (state) {
+            case LOADING -> {
+                task.cancel(true);
+                task = null;
+                state = State.NOT_LOADED;
+            }
+            case LOADED -> {
+                if (config.evictAfterNanos >= 0) {
+                    config.collapsed.put(this, System.nanoTime());
+                }
+            }
+            case NOT_LOADED -> {
+            }
+        }
+        evictCollapsed();
+    }
+
+    private void onLoaded(LoadTask loadTask) {
+        if (loadTask != task) {
+            // Cancelled or superseded
+            return;
+        }
+        task = null;
+
+        try {
+            var values = loadTask.get();
+            var children = new ArrayList<TreeItem<T>>(values == null ? 0 : values.size());
+            if (values != null) {
+                for (var value : values) {
+                    children.add(new LazyTreeItem<>(value, config));
+                }
+            }
+            state = State.LOADED;
+            leaf = children.isEmpty();
+            getChildren().setAll(children);
+        } catch (InterruptedException | ExecutionException ex) {
+            state = State.NOT_LOADED;
+            getChildren().clear();
+            setExpanded(false);
+            config.errorHandler.accept(ex instanceof ExecutionException ? ex.getCause() : ex);
+        }
+    }
+
+    private void unload() {
+        // Descendants are released together with this item
+        var stack = new ArrayList<TreeItem<T>>(getChildren());
+        while (!stack.isEmpty()) {
+            if (stack.removeLast() instanceof LazyTreeItem<T> item) {
+                config.collapsed.remove(item);
+                if (item.task != null) {
+                    item.task.cancel(true);
+                    item.task = null;
+                }
+                stack.addAll(item.getChildren());
+            }
+        }
+
+        state = State.NOT_LOADED;
+        leaf = null;
+        getChildren().clear();
+    }
+}
@@ -0,0 +1,340 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.tree;
+
+import javafx.scene.control.TreeItem;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * This class builds {@link TreeItem} hierarchy from a flat collection of rows that reference their parents by key.
+ * <p>
+ * {@link #build(Collection) Build} is done in a single O(n) pass using hash index of keys. Children are attached with
+ * one {@code setAll} per parent, bottom-up, so that events are not propagated through partially built hierarchy.
+ * Sibling groups can be optionally sorted, in parallel for large hierarchies.
+ * <p>
+ * Rows without parent key, rows referencing unknown parent and rows referencing themselves become children of the root
+ * item. Cyclic parent references are rejected.
+ * <p>
+ * Once built, the hierarchy can be {@link #update(Collection) updated} incrementally from a new version of the flat
+ * collection: added rows are inserted, removed rows are detached, rows with changed parent key are moved and changed
+ * rows replace values of their tree items. Tree items of the built hierarchy can be looked up by key via
+ * {@link #treeItem(Object)}.
+ * <p>
+ * <strong>Example:</strong>
+ * {@snippet lang = java:
+ * var builder = treeBuilder(Account::id, Account::parentId)
+ *     .comparator(Comparator.comparing(Account::name));
+ * treeTableView.setRoot(builder.build(accounts));
+ * // ...
+ * builder.update(repository.getAccounts());
+ *}
+ *
+ * @param <K> the type of the keys
+ * @param <T> the type of the rows
+ */
+public final class TreeBuilder<K, T> {
+    private static final int PARALLEL_THRESHOLD = 10_000;
+
+    private final Function<? super T, ? extends K> keyExtractor;
+    private final Function<? super T, ? extends K> parentKeyExtractor;
+
+    private Comparator<? super T> comparator;
+    private boolean parallelSort = false;
+
+    private TreeItem<T> root;
+    private final HashMap<K, TreeItem<T>> index = new HashMap<>();
+
+    private TreeBuilder(Function<? super T, ? extends K> keyExtractor,
+            Function<? super T, ? extends K> parentKeyExtractor)
+    {
+        this.keyExtractor = keyExtractor;
+        this.parentKeyExtractor = parentKeyExtractor;
+    }
+
+    /**
+     * Creates tree builder.
+     *
+     * @param keyExtractor       function that returns row key
+     * @param parentKeyExtractor function that returns key of the parent row, may return {@code null}
+     * @param <K>                the type of the keys
+     * @param <T>                the type of the rows
+     * @return tree builder
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public static <K, T> TreeBuilder<K, T> treeBuilder(Function<? super T, ? extends K> keyExtractor,
+            Function<? super T, ? extends K> parentKeyExtractor)
+    {
+        return new TreeBuilder<>(
+                requireNonNull(keyExtractor, "Key extractor must not be null"),
+                requireNonNull(parentKeyExtractor, "Parent key extractor must not be null")
+        );
+    }
+
+    /**
+     * Sets comparator for sibling rows.
+     *
+     * @param comparator comparator, {@code null} keeps order of the flat collection
+     * @return this builder
+     */
+    public TreeBuilder<K, T> comparator(Comparator<? super T> comparator) {
+        this.comparator = comparator;
+        return this;
+    }
+
+    /**
+     * Enables parallel sorting of sibling groups during {@link #build(Collection)}. Parallel sorting is used only for
+     * large hierarchies. Comparator must be thread-safe.
+     *
+     * @param parallelSort {@code true} to enable parallel sorting
+     * @return this builder
+     */
+    public TreeBuilder<K, T> parallelSort(boolean parallelSort) {
+        this.parallelSort = parallelSort;
+        return this;
+    }
+
+    /**
+     * Builds hierarchy under a new root item without value.
+     *
+     * @param rows flat collection of rows
+     * @return root item
+     * @throws NullPointerException     if {@code rows} is {@code null}
+     * @throws IllegalArgumentException if rows contain duplicate keys or cyclic parent references
+     */
+    public TreeItem<T> build(Collection<? extends T> rows) {
+        return build(rows, new TreeItem<>());
+    }
+
+    /**
+     * Builds hierarchy under the specified root item. Existing children of the root item are replaced.
+     *
+     * @param rows flat collection of rows
+     * @param root root item
+     * @return root item
+     * @throws NullPointerException     if any argument is {@code null}
+     * @throws IllegalArgumentException if rows contain duplicate keys or cyclic parent references
+     */
+    public TreeItem<T> build(Collection<? extends T> rows, TreeItem<T> root) {
+        requireNonNull(rows, "Rows must not be null");
+        requireNonNull(root, "Root must not be null");
+
+        var newIndex = new HashMap<K, TreeItem<T>>(capacity(rows.size()));
+        for (var row : rows) {
+            var key = keyExtractor.apply(row);
+            if (newIndex.put(key, new TreeItem<>(row)) != null) {
+                throw new IllegalArgumentException("Duplicate key: " + key);
+            }
+        }
+
+        // Children of each item
+        var groups = new IdentityHashMap<TreeItem<T>, List<TreeItem<T>>>();
+        groups.put(root, new ArrayList<>());
+        for (var row : rows) {
+            var item = newIndex.get(keyExtractor.apply(row));
+            var parent = resolveParent(row, newIndex::get);
+            groups.computeIfAbsent(parent == null ? root : parent, _ -> new ArrayList<>()).add(item);
+        }
+
+        // Level order of parents, also detects items not reachable from the root
+        var order = new ArrayList<TreeItem<T>>(groups.size());
+        order.add(root);
+        var reachable = 0;
+        for (int i = 0; i < order.size(); i++) {
+            for (var item : groups.get(order.get(i))) {
+                reachable++;
+                if (groups.containsKey(item)) {
+                    order.add(item);
+                }
+            }
+        }
+        if (reachable != newIndex.size()) {
+            throw new IllegalArgumentException("Cyclic parent references");
+        }
+
+        if (comparator != null) {
+            Comparator<TreeItem<T>> itemComparator = (a, b) -> comparator.compare(a.getValue(), b.getValue());
+            var values = groups.values();
+            var stream = parallelSort && rows.size() >= PARALLEL_THRESHOLD ? values.parallelStream() : values.stream();
+            stream.forEach(group -> group.sort(itemComparator));
+        }
+
+        // Bottom-up: children are attached while their parents are still detached, root is the last
+        for (int i = order.size() - 1; i >= 0; i--) {
+            var parent = order.get(i);
+            parent.getChildren().setAll(groups.get(parent));
+        }
+
+        this.root = root;
+        index.clear();
+        index.putAll(newIndex);
+        return root;
+    }
+
+    /**
+     * Updates hierarchy from a new version of the flat collection. Each affected parent receives at most one removal
+     * and one addition change.
+     *
+     * @param rows flat collection of rows
+     * @throws NullPointerException     if {@code rows} is {@code null}
+     * @throws IllegalStateException    if hierarchy was not built
+     * @throws IllegalArgumentException if rows contain duplicate keys or cyclic parent references, hierarchy is not
+     *                                  modified in this case
+     */
+    public void update(Collection<? extends T> rows) {
+        requireNonNull(rows, "Rows must not be null");
+        if (root == null) {
+            throw new IllegalStateException("Hierarchy is not built");
+        }
+
+        var newRows = new LinkedHashMap<K, T>(capacity(rows.size()));
+        for (var row : rows) {
+            var key = keyExtractor.apply(row);
+            if (newRows.put(key, row) != null) {
+                throw new IllegalArgumentException("Duplicate key: " + key);
+            }
+        }
+
+        // New items and target parents
+        var created = new HashMap<K, TreeItem<T>>();
+        for (var entry : newRows.entrySet()) {
+            if (!index.containsKey(entry.getKey())) {
+                created.put(entry.getKey(), new TreeItem<>(entry.getValue()));
+            }
+        }
+        Function<K, TreeItem<T>> lookup = key -> {
+            if (!newRows.containsKey(key)) return null;
+            var item = created.get(key);
+            return item != null ? item : index.get(key);
+        };
+
+        var targets = new IdentityHashMap<TreeItem<T>, TreeItem<T>>(capacity(newRows.size()));
+        for (var row : newRows.values()) {
+            var parent = resolveParent(row, lookup);
+            targets.put(lookup.apply(keyExtractor.apply(row)), parent == null ? root : parent);
+        }
+        checkCycles(targets);
+
+        // Removals grouped by parent
+        var removals = new IdentityHashMap<TreeItem<T>, Set<TreeItem<T>>>();
+        var removedKeys = new ArrayList<K>();
+        for (var entry : index.entrySet()) {
+            if (!newRows.containsKey(entry.getKey())) {
+                removedKeys.add(entry.getKey());
+                var item = entry.getValue();
+                var parent = item.getParent();
+                // Items inside removed subtrees are released together with them
+                if (parent != null && (parent == root || newRows.containsKey(keyExtractor.apply(parent.getValue())))) {
+                    removals.computeIfAbsent(parent, _ -> identitySet()).add(item);
+                }
+            }
+        }
+
+        // Moves, additions and value updates
+        var additions = new IdentityHashMap<TreeItem<T>, List<TreeItem<T>>>();
+        for (var entry : newRows.entrySet()) {
+            var item = lookup.apply(entry.getKey());
+            var target = targets.get(item);
+            var current = item.getParent();
+            if (current != target) {
+                if (current != null) {
+                    removals.computeIfAbsent(current, _ -> identitySet()).add(item);
+                }
+                additions.computeIfAbsent(target, _ -> new ArrayList<>()).add(item);
+            }
+            if (!created.containsKey(entry.getKey()) && !Objects.equals(item.getValue(), entry.getValue())) {
+                item.setValue(entry.getValue());
+            }
+        }
+
+        for (var removal : removals.entrySet()) {
+            removal.getKey().getChildren().removeAll(removal.getValue());
+        }
+        for (var addition : additions.entrySet()) {
+            var children = addition.getKey().getChildren();
+            if (comparator == null) {
+                children.addAll(addition.getValue());
+            } else {
+                var merged = new ArrayList<TreeItem<T>>(children.size() + addition.getValue().size());
+                merged.addAll(children);
+                merged.addAll(addition.getValue());
+                merged.sort((a, b) -> comparator.compare(a.getValue(), b.getValue()));
+                children.setAll(merged);
+            }
+        }
+
+        for (var key : removedKeys) {
+            index.remove(key);
+        }
+        index.putAll(created);
+    }
+
+    /**
+     * Returns tree item of the row with the specified key.
+     *
+     * @param key key
+     * @return tree item or {@code null} if there is no such row
+     */
+    public TreeItem<T> treeItem(K key) {
+        return index.get(key);
+    }
+
+    /**
+     * Returns root item of the built hierarchy.
+     *
+     * @return root item or {@code null} if hierarchy was not built
+     */
+    public TreeItem<T> getRoot() {
+        return root;
+    }
+
+    private TreeItem<T> resolveParent(T row, Function<K, TreeItem<T>> lookup) {
+        var parentKey = parentKeyExtractor.apply(row);
+        if (parentKey == null || parentKey.equals(keyExtractor.apply(row))) {
+            return null;
+        }
+        return lookup.apply(parentKey);
+    }
+
+    private void checkCycles(Map<TreeItem<T>, TreeItem<T>> targets) {
+        // 0 - not visited, 1 - on current path, 2 - reaches root
+        var state = new IdentityHashMap<TreeItem<T>, Integer>(capacity(targets.size()));
+        var path = new ArrayDeque<TreeItem<T>>();
+        for (var start : targets.keySet()) {
+            var item = start;
+            while (item != root && state.getOrDefault(item, 0) == 0) {
+                state.put(item, 1);
+                path.push(item);
+                item = targets.get(item);
+            }
+            if (item != root && state.get(item) == 1) {
+                throw new IllegalArgumentException("Cyclic parent references");
+            }
+            while (!path.isEmpty()) {
+                state.put(path.pop(), 2);
+            }
+        }
+    }
+
+    private static <E> Set<E> identitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private static int capacity(int size) {
+        return Math.max(16, (int) (size / 0.75f) + 1);
+    }
+}
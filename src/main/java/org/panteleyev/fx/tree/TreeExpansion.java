@@ -0,0 +1,250 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.tree;
+
+import javafx.scene.control.TreeItem;
+import javafx.scene.control.TreeTableView;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Objects.requireNonNull;
+import static org.panteleyev.fx.hidden.PulseExecutor.PULSE_EXECUTOR;
+
+/**
+ * This class provides methods to expand or collapse whole subtrees of {@link TreeItem} hierarchy.
+ * <p>
+ * Setting expanded state of each item one by one fires an event per item that reaches the tree table. Methods of this
+ * class detach children of the subtree root while expanded state of descendants is changed, so that the tree table
+ * receives only the removal and addition of children, i.e. one consolidated refresh. Methods that accept tree table
+ * also restore selection and focus.
+ * <p>
+ * Depth limit is relative to the subtree root: 0 changes only the subtree root, 1 also changes its children, and so
+ * on. Use {@link Integer#MAX_VALUE} to change the whole subtree. Leaf items are skipped.
+ * <p>
+ * All methods must be called on the JavaFX application thread.
+ * <p>
+ * <strong>Example:</strong>
+ * {@snippet lang = java:
+ * expandAllButton.setOnAction(_ -> setExpanded(treeTableView, treeTableView.getRoot(), true, Integer.MAX_VALUE));
+ *}
+ */
+public final class TreeExpansion {
+    private record Entry<T>(TreeItem<T> item, int depth) {
+    }
+
+    private record Selection<T>(TreeTableView<T> view, List<TreeItem<T>> selected, TreeItem<T> focused) {
+        static <T> Selection<T> of(TreeTableView<T> view) {
+            var selectionModel = view.getSelectionModel();
+            var focusModel = view.getFocusModel();
+            return new Selection<>(view,
+                    selectionModel == null ? List.of() : List.copyOf(selectionModel.getSelectedItems()),
+                    focusModel == null ? null : focusModel.getFocusedItem());
+        }
+
+        void restore() {
+            var selectionModel = view.getSelectionModel();
+            if (selectionModel != null && !selectionModel.getSelectedItems().equals(selected)) {
+                selectionModel.clearSelection();
+                for (var item : selected) {
+                    if (view.getRow(item) >= 0) {
+                        selectionModel.select(item);
+                    }
+                }
+            }
+
+            var focusModel = view.getFocusModel();
+            if (focusModel != null && focused != null && focusModel.getFocusedItem() != focused) {
+                var row = view.getRow(focused);
+                if (row >= 0) {
+                    focusModel.focus(row);
+                }
+            }
+        }
+    }
+
+    // Items processed between deadline checks
+    private static final int CHECK_INTERVAL = 256;
+
+    /**
+     * Expands or collapses subtree. Selection is not restored, use
+     * {@link #setExpanded(TreeTableView, TreeItem, boolean, int)} for items shown in a tree table.
+     *
+     * @param item     subtree root
+     * @param expanded expanded state
+     * @param depth    depth limit
+     * @param <T>      the type of the value
+     * @throws NullPointerException     if {@code item} is {@code null}
+     * @throws IllegalArgumentException if {@code depth} is negative
+     */
+    public static <T> void setExpanded(TreeItem<T> item, boolean expanded, int depth) {
+        requireNonNull(item, "Item must not be null");
+        checkDepth(depth);
+        process(initialStack(item, expanded, depth), item, expanded, depth, Long.MAX_VALUE);
+    }
+
+    /**
+     * Expands or collapses subtree of item shown in the tree table. Selection and focus are restored.
+     *
+     * @param view     tree table view
+     * @param item     subtree root
+     * @param expanded expanded state
+     * @param depth    depth limit
+     * @param <T>      the type of the value
+     * @throws NullPointerException     if {@code view} or {@code item} is {@code null}
+     * @throws IllegalArgumentException if {@code depth} is negative
+     */
+    public static <T> void setExpanded(TreeTableView<T> view, TreeItem<T> item, boolean expanded, int depth) {
+        requireNonNull(view, "View must not be null");
+        requireNonNull(item, "Item must not be null");
+        checkDepth(depth);
+
+        var selection = Selection.of(view);
+        process(initialStack(item, expanded, depth), item, expanded, depth, Long.MAX_VALUE);
+        selection.restore();
+    }
+
+    /**
+     * Expands or collapses descendants of item shown in the tree table, expanded state of the item itself is not
+     * changed. This is useful for the hidden root item. Depth limit 1 changes only children of the item. Selection and
+     * focus are restored.
+     *
+     * @param view     tree table view
+     * @param item     subtree root
+     * @param expanded expanded state
+     * @param depth    depth limit
+     * @param <T>      the type of the value
+     * @throws NullPointerException     if {@code view} or {@code item} is {@code null}
+     * @throws IllegalArgumentException if {@code depth} is negative
+     */
+    public static <T> void setDescendantsExpanded(TreeTableView<T> view, TreeItem<T> item, boolean expanded,
+            int depth)
+    {
+        requireNonNull(view, "View must not be null");
+        requireNonNull(item, "Item must not be null");
+        checkDepth(depth);
+
+        var selection = Selection.of(view);
+        var stack = new ArrayDeque<Entry<T>>();
+        if (depth > 0) {
+            pushChildren(stack, item, 1);
+        }
+        process(stack, item, expanded, depth, Long.MAX_VALUE);
+        selection.restore();
+    }
+
+    /**
+     * Expands or collapses subtree of item shown in the tree table spreading the work over several pulses. Each pulse
+     * processes items until the budget is exhausted and refreshes the tree table once. Selection and focus are restored
+     * after each pulse.
+     * <p>
+     * Cancelling the returned future stops processing at the next pulse, items already processed keep their state.
+     *
+     * @param view     tree table view
+     * @param item     subtree root
+     * @param expanded expanded state
+     * @param depth    depth limit
+     * @param budget   time budget per pulse
+     * @param <T>      the type of the value
+     * @return future completed when the whole subtree is processed
+     * @throws NullPointerException     if any argument is {@code null}
+     * @throws IllegalArgumentException if {@code depth} is negative
+     */
+    public static <T> CompletableFuture<Void> setExpanded(TreeTableView<T> view, TreeItem<T> item, boolean expanded,
+            int depth, Duration budget)
+    {
+        requireNonNull(view, "View must not be null");
+        requireNonNull(item, "Item must not be null");
+        requireNonNull(budget, "Budget must not be null");
+        checkDepth(depth);
+
+        var future = new CompletableFuture<Void>();
+        var stack = initialStack(item, expanded, depth);
+        var budgetNanos = budget.toNanos();
+
+        PULSE_EXECUTOR.execute(new Runnable() {
+            @Override
+            public void run() {
+                if (future.isDone()) {
+                    return;
+                }
+                try {
+                    var selection = Selection.of(view);
+                    process(stack, item, expanded, depth, System.nanoTime() + budgetNanos);
+                    selection.restore();
+                    if (stack.isEmpty()) {
+                        future.complete(null);
+                    } else {
+                        PULSE_EXECUTOR.execute(this);
+                    }
+                } catch (RuntimeException ex) {
+                    future.completeExceptionally(ex);
+                }
+            }
+        });
+        return future;
+    }
+
+    private static <T> ArrayDeque<Entry<T>> initialStack(TreeItem<T> item, boolean expanded, int depth) {
+        var stack = new ArrayDeque<Entry<T>>();
+        if (!item.isLeaf()) {
+            item.setExpanded(expanded);
+            if (depth > 0) {
+                pushChildren(stack, item, 1);
+            }
+        }
+        return stack;
+    }
+
+    private static <T> void pushChildren(ArrayDeque<Entry<T>> stack, TreeItem<T> item, int depth) {
+        for (var child : item.getChildren()) {
+            stack.push(new Entry<>(child, depth));
+        }
+    }
+
+    /**
+     * Processes items from the stack with children of the subtree root detached.
+     */
+    private static <T> void process(ArrayDeque<Entry<T>> stack, TreeItem<T> root, boolean expanded, int depth,
+            long deadline)
+    {
+        if (stack.isEmpty()) {
+            return;
+        }
+
+        var children = new ArrayList<>(root.getChildren());
+        root.getChildren().clear();
+        try {
+            var count = 0;
+            while (!stack.isEmpty()) {
+                if (++count % CHECK_INTERVAL == 0 && System.nanoTime() > deadline) {
+                    break;
+                }
+
+                var entry = stack.pop();
+                var item = entry.item();
+                if (item.isLeaf()) {
+                    continue;
+                }
+                item.setExpanded(expanded);
+                if (entry.depth() < depth) {
+                    pushChildren(stack, item, entry.depth() + 1);
+                }
+            }
+        } finally {
+            root.getChildren().setAll(children);
+        }
+    }
+
+    private static void checkDepth(int depth) {
+        if (depth < 0) {
+            throw new IllegalArgumentException("Depth must not be negative");
+        }
+    }
+
+    private TreeExpansion() {
+    }
+}
@@ -0,0 +1,271 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.tree;
+
+import javafx.event.EventHandler;
+import javafx.scene.control.TreeItem;
+import javafx.scene.control.TreeSortMode;
+import javafx.scene.control.TreeTableColumn;
+import javafx.scene.control.TreeTableView;
+import javafx.util.Callback;
+import org.panteleyev.fx.hidden.ColumnConverters;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * This class implements sort policy of {@link TreeTableView} that sorts sibling groups concurrently.
+ * <p>
+ * Sort keys are precomputed once per item instead of being extracted on each comparison. Keys of
+ * {@link org.panteleyev.fx.factories.TreeTableFactory TreeTableFactory} columns are extracted by column converters on
+ * the fork-join pool, keys of other columns are taken from cell data on the JavaFX application thread. Independent
+ * sibling groups are sorted concurrently, large groups are sorted by parallel sort. Results are applied in one batch,
+ * each changed children list is replaced by the same items in sorted order, so expanded state of items is preserved.
+ * <p>
+ * Only children of expanded items are sorted. Children of collapsed items are sorted the first time they are expanded.
+ * {@link TreeSortMode#ONLY_FIRST_LEVEL} sort mode of the tree table is respected.
+ * <p>
+ * Column converters and comparators of factory columns must be thread-safe.
+ * <p>
+ * <strong>Example:</strong>
+ * {@snippet lang = java:
+ * var treeTableView = new TreeTableView<Account>();
+ * treeTableSorter(treeTableView);
+ *}
+ *
+ * @param <S> the type of the tree table items
+ */
+public final class TreeTableSorter<S> implements Callback<TreeTableView<S>, Boolean> {
+    // Total number of items sorted on the JavaFX application thread without the pool
+    private static final int SEQUENTIAL_THRESHOLD = 4_096;
+    // Group size sorted by parallel sort
+    private static final int PARALLEL_GROUP_THRESHOLD = 16_384;
+
+    private record SortKey<S>(
+            Function<TreeItem<S>, Object> extractor,
+            boolean concurrent,
+            Comparator<Object> comparator,
+            boolean descending
+    ) {
+    }
+
+    private record Row<S>(TreeItem<S> item, Object[] keys) {
+    }
+
+    private static final class Group<S> {
+        private final TreeItem<S> parent;
+        private final Row<S>[] rows;
+        private boolean changed;
+
+        Group(TreeItem<S> parent, Row<S>[] rows) {
+            this.parent = parent;
+            this.rows = rows;
+        }
+    }
+
+    private final ForkJoinPool pool;
+
+    private List<SortKey<S>> sortKeys = List.of();
+    private final Set<TreeItem<S>> sorted = Collections.newSetFromMap(new WeakHashMap<>());
+
+    private TreeItem<S> root;
+    private boolean firstLevelOnly;
+    private final EventHandler<TreeItem.TreeModificationEvent<S>> expandHandler = this::onBranchExpanded;
+
+    TreeTableSorter(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Creates sorter that uses common fork-join pool and installs it as sort policy of the tree table.
+     *
+     * @param treeTableView tree table view
+     * @param <S>           the type of the tree table items
+     * @return tree table sorter
+     * @throws NullPointerException if {@code treeTableView} is {@code null}
+     */
+    public static <S> TreeTableSorter<S> treeTableSorter(TreeTableView<S> treeTableView) {
+        return treeTableSorter(treeTableView, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates sorter and installs it as sort policy of the tree table.
+     *
+     * @param treeTableView tree table view
+     * @param pool          fork-join pool used for sorting
+     * @param <S>           the type of the tree table items
+     * @return tree table sorter
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public static <S> TreeTableSorter<S> treeTableSorter(TreeTableView<S> treeTableView, ForkJoinPool pool) {
+        requireNonNull(treeTableView, "Tree table view must not be null");
+        var sorter = new TreeTableSorter<S>(requireNonNull(pool, "Pool must not be null"));
+        treeTableView.setSortPolicy(sorter);
+        return sorter;
+    }
+
+    @Override
+    public Boolean call(TreeTableView<S> treeTableView) {
+        sort(treeTableView.getRoot(), treeTableView.getSortOrder(), treeTableView.getSortMode());
+        return true;
+    }
+
+    void sort(TreeItem<S> newRoot, List<TreeTableColumn<S, ?>> sortOrder, TreeSortMode sortMode) {
+        if (newRoot != root) {
+            if (root != null) {
+                root.removeEventHandler(TreeItem.branchExpandedEvent(), expandHandler);
+            }
+            root = newRoot;
+            if (root != null) {
+                root.addEventHandler(TreeItem.branchExpandedEvent(), expandHandler);
+            }
+        }
+
+        var keys = new ArrayList<SortKey<S>>(sortOrder.size());
+        for (var column : sortOrder) {
+            keys.add(sortKey(column));
+        }
+        sortKeys = List.copyOf(keys);
+        firstLevelOnly = sortMode == TreeSortMode.ONLY_FIRST_LEVEL;
+        sorted.clear();
+
+        if (root != null && !sortKeys.isEmpty()) {
+            sort(root, true);
+        }
+    }
+
+    private void onBranchExpanded(TreeItem.TreeModificationEvent<S> event) {
+        var item = event.getTreeItem();
+        if (!sortKeys.isEmpty() && !firstLevelOnly && item != null && !sorted.contains(item)) {
+            sort(item, false);
+        }
+    }
+
+    /**
+     * Sorts children of the item and of its expanded descendants.
+     */
+    private void sort(TreeItem<S> top, boolean isRoot) {
+        var groups = new ArrayList<Group<S>>();
+        var stack = new ArrayDeque<TreeItem<S>>();
+        stack.push(top);
+        var total = 0;
+        while (!stack.isEmpty()) {
+            var item = stack.pop();
+            if (item.getChildren().isEmpty() || !(item.isExpanded() || (isRoot && item == top))) {
+                continue;
+            }
+            var children = item.getChildren();
+            if (sorted.add(item)) {
+                // Keys that cannot be extracted concurrently are extracted here
+                @SuppressWarnings("unchecked")
+                var rows = (Row<S>[]) new Row<?>[children.size()];
+                for (int i = 0; i < rows.length; i++) {
+                    rows[i] = new Row<>(children.get(i), extractKeys(children.get(i), false));
+                }
+                groups.add(new Group<>(item, rows));
+                total += rows.length;
+            }
+            if (!firstLevelOnly) {
+                for (var child : children) {
+                    stack.push(child);
+                }
+            }
+        }
+        if (groups.isEmpty()) {
+            return;
+        }
+
+        if (total < SEQUENTIAL_THRESHOLD) {
+            groups.forEach(this::sortGroup);
+        } else {
+            pool.submit(() -> groups.parallelStream().forEach(this::sortGroup)).join();
+        }
+
+        // Apply in one batch
+        for (var group : groups) {
+            if (!group.changed) {
+                continue;
+            }
+            var items = new ArrayList<TreeItem<S>>(group.rows.length);
+            for (var row : group.rows) {
+                items.add(row.item());
+            }
+            group.parent.getChildren().setAll(items);
+        }
+    }
+
+    private void sortGroup(Group<S> group) {
+        var rows = group.rows;
+        for (int i = 0; i < rows.length; i++) {
+            var concurrentKeys = extractKeys(rows[i].item(), true);
+            var keys = rows[i].keys();
+            for (int k = 0; k < keys.length; k++) {
+                if (sortKeys.get(k).concurrent()) {
+                    keys[k] = concurrentKeys[k];
+                }
+            }
+        }
+
+        var original = rows.clone();
+        Comparator<Row<S>> comparator = this::compare;
+        if (rows.length >= PARALLEL_GROUP_THRESHOLD) {
+            Arrays.parallelSort(rows, comparator);
+        } else {
+            Arrays.sort(rows, comparator);
+        }
+
+        for (int i = 0; i < rows.length; i++) {
+            if (rows[i] != original[i]) {
+                group.changed = true;
+                break;
+            }
+        }
+    }
+
+    private Object[] extractKeys(TreeItem<S> item, boolean concurrent) {
+        var keys = new Object[sortKeys.size()];
+        for (int k = 0; k < keys.length; k++) {
+            var sortKey = sortKeys.get(k);
+            if (sortKey.concurrent() == concurrent) {
+                keys[k] = sortKey.extractor().apply(item);
+            }
+        }
+        return keys;
+    }
+
+    private int compare(Row<S> a, Row<S> b) {
+        for (int k = 0; k < sortKeys.size(); k++) {
+            var sortKey = sortKeys.get(k);
+            var result = sortKey.comparator().compare(a.keys()[k], b.keys()[k]);
+            if (result != 0) {
+                return sortKey.descending() ? -result : result;
+            }
+        }
+        return 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S> SortKey<S> sortKey(TreeTableColumn<S, ?> column) {
+        var converter = ColumnConverters.converter(column);
+        var comparator = (Comparator<Object>) column.getComparator();
+        var descending = column.getSortType() == TreeTableColumn.SortType.DESCENDING;
+        if (converter == null) {
+            return new SortKey<>(column::getCellData, false, comparator, descending);
+        } else {
+            return new SortKey<>(item -> {
+                var value = item.getValue();
+                return value == null ? null : converter.apply(value);
+            }, true, comparator, descending);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+
+/**
+ * Provides helper classes for {@link javafx.scene.control.TreeItem} hierarchies.
+ */
+package org.panteleyev.fx.tree;
@@ -0,0 +1,111 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableMap;
+import javafx.event.Event;
+import javafx.scene.control.Menu;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyCodeCombination;
+import javafx.scene.input.KeyCombination;
+import org.junit.jupiter.api.Test;
+import org.panteleyev.fx.factories.MenuFactory;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.panteleyev.fx.FxAction.fxAction;
+
+public class LazyMenuTest {
+    private static final KeyCombination OPEN = new KeyCodeCombination(KeyCode.O);
+    private static final KeyCombination SAVE = new KeyCodeCombination(KeyCode.S);
+
+    @Test
+    public void testMaterializeOnShowing() {
+        var open = fxAction("Open");
+        var menu = FxAction.createLazyMenu("File", List.of(open, fxAction("Save"), fxAction("Exit")));
+        assertFalse(menu.isMaterialized());
+        assertEquals(1, menu.getItems().size());
+        assertFalse(menu.getItems().getFirst().isVisible());
+
+        Event.fireEvent(menu, new Event(Menu.ON_SHOWING));
+        assertTrue(menu.isMaterialized());
+        assertEquals(3, menu.getItems().size());
+        assertEquals("Save", menu.getItems().get(1).getText());
+
+        var item = menu.getItems().getFirst();
+        open.text("Open...");
+        assertEquals("Open...", item.getText());
+
+        Event.fireEvent(menu, new Event(Menu.ON_SHOWING));
+        assertSame(item, menu.getItems().getFirst());
+    }
+
+    @Test
+    public void testRelease() {
+        var open = fxAction("Open");
+        var menu = MenuFactory.lazyMenu("File", open, null);
+        assertEquals(List.of(open), menu.getActions());
+        menu.release();
+        assertFalse(menu.isMaterialized());
+
+        menu.materialize();
+        var item = menu.getItems().getFirst();
+        menu.release();
+        assertFalse(menu.isMaterialized());
+        assertEquals(1, menu.getItems().size());
+
+        open.text("Changed");
+        assertEquals("Open", item.getText());
+
+        menu.materialize();
+        assertNotSame(item, menu.getItems().getFirst());
+        assertEquals("Changed", menu.getItems().getFirst().getText());
+    }
+
+    @Test
+    public void testAccelerators() {
+        var opened = new AtomicInteger();
+        var open = fxAction("Open").accelerator(OPEN).onAction(_ -> opened.incrementAndGet());
+        var save = fxAction("Save").accelerator(SAVE);
+        var menu = MenuFactory.lazyMenu("File", open, save, fxAction("Exit"));
+
+        ObservableMap<KeyCombination, Runnable> accelerators = FXCollections.observableHashMap();
+        menu.installAccelerators(accelerators);
+        assertEquals(2, accelerators.size());
+
+        accelerators.get(OPEN).run();
+        assertEquals(1, opened.get());
+        open.disable(true);
+        accelerators.get(OPEN).run();
+        assertEquals(1, opened.get());
+        open.disable(false);
+
+        // Menu bar replaces accelerators of created items and removes them with items
+        menu.materialize();
+        Runnable other = () -> {};
+        accelerators.put(OPEN, other);
+        accelerators.remove(SAVE);
+        menu.release();
+        assertNotSame(other, accelerators.get(OPEN));
+        assertTrue(accelerators.containsKey(SAVE));
+
+        accelerators.put(new KeyCodeCombination(KeyCode.X), () -> {});
+        menu.installAccelerators((ObservableMap<KeyCombination, Runnable>) null);
+        assertEquals(1, accelerators.size());
+    }
+
+    @Test
+    public void testNullAction() {
+        assertThrows(NullPointerException.class,
+                () -> FxAction.createLazyMenu("File", Arrays.asList(fxAction("Open"), null)));
+    }
+}
@@ -0,0 +1,60 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.factories;
+
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TreeItem;
+import javafx.scene.control.TreeTableColumn;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.panteleyev.fx.factories.TableFactory.tableValueColumn;
+import static org.panteleyev.fx.factories.TreeTableFactory.treeTableValueColumn;
+
+public class AsyncValueColumnTest {
+    // Same as TableColumn.getCellData(), which requires table view
+    private static <S, T> T cellData(TableColumn<S, T> column, S row) {
+        return column.getCellValueFactory().call(new TableColumn.CellDataFeatures<>(null, column, row)).getValue();
+    }
+
+    @Test
+    public void testTableColumnNotSortable() {
+        var tasks = new ArrayList<Runnable>();
+        TableFactory.TableValueColumn<String, Integer> column = tableValueColumn("Length");
+        assertTrue(column.isSortable());
+
+        column.asyncValueConverter(String::length, -1, 10, tasks::add);
+        assertFalse(column.isSortable());
+
+        // Default sort policy compares cell data, which is the placeholder outside of cells
+        var abc = cellData(column, "abc");
+        var a = cellData(column, "a");
+        assertEquals(-1, abc);
+        assertEquals(abc, a);
+        assertTrue(tasks.isEmpty());
+
+        // Synchronous converter is available to custom sort policies
+        assertEquals(3, column.getValueConverter().apply("abc"));
+    }
+
+    @Test
+    public void testTreeTableColumnNotSortable() {
+        var tasks = new ArrayList<Runnable>();
+        TreeTableFactory.TreeTableValueColumn<String, Integer> column = treeTableValueColumn("Length");
+        assertTrue(column.isSortable());
+
+        column.asyncValueConverter(String::length, -1, 10, tasks::add);
+        assertFalse(column.isSortable());
+
+        var value = column.getCellValueFactory()
+                .call(new TreeTableColumn.CellDataFeatures<>(null, column, new TreeItem<>("abc")))
+                .getValue();
+        assertEquals(-1, value);
+        assertTrue(tasks.isEmpty());
+        assertEquals(3, column.getValueConverter().apply("abc"));
+    }
+}
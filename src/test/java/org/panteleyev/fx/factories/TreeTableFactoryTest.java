@@ -0,0 +1,82 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.factories;
+
+import javafx.embed.swing.JFXPanel;
+import javafx.scene.control.TreeItem;
+import javafx.scene.control.TreeTableView;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.panteleyev.fx.factories.TreeTableFactory.collapseAll;
+import static org.panteleyev.fx.factories.TreeTableFactory.expandAll;
+
+public class TreeTableFactoryTest {
+    @BeforeAll
+    public static void setup() {
+        new JFXPanel();
+    }
+
+    private static TreeItem<String> item(String value, List<TreeItem<String>> children) {
+        var item = new TreeItem<>(value);
+        item.getChildren().setAll(children);
+        return item;
+    }
+
+    private static TreeTableView<String> treeTableView() {
+        var root = item("root", List.of(
+                item("a", List.of(item("a1", List.of(item("a11", List.of()))))),
+                item("b", List.of(item("b1", List.of())))
+        ));
+        return new TreeTableView<>(root);
+    }
+
+    @Test
+    public void testCollapseAllHiddenRoot() {
+        var view = treeTableView();
+        view.setShowRoot(false);
+        var root = view.getRoot();
+        expandAll(view);
+        assertTrue(root.isExpanded());
+        assertEquals(5, view.getExpandedItemCount());
+
+        var b = root.getChildren().get(1);
+        view.getSelectionModel().select(b);
+        view.getFocusModel().focus(view.getRow(b));
+
+        var rootExpansionEvents = new AtomicInteger();
+        root.addEventHandler(TreeItem.branchCollapsedEvent(), _ -> rootExpansionEvents.incrementAndGet());
+        root.addEventHandler(TreeItem.branchExpandedEvent(), _ -> rootExpansionEvents.incrementAndGet());
+
+        collapseAll(view);
+
+        assertEquals(0, rootExpansionEvents.get());
+        assertTrue(root.isExpanded());
+        root.getChildren().forEach(child -> assertFalse(child.isExpanded()));
+        assertEquals(2, view.getExpandedItemCount());
+        assertSame(b, view.getSelectionModel().getSelectedItem());
+        assertSame(b, view.getFocusModel().getFocusedItem());
+    }
+
+    @Test
+    public void testCollapseAllVisibleRoot() {
+        var view = treeTableView();
+        var root = view.getRoot();
+        expandAll(view);
+        view.getSelectionModel().select(root);
+
+        collapseAll(view);
+
+        assertFalse(root.isExpanded());
+        root.getChildren().forEach(child -> assertFalse(child.isExpanded()));
+        assertEquals(1, view.getExpandedItemCount());
+        assertSame(root, view.getSelectionModel().getSelectedItem());
+    }
+}
@@ -0,0 +1,146 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.hidden;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ChangeListener;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class AsyncCellValuesTest {
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final List<Runnable> fxTasks = new ArrayList<>();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private AsyncCellValues<Integer, String> values(int cacheSize) {
+        return new AsyncCellValues<>(row -> {
+            calls.incrementAndGet();
+            return "value " + row;
+        }, "...", cacheSize, tasks::add, fxTasks::add);
+    }
+
+    private static void runAll(List<Runnable> tasks) {
+        var copy = List.copyOf(tasks);
+        tasks.clear();
+        copy.forEach(Runnable::run);
+    }
+
+    @Test
+    public void testLoad() {
+        var values = values(10);
+        var value = values.value(1);
+        assertEquals("...", value.getValue());
+        assertEquals(0, tasks.size());
+
+        var changes = new ArrayList<String>();
+        ChangeListener<String> listener = (_, _, newValue) -> changes.add(newValue);
+        value.addListener(listener);
+        assertEquals(1, tasks.size());
+
+        runAll(tasks);
+        assertEquals("...", value.getValue());
+        runAll(fxTasks);
+        assertEquals("value 1", value.getValue());
+        assertEquals(List.of("value 1"), changes);
+
+        // Cached
+        var cached = values.value(1);
+        assertEquals("value 1", cached.getValue());
+        cached.addListener((InvalidationListener) _ -> {});
+        assertEquals(0, tasks.size());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testCancel() {
+        var values = values(10);
+        var value = values.value(1);
+        InvalidationListener listener = _ -> {};
+        value.addListener(listener);
+        value.removeListener(listener);
+
+        runAll(tasks);
+        runAll(fxTasks);
+        assertEquals(0, calls.get());
+        assertEquals("...", value.getValue());
+        assertEquals(0, values.cacheSize());
+
+        // Observed again
+        value.addListener(listener);
+        runAll(tasks);
+        runAll(fxTasks);
+        assertEquals(1, calls.get());
+        assertEquals("value 1", value.getValue());
+    }
+
+    @Test
+    public void testCompletedAfterReuse() {
+        var values = values(10);
+        var value = values.value(1);
+        InvalidationListener listener = _ -> {};
+        value.addListener(listener);
+        runAll(tasks);
+        value.removeListener(listener);
+        runAll(fxTasks);
+
+        assertEquals("...", value.getValue());
+        assertEquals("value 1", values.value(1).getValue());
+    }
+
+    @Test
+    public void testRemoveUnknownListener() {
+        var values = values(10);
+        var value = values.value(1);
+        InvalidationListener listener = _ -> {};
+        value.removeListener(listener);
+        value.addListener(listener);
+        assertEquals(1, tasks.size());
+    }
+
+    @Test
+    public void testLruEviction() {
+        var values = values(2);
+        for (int row = 1; row <= 3; row++) {
+            values.value(row).addListener((InvalidationListener) _ -> {});
+            if (row == 3) {
+                // Touch the first row, the second one becomes eldest
+                values.value(1);
+            }
+            runAll(tasks);
+            runAll(fxTasks);
+        }
+
+        assertEquals(2, values.cacheSize());
+        assertEquals("value 1", values.value(1).getValue());
+        assertEquals("...", values.value(2).getValue());
+        assertEquals("value 3", values.value(3).getValue());
+    }
+
+    @Test
+    public void testFailure() {
+        var values = new AsyncCellValues<Integer, String>(_ -> {
+            throw new IllegalStateException();
+        }, "...", 10, tasks::add, fxTasks::add);
+        var value = values.value(1);
+        value.addListener((InvalidationListener) _ -> {});
+        runAll(tasks);
+        runAll(fxTasks);
+
+        assertEquals("...", value.getValue());
+        assertEquals(0, values.cacheSize());
+    }
+
+    @Test
+    public void testNullRow() {
+        var value = values(10).value(null);
+        value.addListener((InvalidationListener) _ -> {});
+        assertNull(value.getValue());
+        assertEquals(0, tasks.size());
+    }
+}
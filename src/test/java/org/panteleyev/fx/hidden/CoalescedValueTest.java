@@ -0,0 +1,58 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.hidden;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.SimpleIntegerProperty;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class CoalescedValueTest {
+    @Test
+    public void testCoalescing() {
+        var tasks = new ArrayList<Runnable>();
+        var source = new SimpleIntegerProperty(1);
+        var value = new CoalescedValue<>(source, tasks::add);
+
+        var invalidations = new AtomicInteger();
+        InvalidationListener listener = _ -> {
+            invalidations.incrementAndGet();
+            value.getValue();
+        };
+        value.addListener(listener);
+
+        source.set(2);
+        source.set(3);
+        source.set(4);
+        assertEquals(1, tasks.size());
+        assertEquals(1, value.getValue());
+
+        tasks.removeFirst().run();
+        assertEquals(4, value.getValue());
+        assertEquals(1, invalidations.get());
+
+        source.set(5);
+        source.set(4);
+        List.copyOf(tasks).forEach(Runnable::run);
+        assertEquals(4, value.getValue());
+        assertEquals(1, invalidations.get());
+    }
+
+    @Test
+    public void testOneInstancePerSource() {
+        var first = new SimpleIntegerProperty(1);
+        var second = new SimpleIntegerProperty(1);
+
+        var value = CoalescedValue.coalescedValue(first);
+        assertSame(value, CoalescedValue.coalescedValue(first));
+        assertNotSame(value, CoalescedValue.coalescedValue(second));
+        assertEquals(1, value.getValue());
+    }
+}
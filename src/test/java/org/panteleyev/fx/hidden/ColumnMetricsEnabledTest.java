@@ -0,0 +1,94 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.hidden;
+
+import javafx.collections.FXCollections;
+import javafx.embed.swing.JFXPanel;
+import javafx.scene.control.TableView;
+import javafx.scene.control.TreeTableColumn;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.panteleyev.fx.factories.TableFactory;
+import org.panteleyev.fx.factories.TreeTableFactory;
+import org.panteleyev.fx.table.TableMetrics;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs with metrics enabled in a separate test JVM, see surefire configuration.
+ */
+public class ColumnMetricsEnabledTest {
+    @TempDir
+    private Path dir;
+
+    @BeforeAll
+    public static void setup() {
+        assertTrue(TableMetrics.ENABLED, "Must run with -D" + TableMetrics.PROPERTY + "=true");
+        new JFXPanel();
+    }
+
+    @Test
+    public void testFactoryColumns() {
+        var column = TableFactory.<String, Integer>tableValueColumn("Length");
+        column.valueConverter(String::length);
+        var cell = assertInstanceOf(MeteredTableCell.class, column.getCellFactory().call(column));
+
+        var tableView = new TableView<>(FXCollections.observableArrayList("a", "bb"));
+        tableView.getColumns().add(column);
+        cell.updateTableView(tableView);
+        cell.updateTableColumn(column);
+        cell.updateIndex(1);
+        assertEquals(2, cell.getItem());
+        assertEquals("2", cell.getText());
+
+        var stats = TableMetrics.stats(column);
+        assertNotNull(stats);
+        assertTrue(stats.converterCalls() > 0);
+        assertTrue(stats.cellValues() > 0);
+        assertTrue(stats.updateItems() > 0);
+
+        TreeTableColumn<String, Integer> treeColumn = TreeTableFactory.treeTableValueColumn("Length");
+        assertInstanceOf(MeteredTreeTableCell.class, treeColumn.getCellFactory().call(treeColumn));
+        assertNotNull(TableMetrics.stats(treeColumn));
+    }
+
+    @Test
+    public void testSortEvent() throws Exception {
+        var column = TableFactory.<String, Integer>tableValueColumn("Sorted");
+        column.valueConverter(String::length);
+        var tableView = new TableView<>(FXCollections.observableArrayList("ccc", "a", "bb"));
+        tableView.getColumns().add(column);
+        TableMetrics.instrument(tableView);
+
+        var path = dir.resolve("sort.jfr");
+        try (var recording = new Recording()) {
+            recording.enable("org.panteleyev.fx.TableSort");
+            recording.start();
+            tableView.getSortOrder().add(column);
+            recording.stop();
+            recording.dump(path);
+        }
+
+        assertEquals(List.of("a", "bb", "ccc"), tableView.getItems());
+        var stats = TableMetrics.stats(column);
+        assertEquals(1, stats.sorts());
+        assertTrue(stats.comparatorCalls() > 0);
+
+        var events = RecordingFile.readAllEvents(path).stream()
+                .filter(e -> e.getEventType().getName().equals("org.panteleyev.fx.TableSort"))
+                .filter(e -> e.getString("columns").equals("Sorted"))
+                .toList();
+        assertEquals(1, events.size());
+        assertEquals(3, events.getFirst().getInt("rows"));
+        assertEquals(stats.comparatorCalls(), events.getFirst().getLong("comparatorCalls"));
+    }
+}
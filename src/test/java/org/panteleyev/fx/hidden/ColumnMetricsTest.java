@@ -0,0 +1,92 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.hidden;
+
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.value.ObservableValue;
+import javafx.util.Callback;
+import org.junit.jupiter.api.Test;
+import org.panteleyev.fx.factories.TableFactory;
+import org.panteleyev.fx.table.TableMetrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ColumnMetricsTest {
+    @Test
+    public void testDisabled() {
+        assertFalse(TableMetrics.ENABLED);
+
+        var column = TableFactory.<String>tableStringColumn("Name");
+        Function<String, String> converter = String::trim;
+        Comparator<String> comparator = Comparator.naturalOrder();
+        assertSame(converter, ColumnMetrics.converter(column, converter));
+        assertSame(comparator, ColumnMetrics.comparator(column, comparator));
+
+        column.valueConverter(converter);
+        column.comparator(comparator);
+        assertSame(comparator, column.getComparator());
+        assertNull(TableMetrics.stats(column));
+    }
+
+    @Test
+    public void testMeters() {
+        var column = TableFactory.<String, Integer>tableValueColumn("Length");
+        var metrics = ColumnMetrics.of(column);
+        assertSame(metrics, ColumnMetrics.get(column));
+
+        Function<String, Integer> converter = metrics.meterConverter(String::length);
+        Callback<String, ObservableValue<Integer>> factory =
+                metrics.meterCellValueFactory(row -> new ReadOnlyObjectWrapper<>(converter.apply(row)));
+        for (var row : List.of("a", "bb", "ccc")) {
+            factory.call(row);
+        }
+        ColumnMetrics.updateItem(column);
+        ColumnMetrics.updateItem(null);
+
+        var stats = TableMetrics.stats(column);
+        assertEquals("Length", stats.column());
+        assertEquals(3, stats.converterCalls());
+        assertTrue(stats.converterTime().toNanos() >= 0);
+        assertEquals(3, stats.cellValues());
+        assertEquals(1, stats.updateItems());
+        assertTrue(TableMetrics.snapshot().contains(stats));
+
+        TableMetrics.reset();
+        assertEquals(0, TableMetrics.stats(column).converterCalls());
+    }
+
+    @Test
+    public void testSort() {
+        var first = TableFactory.<String, Integer>tableValueColumn("First");
+        var second = TableFactory.<String, String>tableValueColumn();
+        second.setId("second");
+        Comparator<Integer> byLength = ColumnMetrics.of(first).meterComparator(Comparator.<Integer>naturalOrder());
+        Comparator<String> byText = ColumnMetrics.of(second).meterComparator(Comparator.<String>naturalOrder());
+
+        var rows = new ArrayList<>(List.of("bb", "a", "ccc", "ab", "b"));
+        var sorted = ColumnMetrics.sort(List.of(first, second), rows.size(), () -> {
+            rows.sort(Comparator.comparing(String::length, byLength).thenComparing(byText));
+            return true;
+        });
+        assertTrue(sorted);
+        assertEquals(List.of("a", "b", "ab", "bb", "ccc"), rows);
+
+        var firstStats = TableMetrics.stats(first);
+        var secondStats = TableMetrics.stats(second);
+        assertEquals("second", secondStats.column());
+        assertEquals(1, firstStats.sorts());
+        assertEquals(1, secondStats.sorts());
+        assertTrue(firstStats.comparatorCalls() > 0);
+        assertTrue(secondStats.comparatorCalls() > 0);
+        assertEquals(firstStats.comparatorCalls(), firstStats.comparatorCallsPerSort());
+    }
+}
@@ -0,0 +1,81 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.hidden;
+
+import javafx.scene.layout.Region;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FlashSchedulerTest {
+    private static final String FLASH = "flash";
+    private static final Duration DURATION = Duration.ofNanos(100);
+
+    private final AtomicLong now = new AtomicLong();
+    private final FlashScheduler scheduler = new FlashScheduler(now::get);
+
+    @Test
+    public void testFlashAndExpiry() {
+        var node = new Region();
+        assertFalse(scheduler.isRunning());
+
+        scheduler.flash(node, FLASH, DURATION);
+        assertTrue(node.getStyleClass().contains(FLASH));
+        assertTrue(scheduler.isRunning());
+
+        now.set(99);
+        scheduler.onPulse();
+        assertTrue(node.getStyleClass().contains(FLASH));
+        assertTrue(scheduler.isRunning());
+
+        now.set(100);
+        scheduler.onPulse();
+        assertFalse(node.getStyleClass().contains(FLASH));
+        assertTrue(node.getProperties().isEmpty());
+        assertFalse(scheduler.isRunning());
+    }
+
+    @Test
+    public void testRepeatedFlashExtends() {
+        var node = new Region();
+        scheduler.flash(node, FLASH, DURATION);
+        now.set(50);
+        scheduler.flash(node, FLASH, DURATION);
+        assertEquals(1, node.getStyleClass().stream().filter(FLASH::equals).count());
+
+        // First entry expires but the node was flashed again
+        now.set(100);
+        scheduler.onPulse();
+        assertTrue(node.getStyleClass().contains(FLASH));
+        assertTrue(scheduler.isRunning());
+
+        now.set(150);
+        scheduler.onPulse();
+        assertFalse(node.getStyleClass().contains(FLASH));
+        assertFalse(scheduler.isRunning());
+    }
+
+    @Test
+    public void testCancel() {
+        var node = new Region();
+        node.getStyleClass().add("other");
+        scheduler.cancel(node, "other");
+        assertTrue(node.getStyleClass().contains("other"));
+
+        scheduler.flash(node, FLASH, DURATION);
+        scheduler.cancel(node, FLASH);
+        assertFalse(node.getStyleClass().contains(FLASH));
+
+        // Style class added after cancel is not removed by the stale entry
+        node.getStyleClass().add(FLASH);
+        now.set(100);
+        scheduler.onPulse();
+        assertTrue(node.getStyleClass().contains(FLASH));
+        assertFalse(scheduler.isRunning());
+    }
+}
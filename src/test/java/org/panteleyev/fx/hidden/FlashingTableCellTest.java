@@ -0,0 +1,65 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.hidden;
+
+import javafx.scene.layout.Region;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FlashingTableCellTest {
+    private static final String FLASH = "flash";
+
+    private final AtomicLong now = new AtomicLong();
+    private final FlashScheduler scheduler = new FlashScheduler(now::get);
+    private final Region node = new Region();
+    private final FlashingTableCell.ChangeTracker<Integer> tracker =
+            new FlashingTableCell.ChangeTracker<>(node, scheduler, FLASH, Duration.ofNanos(100));
+
+    private boolean flashing() {
+        return node.getStyleClass().contains(FLASH);
+    }
+
+    @Test
+    public void testFlashOnValueChange() {
+        var row = new Object();
+        tracker.update(row, 1);
+        assertFalse(flashing());
+
+        tracker.update(row, 1);
+        assertFalse(flashing());
+
+        tracker.update(row, 2);
+        assertTrue(flashing());
+
+        now.set(100);
+        scheduler.onPulse();
+        assertFalse(flashing());
+    }
+
+    @Test
+    public void testRowReuse() {
+        var first = new Object();
+        var second = new Object();
+        tracker.update(first, 1);
+        tracker.update(first, 2);
+        assertTrue(flashing());
+
+        // Reused cell does not keep the flash of the previous row and does not flash for the new value
+        tracker.update(second, 3);
+        assertFalse(flashing());
+        tracker.update(second, 3);
+        assertFalse(flashing());
+
+        // Empty cell
+        tracker.update(second, 4);
+        tracker.update(null, null);
+        assertFalse(flashing());
+        tracker.update(null, null);
+        assertFalse(flashing());
+    }
+}
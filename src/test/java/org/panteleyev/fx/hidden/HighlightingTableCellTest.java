@@ -0,0 +1,88 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.hidden;
+
+import javafx.beans.property.SimpleStringProperty;
+import javafx.embed.swing.JFXPanel;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextFlow;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class HighlightingTableCellTest {
+    private final SimpleStringProperty query = new SimpleStringProperty("apple");
+    private final HighlightingTableCell<Object> cell = new HighlightingTableCell<>(new MatchRanges(query, 16));
+
+    @BeforeAll
+    public static void setup() {
+        new JFXPanel();
+    }
+
+    private List<Text> segments() {
+        assertNull(cell.getText());
+        return assertInstanceOf(TextFlow.class, cell.getGraphic()).getChildren().stream()
+                .map(Text.class::cast)
+                .toList();
+    }
+
+    // Matches are enclosed in brackets
+    private String describe(List<Text> segments) {
+        var result = new StringBuilder();
+        for (var segment : segments) {
+            var bold = !segment.getFont().equals(cell.getFont());
+            result.append(bold ? "[" + segment.getText() + "]" : segment.getText());
+        }
+        return result.toString();
+    }
+
+    @Test
+    public void testRendering() {
+        cell.updateItem("Pineapple apple", false);
+        assertEquals("Pine[apple] [apple]", describe(segments()));
+
+        cell.updateItem("Banana", false);
+        assertEquals("Banana", cell.getText());
+        assertNull(cell.getGraphic());
+
+        cell.updateItem(null, true);
+        assertNull(cell.getText());
+        assertNull(cell.getGraphic());
+    }
+
+    @Test
+    public void testNodeReuse() {
+        cell.updateItem("Pineapple apple", false);
+        var first = segments();
+
+        cell.updateItem("Banana", false);
+        cell.updateItem("Apple pie", false);
+        var second = segments();
+        assertEquals("[Apple] pie", describe(second));
+        // Text nodes of the pool are reused
+        assertSame(first.get(0), second.get(0));
+        assertSame(first.get(1), second.get(1));
+    }
+
+    @Test
+    public void testQueryChange() {
+        cell.updateItem("Pineapple", false);
+        assertEquals("Pine[apple]", describe(segments()));
+
+        query.set("pine");
+        assertEquals("[Pine]apple", describe(segments()));
+
+        query.set("");
+        assertEquals("Pineapple", cell.getText());
+        assertNull(cell.getGraphic());
+
+        query.set(null);
+        assertEquals("Pineapple", cell.getText());
+    }
+}
@@ -0,0 +1,57 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.hidden;
+
+import javafx.beans.property.SimpleStringProperty;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.params.provider.Arguments.argumentSet;
+
+public class MatchRangesTest {
+    private static List<Arguments> testComputeArguments() {
+        return List.of(
+                argumentSet("No match", "abc", "x", new int[0]),
+                argumentSet("Single", "Hello World", "WORLD", new int[]{6, 11}),
+                argumentSet("Multiple", "abcabc", "bc", new int[]{1, 3, 4, 6}),
+                argumentSet("Non-overlapping", "aaaa", "aa", new int[]{0, 2, 2, 4}),
+                argumentSet("Longer query", "ab", "abc", new int[0])
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("testComputeArguments")
+    public void testCompute(String text, String query, int[] expected) {
+        assertArrayEquals(expected, MatchRanges.compute(text, query));
+    }
+
+    @Test
+    public void testCache() {
+        var query = new SimpleStringProperty("a");
+        var matches = new MatchRanges(query, 2);
+
+        var ranges = matches.ranges("banana");
+        assertArrayEquals(new int[]{1, 2, 3, 4, 5, 6}, ranges);
+        assertSame(ranges, matches.ranges("banana"));
+
+        matches.ranges("apple");
+        matches.ranges("cherry");
+        assertEquals(2, matches.size());
+
+        query.set("an");
+        assertArrayEquals(new int[]{1, 3, 3, 5}, matches.ranges("banana"));
+        assertEquals(1, matches.size());
+
+        query.set("");
+        assertEquals(0, matches.ranges("banana").length);
+        query.set(null);
+        assertEquals(0, matches.ranges("banana").length);
+    }
+}
@@ -0,0 +1,240 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.table;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.params.provider.Arguments.argumentSet;
+
+public class BulkEditTest {
+    private record Row(int id, String name, int amount) {
+        Row withName(String name) {
+            return new Row(id, name, amount);
+        }
+
+        Row withAmount(int amount) {
+            return new Row(id, name, amount);
+        }
+    }
+
+    private static List<Arguments> testFieldsArguments() {
+        return List.of(
+                argumentSet("Plain", "a\tb\tc", new String[]{"a", "b", "c"}),
+                argumentSet("Empty fields", "\ta\t", new String[]{"", "a", ""}),
+                argumentSet("Carriage return", "a\tb\r\n", new String[]{"a", "b"}),
+                argumentSet("Quoted", "\"a\tb\"\t\"say \"\"hi\"\"\"", new String[]{"a\tb", "say \"hi\""}),
+                argumentSet("Quoted line break", "\"a\nb\"\tc", new String[]{"a\nb", "c"}),
+                argumentSet("Inner quote", "a\"b\tc", new String[]{"a\"b", "c"})
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("testFieldsArguments")
+    public void testFields(String text, String[] expected) {
+        assertArrayEquals(expected, BulkEdit.fields(text, 0, text.length()));
+    }
+
+    private static List<Arguments> testRecordsArguments() {
+        return List.of(
+                argumentSet("Empty", "", new int[]{0}),
+                argumentSet("Single", "a\tb", new int[]{0, 3}),
+                argumentSet("Trailing line break", "a\nb\n", new int[]{0, 2, 4}),
+                argumentSet("Empty line", "a\n\nb", new int[]{0, 2, 3, 4}),
+                argumentSet("Quoted line break", "\"a\nb\"\tc\nd", new int[]{0, 8, 9})
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("testRecordsArguments")
+    public void testRecords(String text, int[] expected) {
+        assertArrayEquals(expected, BulkEdit.records(text));
+    }
+
+    @Test
+    public void testPaste() {
+        var items = rows(5);
+        var changes = countChanges(items);
+        var edit = bulkEdit(items);
+
+        var result = edit.paste("x\t10\ny\t20\n", 1, 0).join();
+        assertTrue(result.isValid());
+        assertEquals(2, result.rowCount());
+        assertEquals(0, changes.get());
+
+        var undo = result.commit();
+        assertEquals(1, changes.get());
+        assertEquals(List.of(new Row(0, "row 0", 0), new Row(1, "x", 10), new Row(2, "y", 20),
+                new Row(3, "row 3", 3), new Row(4, "row 4", 4)), items);
+        assertThrows(IllegalStateException.class, result::commit);
+
+        undo.undo();
+        assertEquals(2, changes.get());
+        assertEquals(rows(5), items);
+        assertFalse(undo.isDone());
+
+        undo.redo();
+        assertEquals(3, changes.get());
+        assertEquals(new Row(2, "y", 20), items.get(2));
+    }
+
+    @Test
+    public void testPasteFromColumn() {
+        var items = rows(3);
+        var result = bulkEdit(items).paste("7\textra\n8", 0, 1).join();
+        result.commit();
+        assertEquals(List.of(new Row(0, "row 0", 7), new Row(1, "row 1", 8), new Row(2, "row 2", 2)), items);
+    }
+
+    @Test
+    public void testAppend() {
+        var items = rows(2);
+        var ids = new AtomicInteger(100);
+        var edit = bulkEdit(items);
+
+        var result = edit.paste("a\t1\nb\t2\nc\t3", 1, 0).join();
+        assertEquals(List.of(new BulkEdit.ValidationError(2, -1, "No row to paste into"),
+                new BulkEdit.ValidationError(3, -1, "No row to paste into")), result.errors());
+
+        edit.rowFactory(() -> new Row(ids.getAndIncrement(), "", 0));
+        var undo = edit.paste("a\t1\nb\t2\nc\t3", 1, 0).join().commit();
+        assertEquals(List.of(new Row(0, "row 0", 0), new Row(1, "a", 1), new Row(100, "b", 2), new Row(101, "c", 3)),
+                items);
+
+        undo.undo();
+        assertEquals(rows(2), items);
+    }
+
+    @Test
+    public void testValidation() {
+        var items = rows(3);
+        var edit = bulkEdit(items).validator(row -> row.amount() < 0 ? "Negative amount" : null);
+
+        var result = edit.paste("a\tx\nb\t-1\nc\t5", 0, 0).join();
+        assertFalse(result.isValid());
+        assertEquals(List.of(
+                new BulkEdit.ValidationError(0, 1, "For input string: \"x\""),
+                new BulkEdit.ValidationError(1, -1, "Negative amount")
+        ), result.errors());
+        assertThrows(IllegalStateException.class, result::commit);
+        assertEquals(rows(3), items);
+    }
+
+    @Test
+    public void testFill() {
+        var items = rows(6);
+        var changes = countChanges(items);
+        var undo = bulkEdit(items).fill(List.of(4, 1, 2), 1, "42").join().commit();
+        assertEquals(1, changes.get());
+        assertEquals(List.of(0, 42, 42, 3, 42, 5), items.stream().map(Row::amount).toList());
+
+        undo.undo();
+        assertEquals(rows(6), items);
+        assertThrows(IndexOutOfBoundsException.class, () -> bulkEdit(items).fill(List.of(6), 0, "x"));
+    }
+
+    @Test
+    public void testFillParsesOnce() {
+        var items = rows(BulkEdit.CHUNK_SIZE + 5);
+        var parses = new AtomicInteger();
+        var edit = new BulkEdit<>(items, Runnable::run)
+                .column(text -> {
+                    parses.incrementAndGet();
+                    return Integer.parseInt(text);
+                }, Row::withAmount);
+
+        var indices = IntStream.range(0, items.size()).boxed().toList();
+        edit.fill(indices, 0, "7").join().commit();
+        assertEquals(1, parses.get());
+        assertTrue(items.stream().allMatch(row -> row.amount() == 7));
+
+        var result = edit.fill(indices, 0, "x").join();
+        assertEquals(2, parses.get());
+        assertEquals(List.of(new BulkEdit.ValidationError(-1, 0, "For input string: \"x\"")), result.errors());
+        assertEquals(indices.size(), result.rowCount());
+        assertThrows(IllegalStateException.class, result::commit);
+    }
+
+    @Test
+    public void testLargePaste() {
+        var count = 3 * BulkEdit.CHUNK_SIZE + 17;
+        var items = rows(count);
+        var changes = countChanges(items);
+        var text = IntStream.range(0, count)
+                .mapToObj(i -> "name " + i + "\t" + (i * 2))
+                .collect(Collectors.joining("\r\n"));
+
+        var edit = bulkEdit(items);
+        edit.executor(Runnable::run);
+        edit.paste(text, 0, 0).join().commit();
+        assertEquals(1, changes.get());
+        for (int i = 0; i < count; i++) {
+            assertEquals(new Row(i, "name " + i, i * 2), items.get(i));
+        }
+    }
+
+    @Test
+    public void testKeyedList() {
+        var items = KeyedObservableList.keyedObservableList(Row::id, rows(4));
+        var replaced = new ArrayList<Integer>();
+        items.addListener((ListChangeListener<Row>) change -> {
+            while (change.next()) {
+                assertTrue(change.wasReplaced());
+                replaced.add(change.getFrom());
+                replaced.add(change.getTo());
+            }
+        });
+
+        var first = items.getFirst();
+        bulkEdit(items).paste("a\nb", 1, 0).join().commit();
+        assertEquals(List.of(1, 3), replaced);
+        assertSame(first, items.getFirst());
+    }
+
+    @Test
+    public void testModifiedItems() {
+        var items = rows(3);
+        var result = bulkEdit(items).paste("a", 0, 0).join();
+        items.set(0, new Row(0, "changed", 0));
+        assertThrows(IllegalStateException.class, result::commit);
+
+        var undo = bulkEdit(items).paste("b", 1, 0).join().commit();
+        items.set(1, new Row(1, "changed", 1));
+        assertThrows(IllegalStateException.class, undo::undo);
+    }
+
+    private static BulkEdit<Row> bulkEdit(ObservableList<Row> items) {
+        return new BulkEdit<>(items, Runnable::run)
+                .column(String::trim, Row::withName)
+                .column(Integer::parseInt, Row::withAmount);
+    }
+
+    private static ObservableList<Row> rows(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Row(i, "row " + i, i))
+                .collect(Collectors.toCollection(FXCollections::observableArrayList));
+    }
+
+    private static AtomicInteger countChanges(ObservableList<Row> items) {
+        var count = new AtomicInteger();
+        items.addListener((ListChangeListener<Row>) _ -> count.incrementAndGet());
+        return count;
+    }
+}
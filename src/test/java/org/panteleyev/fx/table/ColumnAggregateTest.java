@@ -0,0 +1,116 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.table;
+
+import javafx.collections.FXCollections;
+import javafx.collections.transformation.FilteredList;
+import org.junit.jupiter.api.Test;
+import org.panteleyev.fx.PredicateProperty;
+import org.panteleyev.fx.factories.TableFactory;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.panteleyev.fx.table.ColumnAggregate.columnAggregate;
+
+public class ColumnAggregateTest {
+    private record Row(String name, Double amount) {
+    }
+
+    private static void assertAggregate(List<Row> rows, ColumnAggregate<Row> aggregate) {
+        var values = rows.stream()
+                .map(Row::amount)
+                .filter(v -> v != null)
+                .mapToDouble(Double::doubleValue)
+                .toArray();
+        assertEquals(values.length, aggregate.countProperty().get());
+        assertEquals(Arrays.stream(values).sum(), aggregate.sumProperty().get(), 1e-9);
+        if (values.length == 0) {
+            assertTrue(Double.isNaN(aggregate.minProperty().get()));
+            assertTrue(Double.isNaN(aggregate.maxProperty().get()));
+        } else {
+            assertEquals(Arrays.stream(values).min().orElseThrow(), aggregate.minProperty().get());
+            assertEquals(Arrays.stream(values).max().orElseThrow(), aggregate.maxProperty().get());
+            assertEquals(Arrays.stream(values).average().orElseThrow(),
+                    aggregate.averageProperty().get(), 1e-9);
+        }
+    }
+
+    @Test
+    public void testListChanges() {
+        var random = new Random(7);
+        var items = FXCollections.<Row>observableArrayList();
+        var aggregate = columnAggregate(items, r -> r.amount() == null ? Double.NaN : r.amount());
+
+        for (int i = 0; i < 500; i++) {
+            switch (random.nextInt(5)) {
+                case 0, 1 -> items.add(random.nextInt(items.size() + 1),
+                        new Row("r" + i, random.nextInt(10) == 0 ? null : random.nextDouble(-100, 100)));
+                case 2 -> {
+                    if (!items.isEmpty()) items.remove(random.nextInt(items.size()));
+                }
+                case 3 -> {
+                    if (!items.isEmpty()) items.set(random.nextInt(items.size()), new Row("s" + i, (double) i));
+                }
+                default -> FXCollections.sort(items, Comparator.comparing(Row::name));
+            }
+            assertAggregate(items, aggregate);
+        }
+
+        items.clear();
+        assertAggregate(items, aggregate);
+    }
+
+    @Test
+    public void testInfinity() {
+        var items = FXCollections.observableArrayList(new Row("a", 1.5), new Row("b", 2.5));
+        var aggregate = columnAggregate(items, Row::amount);
+
+        items.add(new Row("inf", Double.POSITIVE_INFINITY));
+        assertEquals(Double.POSITIVE_INFINITY, aggregate.sumProperty().get());
+        assertEquals(Double.POSITIVE_INFINITY, aggregate.maxProperty().get());
+
+        items.add(new Row("-inf", Double.NEGATIVE_INFINITY));
+        assertTrue(Double.isNaN(aggregate.sumProperty().get()));
+
+        items.removeLast();
+        assertEquals(Double.POSITIVE_INFINITY, aggregate.sumProperty().get());
+
+        items.removeLast();
+        assertEquals(4.0, aggregate.sumProperty().get());
+        assertEquals(2.0, aggregate.averageProperty().get());
+        assertEquals(2.5, aggregate.maxProperty().get());
+        assertEquals(2, aggregate.countProperty().get());
+    }
+
+    @Test
+    public void testFilteredColumn() {
+        var amountColumn = TableFactory.<Row, Double>tableValueColumn("Amount");
+        amountColumn.valueConverter(Row::amount);
+
+        var items = FXCollections.observableArrayList(
+                new Row("a", 10.0), new Row("b", 20.0), new Row("c", 30.0), new Row("d", null)
+        );
+        var predicate = new PredicateProperty<Row>();
+        var filtered = new FilteredList<>(items);
+        filtered.predicateProperty().bind(predicate);
+
+        var aggregate = columnAggregate(filtered, amountColumn);
+        assertAggregate(filtered, aggregate);
+
+        predicate.set(r -> r.amount() == null || r.amount() > 15);
+        assertAggregate(filtered, aggregate);
+        assertEquals(50.0, aggregate.sumProperty().get());
+
+        items.add(new Row("e", 100.0));
+        assertEquals(150.0, aggregate.sumProperty().get());
+        assertEquals(100.0, aggregate.maxProperty().get());
+
+        predicate.reset();
+        assertAggregate(filtered, aggregate);
+    }
+}
@@ -0,0 +1,84 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.table;
+
+import javafx.collections.FXCollections;
+import javafx.scene.control.TableColumn;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ColumnAutoSizerTest {
+    private static final double CHAR_WIDTH = 7;
+
+    private final ArrayDeque<Runnable> pulse = new ArrayDeque<>();
+    private final AtomicInteger measured = new AtomicInteger();
+
+    private ColumnAutoSizer<String> sizer(TableColumn<String, String> column, List<String> rows) {
+        var items = FXCollections.observableArrayList(rows);
+        return new ColumnAutoSizer<String>(column, items, s -> s, pulse::add)
+                .measurer((_, text) -> {
+                    measured.incrementAndGet();
+                    return text.length() * CHAR_WIDTH;
+                });
+    }
+
+    private void runPulse() {
+        while (!pulse.isEmpty()) {
+            pulse.poll().run();
+        }
+    }
+
+    @Test
+    public void testResize() {
+        var column = new TableColumn<String, String>("Header");
+        var rows = FXCollections.observableArrayList("a", "abc", "ab");
+        var sizer = new ColumnAutoSizer<String>(column, rows, s -> s, pulse::add)
+                .measurer((_, text) -> text.length() * CHAR_WIDTH)
+                .padding(10)
+                .recomputeThreshold(0.5);
+        assertEquals(1, pulse.size());
+        runPulse();
+
+        // Header is the widest
+        assertEquals(6 * CHAR_WIDTH + 10, column.getPrefWidth());
+
+        // Single added row widens the column immediately
+        rows.add("abcdefghij");
+        assertTrue(pulse.isEmpty());
+        assertEquals(10 * CHAR_WIDTH + 10, column.getPrefWidth());
+
+        // Removal of the widest row shrinks the column only after recalculation
+        rows.remove("abcdefghij");
+        assertEquals(10 * CHAR_WIDTH + 10, column.getPrefWidth());
+        assertEquals(1, pulse.size());
+        runPulse();
+        assertEquals(6 * CHAR_WIDTH + 10, column.getPrefWidth());
+        assertEquals(6 * CHAR_WIDTH, sizer.getContentWidth());
+    }
+
+    @Test
+    public void testSampling() {
+        var rows = new ArrayList<String>(1_000_000);
+        for (int i = 0; i < 1_000_000; i++) {
+            rows.add("x".repeat(1 + i % 20));
+        }
+        Collections.shuffle(rows);
+
+        var column = new TableColumn<String, String>("");
+        var sizer = sizer(column, rows).sampleSize(500).maxWidth(100);
+        runPulse();
+
+        assertEquals(20 * CHAR_WIDTH, sizer.getContentWidth());
+        assertEquals(100, column.getPrefWidth());
+        // Only distinct strings are measured
+        assertTrue(measured.get() <= 20);
+    }
+}
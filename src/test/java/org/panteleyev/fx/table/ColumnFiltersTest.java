@@ -0,0 +1,126 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.table;
+
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.panteleyev.fx.factories.TableFactory;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.params.provider.Arguments.argumentSet;
+
+public class ColumnFiltersTest {
+    private record Row(int id, String name, BigDecimal amount, String category) {
+    }
+
+    private static final List<Row> ROWS = List.of(
+            new Row(1, "Apple", new BigDecimal("10.50"), "fruit"),
+            new Row(2, "Banana", new BigDecimal("3.20"), "fruit"),
+            new Row(3, "Carrot", null, "vegetable"),
+            new Row(4, "Pineapple", new BigDecimal("25.00"), "fruit"),
+            new Row(5, null, new BigDecimal("7.00"), "other")
+    );
+
+    private static List<Arguments> testFilterArguments() {
+        return List.of(
+                argumentSet("Contains", ColumnFilter.<String>contains("APPLE"), null, null, List.of(1, 4)),
+                argumentSet("Range", null, ColumnFilter.range(new BigDecimal("5"), new BigDecimal("20")), null,
+                        List.of(1, 5)),
+                argumentSet("Open range", null, ColumnFilter.range(new BigDecimal("10.5"), null), null,
+                        List.of(1, 4)),
+                argumentSet("One of", null, null, ColumnFilter.oneOf(Set.of("vegetable", "other")), List.of(3, 5)),
+                argumentSet("Combined", ColumnFilter.<String>contains("a"),
+                        ColumnFilter.range(null, new BigDecimal("20")), ColumnFilter.oneOf(Set.of("fruit")),
+                        List.of(1, 2)),
+                argumentSet("None", null, null, null, List.of(1, 2, 3, 4, 5))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("testFilterArguments")
+    public void testFilter(ColumnFilter<String> nameFilter, ColumnFilter<BigDecimal> amountFilter,
+            ColumnFilter<String> categoryFilter, List<Integer> expected)
+    {
+        var nameColumn = TableFactory.<Row>tableStringColumn();
+        nameColumn.valueConverter(Row::name);
+        var amountColumn = TableFactory.<Row, BigDecimal>tableValueColumn();
+        amountColumn.valueConverter(Row::amount);
+        var category = new SimpleObjectProperty<ColumnFilter<? super String>>();
+
+        var filters = ColumnFilters.<Row>columnFilters()
+                .column(nameColumn)
+                .column(amountColumn)
+                .filter(Row::category, category);
+
+        nameColumn.columnFilterProperty().set(nameFilter);
+        amountColumn.columnFilterProperty().set(amountFilter);
+        category.set(categoryFilter);
+
+        var filtered = FXCollections.observableArrayList(ROWS).filtered(null);
+        filtered.predicateProperty().bind(filters.predicateProperty());
+        assertEquals(expected, filtered.stream().map(Row::id).toList());
+        assertEquals(expected, filters.filter(ROWS).stream().map(Row::id).toList());
+    }
+
+    @Test
+    public void testUpdate() {
+        var amountColumn = TableFactory.<Row, BigDecimal>tableValueColumn();
+        amountColumn.valueConverter(Row::amount);
+        var filters = ColumnFilters.<Row>columnFilters().column(amountColumn);
+
+        var filtered = FXCollections.observableArrayList(ROWS).filtered(null);
+        filtered.predicateProperty().bind(filters.predicateProperty());
+        assertEquals(5, filtered.size());
+
+        amountColumn.columnFilterProperty().set(ColumnFilter.range(new BigDecimal("20"), null));
+        assertEquals(List.of(ROWS.get(3)), filtered);
+
+        amountColumn.columnFilterProperty().set(null);
+        assertEquals(5, filtered.size());
+    }
+
+    @Test
+    public void testFiltersNotReferenced() {
+        var amountColumn = TableFactory.<Row, BigDecimal>tableValueColumn();
+        amountColumn.valueConverter(Row::amount);
+        var filtered = FXCollections.observableArrayList(ROWS).filtered(null);
+        ColumnFilters.<Row>columnFilters().column(amountColumn).predicateProperty()
+                .addListener((_, _, predicate) -> filtered.setPredicate(predicate));
+
+        // Filters are kept by the column
+        System.gc();
+        amountColumn.columnFilterProperty().set(ColumnFilter.range(new BigDecimal("20"), null));
+        assertEquals(List.of(ROWS.get(3)), filtered);
+    }
+
+    @Test
+    public void testParallel() {
+        var rows = IntStream.range(0, 3 * ColumnFilters.PARALLEL_THRESHOLD)
+                .mapToObj(i -> new Row(i, "name " + i, BigDecimal.valueOf(i), i % 2 == 0 ? "even" : "odd"))
+                .toList();
+        var range = new SimpleObjectProperty<ColumnFilter<? super Integer>>(ColumnFilter.range(100, 20_099));
+        var oneOf = new SimpleObjectProperty<ColumnFilter<? super String>>(ColumnFilter.oneOf(Set.of("odd")));
+        var filters = ColumnFilters.<Row>columnFilters()
+                .filter(Row::id, range)
+                .filter(Row::category, oneOf);
+
+        var expected = rows.stream().filter(r -> r.id() >= 100 && r.id() <= 20_099 && r.id() % 2 == 1).toList();
+        assertEquals(expected, filters.filter(rows));
+    }
+
+    @Test
+    public void testColumnWithoutConverter() {
+        assertThrows(IllegalArgumentException.class,
+                () -> ColumnFilters.<Row>columnFilters().column(TableFactory.<Row>tableStringColumn()));
+    }
+}
@@ -0,0 +1,53 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.table;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.params.provider.Arguments.argumentSet;
+
+public class ColumnLayoutTest {
+    private static final double MAX = Double.MAX_VALUE;
+
+    private static double[] values(double... values) {
+        return values;
+    }
+
+    private static List<Arguments> testDistributeArguments() {
+        return List.of(
+                argumentSet("Proportional", 400.0,
+                        values(1, 2, 1), values(0, 0, 0), values(MAX, MAX, MAX), values(100, 200, 100)),
+                argumentSet("Minimum", 300.0,
+                        values(1, 1, 1), values(200, 0, 0), values(MAX, MAX, MAX), values(200, 50, 50)),
+                argumentSet("Maximum", 300.0,
+                        values(1, 1), values(0, 0), values(50, MAX), values(50, 250)),
+                argumentSet("Rounding", 100.0,
+                        values(1, 1, 1), values(0, 0, 0), values(MAX, MAX, MAX), values(34, 33, 33)),
+                argumentSet("Fractional width", 100.5,
+                        values(1, 1), values(0, 0), values(MAX, MAX), values(50, 50)),
+                argumentSet("Zero weight", 300.0,
+                        values(0, 1, 1), values(60, 0, 0), values(MAX, MAX, MAX), values(60, 120, 120)),
+                argumentSet("Not enough width", 100.0,
+                        values(1, 1), values(80, 60), values(MAX, MAX), values(80, 60)),
+                argumentSet("Too much width", 500.0,
+                        values(1, 1), values(0, 0), values(100, 150), values(100, 150)),
+                argumentSet("Cascading limits", 1000.0,
+                        values(1, 1, 8), values(0, 300, 0), values(MAX, MAX, 500), values(200, 300, 500))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("testDistributeArguments")
+    public void testDistribute(double available, double[] weights, double[] minWidths, double[] maxWidths,
+            double[] expected)
+    {
+        var widths = ColumnLayout.distribute(available, weights, minWidths, maxWidths);
+        assertArrayEquals(expected, widths, Arrays.toString(widths));
+    }
+}
@@ -0,0 +1,126 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.table;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IndexRangeSetTest {
+    @Test
+    public void testAddRemove() {
+        var set = new IndexRangeSet();
+        set.add(10, 20);
+        set.add(30, 40);
+        set.add(20, 25);
+        assertEquals("[10..25, 30..40]", set.toString());
+
+        set.add(24, 31);
+        assertEquals("[10..40]", set.toString());
+        assertEquals(30, set.size());
+
+        set.remove(15, 20);
+        set.remove(0, 11);
+        set.remove(39, 100);
+        assertEquals("[11..15, 20..39]", set.toString());
+        assertEquals(23, set.size());
+        assertEquals(11, set.first());
+        assertEquals(38, set.last());
+    }
+
+    @Test
+    public void testRankAndGet() {
+        var set = new IndexRangeSet();
+        set.add(5, 8);
+        set.add(100, 1_000_100);
+
+        assertEquals(1_000_003, set.size());
+        assertEquals(0, set.rank(5));
+        assertEquals(2, set.rank(7));
+        assertEquals(3, set.rank(50));
+        assertEquals(503, set.rank(600));
+        assertEquals(1_000_003, set.rank(Integer.MAX_VALUE));
+
+        assertEquals(5, set.get(0));
+        assertEquals(7, set.get(2));
+        assertEquals(100, set.get(3));
+        assertEquals(1_000_099, set.get(1_000_002));
+        assertThrows(IndexOutOfBoundsException.class, () -> set.get(1_000_003));
+
+        assertTrue(set.contains(6));
+        assertFalse(set.contains(8));
+    }
+
+    @Test
+    public void testInsertDelete() {
+        var set = new IndexRangeSet();
+        set.add(0, 10);
+
+        set.insert(5, 3);
+        assertEquals("[0..5, 8..13]", set.toString());
+
+        set.delete(4, 5);
+        assertEquals("[0..8]", set.toString());
+
+        set.insert(0, 2);
+        assertEquals("[2..10]", set.toString());
+
+        set.delete(0, 4);
+        assertEquals("[0..6]", set.toString());
+    }
+
+    @Test
+    public void testRandom() {
+        var random = new Random(42);
+        var set = new IndexRangeSet();
+        var expected = new TreeSet<Integer>();
+
+        for (int step = 0; step < 2_000; step++) {
+            var from = random.nextInt(500);
+            var to = from + random.nextInt(30);
+            switch (random.nextInt(4)) {
+                case 0 -> {
+                    set.add(from, to);
+                    for (int i = from; i < to; i++) expected.add(i);
+                }
+                case 1 -> {
+                    set.remove(from, to);
+                    for (int i = from; i < to; i++) expected.remove(i);
+                }
+                case 2 -> {
+                    set.insert(from, to - from);
+                    var shifted = new TreeSet<Integer>();
+                    for (var i : expected) shifted.add(i >= from ? i + to - from : i);
+                    expected = shifted;
+                }
+                default -> {
+                    set.delete(from, to - from);
+                    var shifted = new TreeSet<Integer>();
+                    for (var i : expected) {
+                        if (i < from) shifted.add(i);
+                        else if (i >= to) shifted.add(i - to + from);
+                    }
+                    expected = shifted;
+                }
+            }
+
+            assertEquals(expected.size(), set.size());
+            var position = 0;
+            for (var i : expected) {
+                assertEquals(i, set.get(position));
+                assertEquals(position, set.rank(i));
+                position++;
+            }
+            for (int k = 1; k < set.rangeCount(); k++) {
+                assertTrue(set.rangeEnd(k - 1) < set.rangeStart(k));
+            }
+            assertEquals(set, set.copy());
+        }
+    }
+}
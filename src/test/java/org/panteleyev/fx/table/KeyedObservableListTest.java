@@ -0,0 +1,200 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.table;
+
+import javafx.collections.ListChangeListener;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.params.provider.Arguments.argumentSet;
+import static org.panteleyev.fx.table.KeyedObservableList.keyedObservableList;
+
+public class KeyedObservableListTest {
+    private record Row(int id, String value) {
+    }
+
+    private static List<Row> rows(int... ids) {
+        var result = new ArrayList<Row>();
+        for (var id : ids) {
+            result.add(new Row(id, "v" + id));
+        }
+        return result;
+    }
+
+    private static List<Arguments> testReconcileArguments() {
+        return List.of(
+                argumentSet("Append", rows(1, 2, 3), rows(1, 2, 3, 4, 5), 2, 0, 0),
+                argumentSet("Remove", rows(1, 2, 3, 4), rows(1, 3), 0, 2, 0),
+                argumentSet("Move", rows(1, 2, 3, 4), rows(4, 1, 2, 3), 1, 1, 0),
+                argumentSet("Replace", rows(1, 2, 3), List.of(new Row(1, "v1"), new Row(2, "x"), new Row(3, "v3")),
+                        1, 1, 1),
+                argumentSet("Empty", rows(1, 2, 3), rows(), 0, 3, 0),
+                argumentSet("From empty", rows(), rows(1, 2), 2, 0, 0)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("testReconcileArguments")
+    public void testReconcile(List<Row> initial, List<Row> snapshot, int added, int removed, int replaced) {
+        var list = keyedObservableList(Row::id, initial);
+        var replayed = new ArrayList<>(initial);
+        var changes = new AtomicInteger();
+        var addedCount = new AtomicInteger();
+        var removedCount = new AtomicInteger();
+        var replacedCount = new AtomicInteger();
+
+        list.addListener((ListChangeListener<Row>) c -> {
+            changes.incrementAndGet();
+            while (c.next()) {
+                if (c.wasReplaced()) {
+                    replacedCount.addAndGet(c.getAddedSize());
+                }
+                removedCount.addAndGet(c.getRemovedSize());
+                addedCount.addAndGet(c.getAddedSize());
+                replayed.subList(c.getFrom(), c.getFrom() + c.getRemovedSize()).clear();
+                replayed.addAll(c.getFrom(), c.getAddedSubList());
+            }
+        });
+
+        list.reconcile(snapshot);
+
+        assertEquals(snapshot, list);
+        assertEquals(snapshot, replayed);
+        assertEquals(1, changes.get());
+        assertEquals(added, addedCount.get());
+        assertEquals(removed, removedCount.get());
+        assertEquals(replaced, replacedCount.get());
+    }
+
+    @Test
+    public void testRandomReconcile() {
+        var random = new Random(42);
+        var list = keyedObservableList(Row::id, rows());
+        var replayed = new ArrayList<Row>();
+        list.addListener((ListChangeListener<Row>) c -> {
+            while (c.next()) {
+                replayed.subList(c.getFrom(), c.getFrom() + c.getRemovedSize()).clear();
+                replayed.addAll(c.getFrom(), c.getAddedSubList());
+            }
+        });
+
+        for (int iteration = 0; iteration < 100; iteration++) {
+            var snapshot = new ArrayList<Row>();
+            for (int id = 0; id < 50; id++) {
+                if (random.nextInt(4) != 0) {
+                    snapshot.add(new Row(id, "v" + random.nextInt(3)));
+                }
+            }
+            for (int i = 0; i < 3; i++) {
+                snapshot.add(random.nextInt(snapshot.size()), snapshot.remove(random.nextInt(snapshot.size())));
+            }
+
+            list.reconcile(snapshot);
+            assertEquals(snapshot, list);
+            assertEquals(snapshot, replayed);
+        }
+    }
+
+    @Test
+    public void testNoChange() {
+        var list = keyedObservableList(Row::id, rows(1, 2, 3));
+        var changes = new AtomicInteger();
+        list.addListener((ListChangeListener<Row>) _ -> changes.incrementAndGet());
+
+        assertFalse(list.reconcile(rows(1, 2, 3)));
+        assertEquals(0, changes.get());
+        assertTrue(list.reconcile(rows(1, 3)));
+    }
+
+    @Test
+    public void testDuplicateKeys() {
+        var list = keyedObservableList(Row::id, rows(1, 2, 3));
+        assertThrows(IllegalArgumentException.class, () -> list.reconcile(rows(1, 1)));
+        assertThrows(IllegalArgumentException.class, () -> keyedObservableList(Row::id, rows(1, 2, 1)));
+    }
+
+    @Test
+    public void testIndexOfKey() {
+        var list = keyedObservableList(Row::id, rows(1, 2, 3));
+        assertEquals(2, list.indexOfKey(3));
+
+        list.add(0, new Row(10, "v10"));
+        list.remove(2);
+        list.addAll(rows(4, 5));
+        list.set(1, new Row(11, "v11"));
+
+        assertEquals(List.of(10, 11, 3, 4, 5), list.stream().map(Row::id).toList());
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(i, list.indexOfKey(list.get(i).id()));
+        }
+        assertEquals(-1, list.indexOfKey(1));
+        assertEquals(-1, list.indexOfKey(2));
+
+        list.remove(0, 2);
+        assertEquals(0, list.indexOfKey(3));
+        assertEquals(2, list.indexOfKey(5));
+        assertEquals(-1, list.indexOfKey(10));
+
+        // Stale index entries point past the end of the list
+        list = keyedObservableList(Row::id, rows(1, 2, 3));
+        list.remove(0);
+        list.remove(1);
+        assertEquals(-1, list.indexOfKey(3));
+        assertEquals(-1, list.indexOfKey(1));
+        assertEquals(0, list.indexOfKey(2));
+    }
+
+    @Test
+    public void testReplace() {
+        var list = keyedObservableList(Row::id, rows(1, 2, 3));
+        var changes = new ArrayList<String>();
+        list.addListener((ListChangeListener<Row>) c -> {
+            while (c.next()) {
+                changes.add(c.getFrom() + ":" + c.wasReplaced());
+            }
+        });
+
+        assertTrue(list.replace(new Row(2, "x")));
+        assertFalse(list.replace(new Row(4, "x")));
+        assertEquals(List.of("1:true"), changes);
+        assertEquals("x", list.getByKey(2).value());
+    }
+
+    @Test
+    public void testSortPermutation() {
+        var list = keyedObservableList(Row::id, rows(3, 1, 2));
+        var permutations = new AtomicInteger();
+        list.addListener((ListChangeListener<Row>) c -> {
+            while (c.next()) {
+                assertTrue(c.wasPermutated());
+                permutations.incrementAndGet();
+            }
+        });
+
+        list.sort(Comparator.comparingInt(Row::id));
+        assertEquals(List.of(1, 2, 3), list.stream().map(Row::id).toList());
+
+        var reversed = new ArrayList<>(list);
+        Collections.reverse(reversed);
+        list.setAll(reversed);
+        assertEquals(List.of(3, 2, 1), list.stream().map(Row::id).toList());
+
+        assertEquals(2, permutations.get());
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(i, list.indexOfKey(list.get(i).id()));
+        }
+    }
+}
@@ -0,0 +1,141 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.table;
+
+import org.junit.jupiter.api.Test;
+import org.panteleyev.fx.table.QuickFind.Hit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class QuickFindTest {
+    private record Row(int id, String name) {
+    }
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final List<Runnable> fxTasks = new ArrayList<>();
+
+    private static final List<Row> ROWS = IntStream.range(0, 5 * QuickFind.CHUNK_SIZE)
+            .mapToObj(i -> new Row(i, i % 1000 == 7 ? "Needle " + i : "hay " + i))
+            .toList();
+
+    private QuickFind<Row> find() {
+        return new QuickFind<Row>(() -> ROWS, tasks::add, fxTasks::add)
+                .column(Row::id)
+                .column(Row::name);
+    }
+
+    private static void runAll(List<Runnable> tasks) {
+        var copy = List.copyOf(tasks);
+        tasks.clear();
+        copy.forEach(Runnable::run);
+    }
+
+    @Test
+    public void testStreaming() {
+        var find = find();
+        find.queryProperty().set("NEEDLE");
+        assertEquals(5, tasks.size());
+        assertTrue(find.runningProperty().get());
+
+        // Last chunk first
+        tasks.removeLast().run();
+        runAll(fxTasks);
+        assertTrue(find.runningProperty().get());
+        assertEquals(new Hit(9007, 1), find.currentHitProperty().get());
+        assertEquals(0, find.currentIndexProperty().get());
+        var firstBatch = find.getHits().size();
+        assertTrue(firstBatch > 0);
+
+        // Earlier hits are inserted before the current one
+        runAll(tasks);
+        runAll(fxTasks);
+        assertFalse(find.runningProperty().get());
+        assertEquals(new Hit(9007, 1), find.currentHitProperty().get());
+        assertEquals(find.getHits().indexOf(new Hit(9007, 1)), find.currentIndexProperty().get());
+
+        var expected = ROWS.stream().filter(r -> r.name().startsWith("Needle")).map(r -> new Hit(r.id(), 1)).toList();
+        assertEquals(expected, find.getHits());
+    }
+
+    @Test
+    public void testRandomOrder() {
+        var find = find();
+        find.queryProperty().set("99");
+        Collections.shuffle(tasks, new Random(1));
+        runAll(tasks);
+        Collections.shuffle(fxTasks, new Random(2));
+        runAll(fxTasks);
+
+        var hits = find.getHits();
+        var sorted = new ArrayList<>(hits);
+        Collections.sort(sorted);
+        assertEquals(sorted, hits);
+        assertTrue(hits.contains(new Hit(99, 0)));
+        assertTrue(hits.contains(new Hit(99, 1)));
+        assertTrue(hits.contains(new Hit(1990, 0)));
+    }
+
+    @Test
+    public void testNavigation() {
+        var find = find();
+        find.queryProperty().set("needle 10007");
+        runAll(tasks);
+        runAll(fxTasks);
+        assertEquals(List.of(new Hit(10007, 1)), find.getHits());
+
+        find.queryProperty().set("needle 1");
+        runAll(tasks);
+        runAll(fxTasks);
+        var hits = find.getHits();
+        assertEquals(List.of(new Hit(1007, 1), new Hit(10007, 1)), hits);
+        assertEquals(0, find.currentIndexProperty().get());
+
+        find.next();
+        assertEquals(new Hit(10007, 1), find.currentHitProperty().get());
+        find.next();
+        assertEquals(new Hit(1007, 1), find.currentHitProperty().get());
+        find.previous();
+        assertEquals(new Hit(10007, 1), find.currentHitProperty().get());
+    }
+
+    @Test
+    public void testQueryChangeCancels() {
+        var find = find();
+        find.queryProperty().set("needle");
+        var oldTasks = List.copyOf(tasks);
+        tasks.clear();
+
+        find.queryProperty().set("hay 5");
+        oldTasks.forEach(Runnable::run);
+        runAll(fxTasks);
+        assertTrue(find.getHits().isEmpty());
+
+        runAll(tasks);
+        runAll(fxTasks);
+        assertFalse(find.getHits().isEmpty());
+        assertTrue(find.getHits().stream().allMatch(h -> ROWS.get(h.row()).name().startsWith("hay 5")));
+
+        find.queryProperty().set("");
+        assertTrue(tasks.isEmpty());
+        assertTrue(find.getHits().isEmpty());
+        assertNull(find.currentHitProperty().get());
+        assertEquals(-1, find.currentIndexProperty().get());
+    }
+
+    @Test
+    public void testContainsIgnoreCase() {
+        assertTrue(QuickFind.containsIgnoreCase("Hello World", "o w"));
+        assertTrue(QuickFind.containsIgnoreCase("ПРИВЕТ", "привет"));
+        assertFalse(QuickFind.containsIgnoreCase("abc", "abcd"));
+        assertTrue(QuickFind.containsIgnoreCase("abc", ""));
+    }
+}
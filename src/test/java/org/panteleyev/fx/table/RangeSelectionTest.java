@@ -0,0 +1,132 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.table;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RangeSelectionTest {
+    private record Event(int from, int to, int removedSize) {
+    }
+
+    private ObservableList<String> items;
+    private RangeSelection<String, String> selection;
+    private final List<Event> indexEvents = new ArrayList<>();
+    private final List<List<String>> itemEvents = new ArrayList<>();
+
+    @BeforeEach
+    public void setup() {
+        items = FXCollections.observableArrayList(IntStream.range(0, 1_000_000).mapToObj(i -> "item " + i).toList());
+        selection = new RangeSelection<>(items::get, i -> "cell " + i);
+        items.addListener((ListChangeListener<String>) c -> selection.itemsChanged(c, -1));
+
+        selection.getSelectedIndices().addListener((ListChangeListener<Integer>) c -> {
+            while (c.next()) {
+                indexEvents.add(new Event(c.getFrom(), c.getTo(), c.getRemovedSize()));
+            }
+        });
+        selection.getSelectedItems().addListener((ListChangeListener<String>) c -> {
+            while (c.next()) {
+                itemEvents.add(List.copyOf(c.getRemoved()));
+            }
+        });
+    }
+
+    @Test
+    public void testSelectAllEvent() {
+        selection.update(0, items.size(), r -> r.add(0, items.size()));
+
+        assertEquals(List.of(new Event(0, 1_000_000, 0)), indexEvents);
+        assertEquals(1_000_000, selection.getSelectedIndices().size());
+        assertEquals(999_999, selection.getSelectedIndices().get(999_999));
+        assertEquals("item 500000", selection.getSelectedItems().get(500_000));
+        assertEquals("cell 7", selection.getSelectedCells().get(7));
+        assertTrue(selection.getSelectedIndices().contains(123_456));
+        assertEquals(123_456, selection.getSelectedIndices().indexOf(123_456));
+
+        // Clear and select single row
+        indexEvents.clear();
+        selection.update(0, items.size(), r -> {
+            r.clear();
+            r.add(10, 11);
+        });
+        assertEquals(List.of(new Event(0, 1, 1_000_000)), indexEvents);
+        assertEquals(List.of(10), List.copyOf(selection.getSelectedIndices()));
+    }
+
+    @Test
+    public void testPartialUpdate() {
+        selection.update(0, 100, r -> r.add(0, 100));
+        indexEvents.clear();
+
+        // Toggle a window in the middle
+        selection.update(40, 60, r -> r.remove(40, 60));
+        assertEquals(List.of(new Event(40, 40, 20)), indexEvents);
+        assertEquals(80, selection.getSelectedIndices().size());
+        assertEquals(60, selection.getSelectedIndices().get(40));
+
+        // No change, no event
+        indexEvents.clear();
+        selection.update(40, 60, r -> r.remove(40, 60));
+        assertTrue(indexEvents.isEmpty());
+    }
+
+    @Test
+    public void testItemsRemoved() {
+        selection.update(0, 20, r -> r.add(10, 20));
+        indexEvents.clear();
+        itemEvents.clear();
+
+        items.remove(15, 25);
+        assertEquals(List.of(10, 11, 12, 13, 14), List.copyOf(selection.getSelectedIndices()));
+        assertEquals(List.of(List.of("item 15", "item 16", "item 17", "item 18", "item 19")), itemEvents);
+        assertEquals(List.of(new Event(5, 5, 5)), indexEvents);
+
+        items.addFirst("new");
+        assertEquals(List.of(11, 12, 13, 14, 15), List.copyOf(selection.getSelectedIndices()));
+        assertEquals("item 10", selection.getSelectedItems().getFirst());
+        assertFalse(selection.ranges().contains(0));
+    }
+
+    @Test
+    public void testItemsPermuted() {
+        var small = FXCollections.observableArrayList("d", "c", "b", "a");
+        var sortSelection = new RangeSelection<String, String>(small::get, String::valueOf);
+        small.addListener((ListChangeListener<String>) c -> assertEquals(0, sortSelection.itemsChanged(c, 3)));
+        sortSelection.update(0, 4, r -> {
+            r.add(0, 1);
+            r.add(2, 3);
+        });
+
+        var removed = new ArrayList<String>();
+        sortSelection.getSelectedItems().addListener((ListChangeListener<String>) c -> {
+            while (c.next()) {
+                removed.addAll(c.getRemoved());
+            }
+        });
+
+        FXCollections.sort(small, Comparator.naturalOrder());
+        assertEquals(List.of(1, 3), List.copyOf(sortSelection.getSelectedIndices()));
+        assertEquals(List.of("b", "d"), List.copyOf(sortSelection.getSelectedItems()));
+        assertEquals(List.of("d", "b"), removed);
+    }
+
+    @Test
+    public void testUnmodifiable() {
+        assertThrows(UnsupportedOperationException.class, () -> selection.getSelectedIndices().add(1));
+        assertThrows(UnsupportedOperationException.class, () -> selection.getSelectedItems().setAll("a"));
+    }
+}
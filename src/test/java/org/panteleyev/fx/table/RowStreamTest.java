@@ -0,0 +1,118 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.table;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RowStreamTest {
+    private final List<Runnable> scheduled = new ArrayList<>();
+
+    @Test
+    public void testSingleChangePerDrain() {
+        var items = FXCollections.<Integer>observableArrayList();
+        var changes = new AtomicInteger();
+        items.addListener((ListChangeListener<Integer>) _ -> changes.incrementAndGet());
+
+        var stream = new RowStream<Integer>(items::addAll, Duration.ofMillis(10), 100, scheduled::add);
+        for (int i = 0; i < 50; i++) {
+            assertTrue(stream.offer(i));
+        }
+        assertEquals(1, scheduled.size());
+        assertEquals(50, stream.pendingCount());
+
+        assertEquals(50, stream.drain());
+        assertEquals(1, changes.get());
+        assertEquals(50, items.size());
+        assertEquals(0, stream.pendingCount());
+    }
+
+    @Test
+    public void testCapacity() {
+        var stream = new RowStream<Integer>(_ -> {}, Duration.ofMillis(10), 2, scheduled::add);
+        assertTrue(stream.offer(1));
+        assertTrue(stream.offer(2));
+        assertFalse(stream.offer(3));
+
+        stream.drain();
+        assertTrue(stream.offer(3));
+    }
+
+    @Test
+    public void testPublisherDemand() {
+        var requested = new AtomicLong();
+        var stream = new RowStream<Integer>(_ -> {}, Duration.ofMillis(10), 10, scheduled::add);
+        stream.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                requested.addAndGet(n);
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        assertEquals(10, requested.get());
+
+        for (int i = 0; i < 10; i++) {
+            stream.onNext(i);
+        }
+        stream.drain();
+        assertEquals(20, requested.get());
+    }
+
+    @Test
+    public void testCompletionAfterDrain() {
+        var items = FXCollections.<Integer>observableArrayList();
+        var completions = new AtomicInteger();
+        var stream = new RowStream<Integer>(items::addAll, Duration.ofNanos(1), 1_000, scheduled::add)
+                .completionHandler(completions::incrementAndGet);
+
+        // First drain measures cost of a row, next drains are limited by the budget
+        stream.offer(0);
+        stream.onPulse();
+        for (int i = 1; i <= 600; i++) {
+            stream.offer(i);
+        }
+
+        stream.onComplete();
+        assertEquals(0, completions.get());
+        stream.onPulse();
+        stream.onPulse();
+        assertTrue(stream.pendingCount() > 0);
+        assertEquals(0, completions.get());
+
+        stream.onPulse();
+        assertEquals(0, stream.pendingCount());
+        assertEquals(601, items.size());
+        assertEquals(1, completions.get());
+
+        stream.onPulse();
+        assertEquals(1, completions.get());
+    }
+
+    @Test
+    public void testCompletionWithoutRows() {
+        var completions = new AtomicInteger();
+        var stream = new RowStream<Integer>(_ -> {}, Duration.ofMillis(10), 10, scheduled::add)
+                .completionHandler(completions::incrementAndGet);
+        stream.onComplete();
+        assertEquals(1, scheduled.size());
+        assertEquals(0, completions.get());
+
+        stream.onPulse();
+        assertEquals(1, completions.get());
+    }
+}
@@ -0,0 +1,85 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.table;
+
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyCodeCombination;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.panteleyev.fx.FxAction.fxAction;
+
+public class SharedContextMenuTest {
+    @Test
+    public void testItemsCreatedOnce() {
+        var menu = new SharedContextMenu<String>()
+                .action(fxAction("Edit"), Objects::nonNull, _ -> {})
+                .action(fxAction("Refresh"));
+
+        var items = menu.prepare("a");
+        assertEquals(2, items.size());
+        assertEquals("Edit", items.getFirst().getText());
+        assertSame(items, menu.prepare("b"));
+        assertSame(items.getFirst(), menu.prepare(null).getFirst());
+
+        menu.action(fxAction("Delete"));
+        var rebuilt = menu.prepare("c");
+        assertEquals(3, rebuilt.size());
+        assertEquals("Delete", rebuilt.getLast().getText());
+    }
+
+    @Test
+    public void testShowTimeState() {
+        var action = fxAction("Edit");
+        var menu = new SharedContextMenu<String>()
+                .action(action, row -> row != null && row.startsWith("a"), _ -> {});
+
+        var item = menu.prepare("abc").getFirst();
+        assertFalse(item.isDisable());
+
+        menu.prepare("xyz");
+        assertTrue(item.isDisable());
+        menu.prepare(null);
+        assertTrue(item.isDisable());
+
+        // Action changes are applied on the next show only
+        action.text("Change").disable(true).visible(false)
+                .accelerator(new KeyCodeCombination(KeyCode.E));
+        assertEquals("Edit", item.getText());
+        menu.prepare("abc");
+        assertEquals("Change", item.getText());
+        assertTrue(item.isDisable());
+        assertFalse(item.isVisible());
+        assertEquals(new KeyCodeCombination(KeyCode.E), item.getAccelerator());
+    }
+
+    @Test
+    public void testContextRow() {
+        var rows = new ArrayList<String>();
+        var plain = new AtomicInteger();
+        var menu = new SharedContextMenu<String>()
+                .action(fxAction("Edit"), Objects::nonNull, rows::add)
+                .action(fxAction("Refresh").onAction(_ -> plain.incrementAndGet()));
+        assertNull(menu.getContextRow());
+
+        var items = menu.prepare("first");
+        assertEquals("first", menu.getContextRow());
+        items.getFirst().fire();
+        items.getLast().fire();
+
+        menu.prepare("second");
+        items.getFirst().fire();
+
+        assertEquals(List.of("first", "second"), rows);
+        assertEquals(1, plain.get());
+    }
+}
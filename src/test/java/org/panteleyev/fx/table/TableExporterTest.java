@@ -0,0 +1,211 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.table;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TableExporterTest {
+    private record Row(int id, String name, Double amount) {
+    }
+
+    @TempDir
+    private Path dir;
+
+    private static List<Row> rows(int count) {
+        var rows = new ArrayList<Row>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Row(i, "name " + i, i % 3 == 0 ? null : i * 1.5));
+        }
+        return rows;
+    }
+
+    private static TableExporter<Row> exporter(List<Row> rows) {
+        return new TableExporter<Row>(rows, Runnable::run)
+                .column("Id", Row::id)
+                .column("Name", Row::name)
+                .column("Amount", Row::amount);
+    }
+
+    @Test
+    public void testCsv() throws Exception {
+        var rows = List.of(
+                new Row(1, "plain", 1.0),
+                new Row(2, "comma, \"quoted\"", null),
+                new Row(3, "multi\nline", 2.5)
+        );
+        var path = dir.resolve("test.csv");
+        var exporter = exporter(rows);
+
+        assertEquals(3, exporter.export(path).get(10, TimeUnit.SECONDS));
+        assertEquals("""
+                Id,Name,Amount\r
+                1,plain,1.0\r
+                2,"comma, ""quoted\""",\r
+                3,"multi
+                line",2.5\r
+                """, Files.readString(path));
+        assertEquals(1.0, exporter.progressProperty().get());
+    }
+
+    @Test
+    public void testTsv() throws Exception {
+        var rows = List.of(new Row(1, "tab\there\\", 1.0));
+        var path = dir.resolve("test.tsv");
+
+        exporter(rows).format(TableExporter.Format.TSV).header(false).export(path).get(10, TimeUnit.SECONDS);
+        assertEquals("1\ttab\\there\\\\\t1.0\n", Files.readString(path));
+    }
+
+    @Test
+    public void testParallel() throws Exception {
+        var rows = rows(10 * TableExporter.CHUNK_SIZE + 17);
+        var sequential = dir.resolve("sequential.csv");
+        var parallel = dir.resolve("parallel.csv");
+
+        exporter(rows).export(sequential).get(30, TimeUnit.SECONDS);
+        assertEquals((long) rows.size(), exporter(rows).parallel(true).export(parallel).get(30, TimeUnit.SECONDS));
+
+        assertEquals(Files.readString(sequential), Files.readString(parallel));
+        assertEquals(rows.size() + 1, Files.readAllLines(parallel).size());
+    }
+
+    @Test
+    public void testConverterException() throws Exception {
+        var rows = rows(3 * TableExporter.CHUNK_SIZE);
+        for (var parallel : List.of(false, true)) {
+            var path = dir.resolve("failed-" + parallel + ".csv");
+            var exporter = new TableExporter<Row>(rows, Runnable::run)
+                    .column("Id", row -> {
+                        if (row.id() == TableExporter.CHUNK_SIZE + 1) {
+                            throw new IllegalArgumentException("Bad row");
+                        }
+                        return row.id();
+                    })
+                    .parallel(parallel);
+
+            // Exception as seen by whenComplete() handlers, get() would unwrap CompletionException
+            var ex = exporter.export(path).handle((_, e) -> e).get(30, TimeUnit.SECONDS);
+            assertInstanceOf(IllegalArgumentException.class, ex);
+            assertFalse(Files.exists(path));
+        }
+    }
+
+    @Test
+    public void testConcurrentExport() throws Exception {
+        var rows = rows(2 * TableExporter.CHUNK_SIZE);
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        var exporter = new TableExporter<Row>(rows, Runnable::run)
+                .column("Id", row -> {
+                    if (row.id() == TableExporter.CHUNK_SIZE) {
+                        started.countDown();
+                        try {
+                            release.await();
+                        } catch (InterruptedException ex) {
+                            throw new RuntimeException(ex);
+                        }
+                    }
+                    return row.id();
+                });
+
+        var first = exporter.export(dir.resolve("first.csv"));
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        assertThrows(IllegalStateException.class, () -> exporter.export(dir.resolve("second.csv")));
+        release.countDown();
+        assertEquals((long) rows.size(), first.get(30, TimeUnit.SECONDS));
+
+        // Exporter can be reused after completion
+        assertEquals((long) rows.size(), exporter.export(dir.resolve("third.csv")).get(30, TimeUnit.SECONDS));
+        assertEquals(1.0, exporter.progressProperty().get());
+    }
+
+    @Test
+    public void testCancel() throws Exception {
+        var rows = rows(3 * TableExporter.CHUNK_SIZE);
+        var path = dir.resolve("cancelled.csv");
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        var exporter = new TableExporter<Row>(rows, Runnable::run)
+                .column("Id", row -> {
+                    if (row.id() == TableExporter.CHUNK_SIZE) {
+                        started.countDown();
+                        try {
+                            release.await();
+                        } catch (InterruptedException ex) {
+                            throw new RuntimeException(ex);
+                        }
+                    }
+                    return row.id();
+                });
+
+        var future = new AtomicReference<>(exporter.export(path));
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        future.get().cancel(true);
+        release.countDown();
+
+        assertThrows(CancellationException.class, () -> future.get().get());
+        for (int i = 0; i < 100 && Files.exists(path); i++) {
+            Thread.sleep(50);
+        }
+        assertFalse(Files.exists(path));
+        assertTrue(exporter.progressProperty().get() < 1);
+    }
+
+    @Test
+    public void testProgressOnFxExecutor() throws Exception {
+        var fxThread = new AtomicReference<Thread>();
+        var fxExecutor = Executors.newSingleThreadExecutor(task -> {
+            var thread = new Thread(task, "fx");
+            fxThread.set(thread);
+            return thread;
+        });
+        try {
+            var rows = rows(5 * TableExporter.CHUNK_SIZE + 1);
+            var exporter = new TableExporter<Row>(rows, fxExecutor).column("Id", Row::id).parallel(true);
+            var threads = new CopyOnWriteArrayList<Thread>();
+            exporter.progressProperty().addListener(_ -> threads.add(Thread.currentThread()));
+
+            // Holds the executor until the completion thread is captured
+            var gate = new CountDownLatch(1);
+            fxExecutor.execute(() -> {
+                try {
+                    gate.await();
+                } catch (InterruptedException ex) {
+                    throw new RuntimeException(ex);
+                }
+            });
+            var completion = exporter.export(dir.resolve("progress.csv")).thenApply(_ -> Thread.currentThread());
+            gate.countDown();
+            var completedOn = completion.get(30, TimeUnit.SECONDS);
+            assertEquals(fxThread.get(), completedOn);
+            assertEquals(1.0, exporter.progressProperty().get());
+            assertFalse(threads.isEmpty());
+            for (var thread : threads) {
+                assertSame(fxThread.get(), thread);
+            }
+        } finally {
+            fxExecutor.shutdown();
+        }
+    }
+}
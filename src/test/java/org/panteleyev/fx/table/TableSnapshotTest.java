@@ -0,0 +1,175 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.table;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.panteleyev.fx.table.TableSnapshot.ColumnType;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.panteleyev.fx.table.TableSnapshotWriter.tableSnapshotWriter;
+
+public class TableSnapshotTest {
+    private record Row(int id, String name, Double amount, Boolean flag, LocalDate date, BigDecimal decimal) {
+    }
+
+    @TempDir
+    private Path dir;
+
+    private static List<Row> rows(int count) {
+        var rows = new ArrayList<Row>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Row(i,
+                    i % 5 == 0 ? null : "name " + (i % 7) + " ünïcödé",
+                    i % 3 == 0 ? null : i * 1.5,
+                    i % 4 == 0 ? null : i % 2 == 0,
+                    i % 6 == 0 ? null : LocalDate.of(2026, 1, 1).plusDays(i),
+                    new BigDecimal(i).movePointLeft(2)));
+        }
+        return rows;
+    }
+
+    private static TableSnapshotWriter<Row> writer(List<Row> rows) {
+        return tableSnapshotWriter(rows)
+                .column("Id", Row::id)
+                .column("Name", Row::name)
+                .column("Amount", Row::amount)
+                .column("Flag", Row::flag)
+                .column("Date", Row::date)
+                .column("Decimal", Row::decimal);
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        var rows = rows(1_000);
+        var path = dir.resolve("test.snapshot");
+
+        var size = writer(rows).write(path);
+        assertEquals(Files.size(path), size);
+
+        var snapshot = TableSnapshot.open(path);
+        assertEquals(rows.size(), snapshot.rowCount());
+        assertEquals(6, snapshot.columnCount());
+        assertEquals(
+                List.of("Id", "Name", "Amount", "Flag", "Date", "Decimal"),
+                List.of(snapshot.getColumnName(0), snapshot.getColumnName(1), snapshot.getColumnName(2),
+                        snapshot.getColumnName(3), snapshot.getColumnName(4), snapshot.getColumnName(5)));
+        assertEquals(
+                List.of(ColumnType.LONG, ColumnType.STRING, ColumnType.DOUBLE, ColumnType.BOOLEAN, ColumnType.DATE,
+                        ColumnType.STRING),
+                List.of(snapshot.getColumnType(0), snapshot.getColumnType(1), snapshot.getColumnType(2),
+                        snapshot.getColumnType(3), snapshot.getColumnType(4), snapshot.getColumnType(5)));
+
+        for (int r = 0; r < rows.size(); r++) {
+            var row = rows.get(r);
+            assertEquals((long) row.id(), snapshot.get(0, r));
+            assertEquals(row.name(), snapshot.get(1, r));
+            assertEquals(row.amount(), snapshot.get(2, r));
+            assertEquals(row.flag(), snapshot.get(3, r));
+            assertEquals(row.date(), snapshot.get(4, r));
+            assertEquals(row.decimal().toString(), snapshot.getString(5, r));
+        }
+    }
+
+    @Test
+    public void testRows() throws Exception {
+        var rows = rows(100);
+        var path = dir.resolve("rows.snapshot");
+        writer(rows).write(path);
+
+        var snapshotRows = TableSnapshot.open(path).rows();
+        assertEquals(rows.size(), snapshotRows.size());
+
+        var row = snapshotRows.get(7);
+        assertEquals(7, row.index());
+        assertEquals(7L, row.getLong(0));
+        assertEquals(rows.get(7).name(), row.getString(1));
+        assertEquals(10.5, row.getDouble(2));
+        assertNull(snapshotRows.get(6).getDouble(2));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> snapshotRows.get(100));
+        assertThrows(UnsupportedOperationException.class, () -> snapshotRows.remove(0));
+
+        // Row views are created on access
+        assertEquals(row, snapshotRows.get(7));
+        assertEquals(row.hashCode(), snapshotRows.get(7).hashCode());
+        assertEquals(7, snapshotRows.indexOf(row));
+        assertNotEquals(row, snapshotRows.get(8));
+        assertNotEquals(row, TableSnapshot.open(path).rows().get(7));
+    }
+
+    @Test
+    public void testExplicitTypes() throws Exception {
+        var rows = rows(10);
+        var path = dir.resolve("explicit.snapshot");
+        tableSnapshotWriter(rows)
+                .column("Id", ColumnType.DOUBLE, Row::id)
+                .column("Decimal", ColumnType.DOUBLE, Row::decimal)
+                .write(path);
+
+        var snapshot = TableSnapshot.open(path);
+        assertEquals(ColumnType.DOUBLE, snapshot.getColumnType(0));
+        assertEquals(3.0, snapshot.getDouble(0, 3));
+        assertEquals(0.03, snapshot.getDouble(1, 3));
+        assertThrows(IllegalStateException.class, () -> snapshot.getLong(0, 3));
+    }
+
+    @Test
+    public void testMixedTypes() {
+        assertEquals(ColumnType.LONG, TableSnapshotWriter.inferType(new Object[]{null, 1, 2L, (short) 3}));
+        assertEquals(ColumnType.STRING, TableSnapshotWriter.inferType(new Object[]{1, 2.0}));
+        assertEquals(ColumnType.STRING, TableSnapshotWriter.inferType(new Object[]{null, null}));
+    }
+
+    @Test
+    public void testEmpty() throws Exception {
+        var path = dir.resolve("empty.snapshot");
+        writer(List.of()).write(path);
+
+        var snapshot = TableSnapshot.open(path);
+        assertEquals(0, snapshot.rowCount());
+        assertEquals(6, snapshot.columnCount());
+        assertTrue(snapshot.rows().isEmpty());
+    }
+
+    @Test
+    public void testNulls() throws Exception {
+        var path = dir.resolve("nulls.snapshot");
+        tableSnapshotWriter(List.of(new Row(1, null, null, null, null, BigDecimal.ONE)))
+                .column("Id", Row::id)
+                .column("Name", Row::name)
+                .column("Amount", ColumnType.DOUBLE, Row::amount)
+                .column("Flag", ColumnType.BOOLEAN, Row::flag)
+                .column("Date", ColumnType.DATE, Row::date)
+                .write(path);
+
+        var snapshot = TableSnapshot.open(path);
+        for (int c = 1; c < 5; c++) {
+            assertTrue(snapshot.isNull(c, 0));
+            assertNull(snapshot.get(c, 0));
+        }
+        assertFalse(snapshot.isNull(0, 0));
+        assertEquals(ColumnType.STRING, snapshot.getColumnType(1));
+        assertEquals(0.0, snapshot.getDouble(2, 0));
+        assertFalse(snapshot.getBoolean(3, 0));
+    }
+
+    @Test
+    public void testNotSnapshot() throws Exception {
+        var path = dir.resolve("test.csv");
+        Files.writeString(path, "Id,Name\r\n1,name\r\n");
+        assertThrows(IllegalArgumentException.class, () -> TableSnapshot.open(path));
+    }
+}
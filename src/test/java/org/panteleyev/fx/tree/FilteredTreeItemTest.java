@@ -0,0 +1,120 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.tree;
+
+import javafx.collections.ListChangeListener;
+import javafx.scene.control.TreeItem;
+import org.junit.jupiter.api.Test;
+import org.panteleyev.fx.PredicateProperty;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.panteleyev.fx.tree.FilteredTreeItem.filteredTreeItem;
+
+public class FilteredTreeItemTest {
+    private static String dump(TreeItem<String> item) {
+        var builder = new StringBuilder(item.getValue() == null ? "root" : item.getValue());
+        if (!item.getChildren().isEmpty()) {
+            builder.append("(");
+            for (int i = 0; i < item.getChildren().size(); i++) {
+                if (i > 0) builder.append(",");
+                builder.append(dump(item.getChildren().get(i)));
+            }
+            builder.append(")");
+        }
+        return builder.toString();
+    }
+
+    @SafeVarargs
+    private static TreeItem<String> item(String value, TreeItem<String>... children) {
+        var item = new TreeItem<>(value);
+        item.getChildren().setAll(children);
+        return item;
+    }
+
+    private static TreeItem<String> source() {
+        return item(null,
+                item("fruits",
+                        item("apple"),
+                        item("banana"),
+                        item("citrus", item("lemon"), item("orange"))
+                ),
+                item("vegetables",
+                        item("carrot"),
+                        item("onion")
+                )
+        );
+    }
+
+    @Test
+    public void testFilter() {
+        var source = source();
+        var predicate = new PredicateProperty<String>();
+        var root = filteredTreeItem(source, predicate);
+        assertEquals(dump(source), dump(root));
+
+        predicate.set(s -> s.contains("on"));
+        assertEquals("root(fruits(citrus(lemon)),vegetables(onion))", dump(root));
+
+        predicate.set(s -> s.startsWith("c"));
+        assertEquals("root(fruits(citrus),vegetables(carrot))", dump(root));
+
+        predicate.set(_ -> false);
+        assertEquals("root", dump(root));
+
+        predicate.reset();
+        assertEquals(dump(source), dump(root));
+    }
+
+    @Test
+    public void testUnaffectedBranches() {
+        var source = source();
+        var predicate = new PredicateProperty<String>(s -> s.contains("a"));
+        var root = filteredTreeItem(source, predicate);
+        assertEquals("root(fruits(apple,banana,citrus(orange)),vegetables(carrot))", dump(root));
+
+        var vegetables = root.getChildren().get(1);
+        var changes = new AtomicInteger();
+        vegetables.getChildren().addListener((ListChangeListener<TreeItem<String>>) _ -> changes.incrementAndGet());
+        root.getChildren().addListener((ListChangeListener<TreeItem<String>>) _ -> changes.incrementAndGet());
+
+        predicate.set(s -> s.contains("a") && !s.equals("banana"));
+        assertEquals("root(fruits(apple,citrus(orange)),vegetables(carrot))", dump(root));
+        assertEquals(0, changes.get());
+    }
+
+    @Test
+    public void testSourceChanges() {
+        var source = source();
+        var predicate = new PredicateProperty<String>(s -> s.contains("ime"));
+        var root = filteredTreeItem(source, predicate);
+        assertEquals("root", dump(root));
+
+        var citrus = source.getChildren().getFirst().getChildren().get(2);
+        citrus.getChildren().add(new TreeItem<>("lime"));
+        assertEquals("root(fruits(citrus(lime)))", dump(root));
+
+        citrus.getChildren().getFirst().setValue("sublime");
+        assertEquals("root(fruits(citrus(sublime,lime)))", dump(root));
+
+        source.getChildren().removeFirst();
+        assertEquals("root", dump(root));
+
+        source.getChildren().getFirst().setValue("time");
+        assertEquals("root(time)", dump(root));
+    }
+
+    @Test
+    public void testExpandedState() {
+        var source = source();
+        var root = filteredTreeItem(source, new PredicateProperty<>());
+
+        root.getChildren().getFirst().setExpanded(true);
+        assertTrue(source.getChildren().getFirst().isExpanded());
+
+        source.getChildren().getLast().setExpanded(true);
+        assertTrue(root.getChildren().getLast().isExpanded());
+    }
+}
@@ -0,0 +1,192 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.tree;
+
+import javafx.scene.control.TreeItem;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LazyTreeItemTest {
+    // Runs tasks when asked, loading stays pending until then
+    private static final class QueueExecutor implements Executor {
+        private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        void runAll() {
+            while (!tasks.isEmpty()) {
+                tasks.poll().run();
+            }
+        }
+    }
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private Collection<String> children(String value) {
+        loads.incrementAndGet();
+        return value.length() < 3 ? List.of(value + "a", value + "b") : List.of();
+    }
+
+    private static LazyTreeItem<String> item(String value, Function<String, Collection<String>> loader,
+            Executor executor)
+    {
+        return LazyTreeItem.lazyTreeItem(value, loader, executor, Runnable::run, _ -> null);
+    }
+
+    private static List<String> values(TreeItem<String> item) {
+        return item.getChildren().stream().map(TreeItem::getValue).toList();
+    }
+
+    @Test
+    public void testLoadOnFirstExpand() {
+        var root = item("r", this::children, Runnable::run);
+        assertFalse(root.isLoaded());
+        assertTrue(root.getChildren().isEmpty());
+        assertEquals(0, loads.get());
+
+        root.setExpanded(true);
+        assertTrue(root.isLoaded());
+        assertEquals(List.of("ra", "rb"), values(root));
+        assertInstanceOf(LazyTreeItem.class, root.getChildren().getFirst());
+
+        root.setExpanded(false);
+        root.setExpanded(true);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testPlaceholderWhilePending() {
+        var executor = new QueueExecutor();
+        var root = item("r", this::children, executor);
+
+        root.setExpanded(true);
+        assertFalse(root.isLoaded());
+        assertEquals(1, root.getChildren().size());
+        var placeholder = root.getChildren().getFirst();
+        assertInstanceOf(LazyTreeItem.Placeholder.class, placeholder);
+        assertNull(placeholder.getValue());
+        assertTrue(placeholder.isLeaf());
+
+        executor.runAll();
+        assertTrue(root.isLoaded());
+        assertEquals(List.of("ra", "rb"), values(root));
+    }
+
+    @Test
+    public void testCancelOnCollapse() {
+        var executor = new QueueExecutor();
+        var root = item("r", this::children, executor);
+
+        root.setExpanded(true);
+        root.setExpanded(false);
+        executor.runAll();
+        assertEquals(0, loads.get());
+        assertFalse(root.isLoaded());
+
+        root.setExpanded(true);
+        executor.runAll();
+        assertEquals(1, loads.get());
+        assertEquals(List.of("ra", "rb"), values(root));
+    }
+
+    @Test
+    public void testResetAfterError() {
+        var errors = new ArrayList<Throwable>();
+        var fail = new AtomicInteger(1);
+        var root = item("r", value -> {
+            if (fail.getAndDecrement() > 0) {
+                throw new IllegalStateException("Failed");
+            }
+            return children(value);
+        }, Runnable::run).errorHandler(errors::add);
+
+        root.setExpanded(true);
+        assertEquals(1, errors.size());
+        assertInstanceOf(IllegalStateException.class, errors.getFirst());
+        assertFalse(root.isExpanded());
+        assertFalse(root.isLoaded());
+        assertTrue(root.getChildren().isEmpty());
+
+        root.setExpanded(true);
+        assertTrue(root.isLoaded());
+        assertEquals(List.of("ra", "rb"), values(root));
+        assertEquals(1, errors.size());
+    }
+
+    @Test
+    public void testEvictionAndReload() {
+        var root = item("r", this::children, Runnable::run).evictAfter(Duration.ZERO);
+        root.setExpanded(true);
+        var child = (LazyTreeItem<String>) root.getChildren().getFirst();
+        child.setExpanded(true);
+        assertEquals(2, loads.get());
+
+        // Collapsed subtree is released with its loaded descendants
+        root.setExpanded(false);
+        assertFalse(root.isLoaded());
+        assertTrue(root.getChildren().isEmpty());
+
+        root.setExpanded(true);
+        assertEquals(3, loads.get());
+        assertEquals(List.of("ra", "rb"), values(root));
+        var reloaded = root.getChildren().getFirst();
+        assertNotSame(child, reloaded);
+        assertFalse(((LazyTreeItem<String>) reloaded).isLoaded());
+    }
+
+    @Test
+    public void testNoEvictionByDefault() {
+        var root = item("r", this::children, Runnable::run);
+        root.setExpanded(true);
+        var first = root.getChildren().getFirst();
+        root.setExpanded(false);
+        root.evictCollapsed();
+        assertTrue(root.isLoaded());
+        assertSame(first, root.getChildren().getFirst());
+    }
+
+    @Test
+    public void testIsLeaf() {
+        var root = item("r", this::children, Runnable::run);
+        assertFalse(root.isLeaf());
+
+        root.setExpanded(true);
+        assertFalse(root.isLeaf());
+
+        // "raa" has no children, becomes leaf after load
+        var child = (LazyTreeItem<String>) root.getChildren().getFirst();
+        child.setExpanded(true);
+        var grandChild = (LazyTreeItem<String>) child.getChildren().getFirst();
+        assertFalse(grandChild.isLeaf());
+        grandChild.setExpanded(true);
+        assertTrue(grandChild.isLoaded());
+        assertTrue(grandChild.isLeaf());
+
+        // Leaf predicate avoids loading
+        var predicated = item("abc", this::children, Runnable::run).leafPredicate(value -> value.length() >= 3);
+        assertTrue(predicated.isLeaf());
+        var before = loads.get();
+        predicated.setExpanded(true);
+        assertEquals(before, loads.get());
+        assertFalse(predicated.isLoaded());
+    }
+}
@@ -0,0 +1,154 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.tree;
+
+import javafx.collections.ListChangeListener;
+import javafx.scene.control.TreeItem;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.panteleyev.fx.tree.TreeBuilder.treeBuilder;
+
+public class TreeBuilderTest {
+    private record Node(int id, Integer parentId, String name) {
+    }
+
+    private static String dump(TreeItem<Node> item) {
+        var builder = new StringBuilder();
+        builder.append(item.getValue() == null ? "root" : item.getValue().name());
+        if (!item.getChildren().isEmpty()) {
+            builder.append("(");
+            for (int i = 0; i < item.getChildren().size(); i++) {
+                if (i > 0) builder.append(",");
+                builder.append(dump(item.getChildren().get(i)));
+            }
+            builder.append(")");
+        }
+        return builder.toString();
+    }
+
+    private static List<Node> nodes() {
+        return List.of(
+                new Node(4, 2, "d"),
+                new Node(1, null, "a"),
+                new Node(3, 1, "c"),
+                new Node(2, 1, "b"),
+                new Node(5, 99, "e")
+        );
+    }
+
+    @Test
+    public void testBuild() {
+        var builder = treeBuilder(Node::id, Node::parentId);
+        var root = builder.build(nodes());
+
+        assertEquals("root(a(c,b(d)),e)", dump(root));
+        assertSame(root.getChildren().getFirst(), builder.treeItem(1));
+        assertEquals("d", builder.treeItem(4).getValue().name());
+        assertNull(builder.treeItem(99));
+    }
+
+    @Test
+    public void testBuildSorted() {
+        var random = new Random(42);
+        var rows = new ArrayList<Node>();
+        for (int id = 0; id < 20_000; id++) {
+            rows.add(new Node(id, id < 10 ? null : random.nextInt(id), "n" + random.nextInt(1000)));
+        }
+        Collections.shuffle(rows, random);
+
+        var comparator = Comparator.comparing(Node::name).thenComparingInt(Node::id);
+        var root = treeBuilder(Node::id, Node::parentId)
+                .comparator(comparator)
+                .parallelSort(true)
+                .build(rows);
+
+        var count = new AtomicInteger();
+        var stack = new ArrayList<TreeItem<Node>>(List.of(root));
+        while (!stack.isEmpty()) {
+            var item = stack.removeLast();
+            var children = item.getChildren();
+            for (int i = 0; i < children.size(); i++) {
+                count.incrementAndGet();
+                assertSame(item, children.get(i).getParent());
+                if (item != root) {
+                    assertEquals(item.getValue().id(), children.get(i).getValue().parentId());
+                }
+                if (i > 0) {
+                    assertEquals(-1, Integer.signum(comparator.compare(children.get(i - 1).getValue(),
+                            children.get(i).getValue())));
+                }
+            }
+            stack.addAll(children);
+        }
+        assertEquals(rows.size(), count.get());
+    }
+
+    @Test
+    public void testInvalidRows() {
+        var builder = treeBuilder(Node::id, Node::parentId);
+        assertThrows(IllegalArgumentException.class,
+                () -> builder.build(List.of(new Node(1, null, "a"), new Node(1, null, "b"))));
+        assertThrows(IllegalArgumentException.class,
+                () -> builder.build(List.of(new Node(1, 2, "a"), new Node(2, 1, "b"))));
+        assertThrows(IllegalStateException.class, () -> builder.update(nodes()));
+    }
+
+    @Test
+    public void testUpdate() {
+        var builder = treeBuilder(Node::id, Node::parentId).comparator(Comparator.comparing(Node::name));
+        var root = builder.build(nodes());
+        assertEquals("root(a(b(d),c),e)", dump(root));
+        var itemA = builder.treeItem(1);
+
+        var rootChanges = new AtomicInteger();
+        root.getChildren().addListener((ListChangeListener<TreeItem<Node>>) _ -> rootChanges.incrementAndGet());
+
+        builder.update(List.of(
+                new Node(1, null, "a"),
+                new Node(2, 1, "b"),
+                new Node(3, 2, "c"),
+                new Node(4, 2, "d"),
+                new Node(6, 1, "f"),
+                new Node(7, 6, "g")
+        ));
+
+        assertEquals("root(a(b(c,d),f(g)))", dump(root));
+        assertSame(itemA, builder.treeItem(1));
+        assertNull(builder.treeItem(5));
+        assertEquals(1, rootChanges.get());
+
+        // Value change and move to the root, removed parent releases its subtree
+        builder.update(List.of(
+                new Node(1, null, "a"),
+                new Node(3, 2, "c"),
+                new Node(6, null, "x"),
+                new Node(7, 6, "g")
+        ));
+        assertEquals("root(a,c,x(g))", dump(root));
+        assertEquals("x", builder.treeItem(6).getValue().name());
+        assertNull(builder.treeItem(4));
+    }
+
+    @Test
+    public void testUpdateCycle() {
+        var builder = treeBuilder(Node::id, Node::parentId);
+        var root = builder.build(nodes());
+        assertThrows(IllegalArgumentException.class, () -> builder.update(List.of(
+                new Node(1, 4, "a"),
+                new Node(2, 1, "b"),
+                new Node(4, 2, "d")
+        )));
+        assertEquals("root(a(c,b(d)),e)", dump(root));
+    }
+}
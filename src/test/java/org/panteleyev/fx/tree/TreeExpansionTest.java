@@ -0,0 +1,74 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.tree;
+
+import javafx.scene.control.TreeItem;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.panteleyev.fx.tree.TreeExpansion.setExpanded;
+
+public class TreeExpansionTest {
+    private static TreeItem<Integer> tree(int width, int depth) {
+        var root = new TreeItem<>(0);
+        var level = List.of(root);
+        for (int d = 0; d < depth; d++) {
+            var next = new ArrayList<TreeItem<Integer>>();
+            for (var parent : level) {
+                for (int i = 0; i < width; i++) {
+                    var child = new TreeItem<>(d + 1);
+                    parent.getChildren().add(child);
+                    next.add(child);
+                }
+            }
+            level = next;
+        }
+        return root;
+    }
+
+    private static void forEach(TreeItem<Integer> item, Consumer<TreeItem<Integer>> action) {
+        action.accept(item);
+        item.getChildren().forEach(child -> forEach(child, action));
+    }
+
+    @Test
+    public void testExpandAll() {
+        var root = tree(10, 4);
+        var children = List.copyOf(root.getChildren());
+
+        var expandEvents = new AtomicInteger();
+        var childrenEvents = new AtomicInteger();
+        root.addEventHandler(TreeItem.branchExpandedEvent(), _ -> expandEvents.incrementAndGet());
+        root.addEventHandler(TreeItem.childrenModificationEvent(), _ -> childrenEvents.incrementAndGet());
+
+        setExpanded(root, true, Integer.MAX_VALUE);
+
+        forEach(root, item -> assertEquals(!item.isLeaf(), item.isExpanded()));
+        assertEquals(children, root.getChildren());
+        children.forEach(child -> assertSame(root, child.getParent()));
+        assertEquals(1, expandEvents.get());
+        assertEquals(2, childrenEvents.get());
+    }
+
+    @Test
+    public void testDepthLimit() {
+        var root = tree(3, 4);
+        setExpanded(root, true, 2);
+        forEach(root, item -> assertEquals(!item.isLeaf() && item.getValue() <= 2, item.isExpanded()));
+
+        setExpanded(root, false, 0);
+        assertFalse(root.isExpanded());
+        assertTrue(root.getChildren().getFirst().isExpanded());
+
+        assertThrows(IllegalArgumentException.class, () -> setExpanded(root, true, -1));
+    }
+}
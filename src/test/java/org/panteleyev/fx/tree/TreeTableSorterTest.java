@@ -0,0 +1,114 @@
+// Copyright © 2026 Petr Panteleyev
+// SPDX-License-Identifier: BSD-2-Clause
+package org.panteleyev.fx.tree;
+
+import javafx.collections.ListChangeListener;
+import javafx.scene.control.TreeItem;
+import javafx.scene.control.TreeSortMode;
+import javafx.scene.control.TreeTableColumn;
+import org.junit.jupiter.api.Test;
+import org.panteleyev.fx.factories.TreeTableFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TreeTableSorterTest {
+    private record Node(String name, int size) {
+    }
+
+    private static List<Integer> sizes(TreeItem<Node> item) {
+        return item.getChildren().stream().map(child -> child.getValue().size()).toList();
+    }
+
+    private static TreeItem<Node> tree(Random random, int width, int depth) {
+        var root = new TreeItem<>(new Node("root", 0));
+        var level = List.of(root);
+        for (int d = 0; d < depth; d++) {
+            var next = new ArrayList<TreeItem<Node>>();
+            for (var parent : level) {
+                parent.setExpanded(true);
+                for (int i = 0; i < width; i++) {
+                    var child = new TreeItem<>(new Node("n", random.nextInt(1000)));
+                    parent.getChildren().add(child);
+                    next.add(child);
+                }
+            }
+            level = next;
+        }
+        return root;
+    }
+
+    private static void assertSorted(TreeItem<Node> item, Comparator<Integer> comparator) {
+        var sizes = sizes(item);
+        var expected = new ArrayList<>(sizes);
+        expected.sort(comparator);
+        assertEquals(expected, sizes);
+    }
+
+    @Test
+    public void testSortLargeTree() {
+        var random = new Random(42);
+        var root = tree(random, 40, 3);
+
+        var collapsed = root.getChildren().getFirst();
+        collapsed.setExpanded(false);
+        var unsorted = sizes(collapsed);
+
+        var column = TreeTableFactory.<Node, Integer>treeTableValueColumn();
+        column.valueConverter(Node::size);
+        column.comparator(Comparator.naturalOrder());
+        column.setSortType(TreeTableColumn.SortType.DESCENDING);
+
+        var sorter = new TreeTableSorter<Node>(new ForkJoinPool(4));
+        sorter.sort(root, List.of(column), TreeSortMode.ALL_DESCENDANTS);
+
+        assertSorted(root, Comparator.reverseOrder());
+        for (var child : root.getChildren()) {
+            if (child != collapsed) {
+                assertSorted(child, Comparator.reverseOrder());
+                child.getChildren().forEach(grandChild -> assertSorted(grandChild, Comparator.reverseOrder()));
+            }
+        }
+        assertEquals(unsorted, sizes(collapsed));
+
+        collapsed.setExpanded(true);
+        assertSorted(collapsed, Comparator.reverseOrder());
+        collapsed.getChildren().forEach(child -> assertSorted(child, Comparator.reverseOrder()));
+    }
+
+    @Test
+    public void testSingleChange() {
+        var root = tree(new Random(1), 10, 1);
+        var before = List.copyOf(root.getChildren());
+
+        var column = TreeTableFactory.<Node, Integer>treeTableValueColumn();
+        column.valueConverter(Node::size);
+        column.comparator(Comparator.naturalOrder());
+
+        var changes = new AtomicInteger();
+        root.getChildren().addListener((ListChangeListener<TreeItem<Node>>) c -> {
+            changes.incrementAndGet();
+            while (c.next()) {
+                assertTrue(c.wasReplaced());
+            }
+        });
+
+        var sorter = new TreeTableSorter<Node>(ForkJoinPool.commonPool());
+        sorter.sort(root, List.of(column), TreeSortMode.ONLY_FIRST_LEVEL);
+        assertSorted(root, Comparator.naturalOrder());
+        assertEquals(1, changes.get());
+        assertEquals(Set.copyOf(before), Set.copyOf(root.getChildren()));
+
+        // Sorted children are not changed again
+        sorter.sort(root, List.of(column), TreeSortMode.ONLY_FIRST_LEVEL);
+        assertEquals(1, changes.get());
+    }
+}